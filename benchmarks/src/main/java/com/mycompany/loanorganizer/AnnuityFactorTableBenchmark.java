@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks comparing exact payment quotes with AnnuityFactorTable lookups
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnnuityFactorTableBenchmark {
+    
+    @Param({"12", "60", "180", "360", "600"})
+    private int termInMonths;
+    
+    private AnnuityFactorTable table;
+    private double principal = 250000;
+    private double annualInterestRate = 0.0625;
+    
+    @Setup
+    public void setUp() {
+        table = new AnnuityFactorTable(0, 2500, 1, 600);
+    }
+    
+    @Benchmark
+    public double exactMonthlyPayment() {
+        return LoanCalculator.calculatePaymentFactor(annualInterestRate, termInMonths) * principal;
+    }
+    
+    @Benchmark
+    public double tableMonthlyPayment() {
+        return table.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the loan organizer benchmarks with the GC profiler attached so that
+ * allocation rates are reported next to throughput
+ * 
+ * @author Loan Organizer Team
+ */
+public class BenchmarkRunner {
+    
+    /**
+     * Main method to run the benchmarks
+     * 
+     * @param args Optional benchmark include pattern (defaults to all benchmarks)
+     * @throws RunnerException If the benchmark run fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.mycompany.loanorganizer.*Benchmark";
+        
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks comparing the fixed-point cents engine with the double schedule
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CentsLoanCalculatorBenchmark {
+    
+    @Param({"12", "60", "180", "360", "600"})
+    private int termInMonths;
+    
+    private double principal = 250000;
+    private long principalCents = 25000000;
+    private double annualInterestRate = 0.045;
+    private LocalDate startDate = LocalDate.of(2025, 1, 1);
+    
+    @Benchmark
+    public AmortizationTable doubleAmortizationTable() {
+        return LoanCalculator.generateAmortizationTable(principal, annualInterestRate, termInMonths, startDate);
+    }
+    
+    @Benchmark
+    public CentsAmortizationTable centsAmortizationTable() {
+        return CentsLoanCalculator.generateAmortizationTable(
+                principalCents, annualInterestRate, termInMonths, startDate);
+    }
+    
+    @Benchmark
+    public long centsTotalInterest() {
+        return CentsLoanCalculator.calculateTotalInterestCents(principalCents, annualInterestRate, termInMonths);
+    }
+}
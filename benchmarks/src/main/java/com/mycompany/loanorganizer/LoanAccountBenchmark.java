@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the LoanAccount schedule, balance and savings methods
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanAccountBenchmark {
+    
+    @Param({"12", "60", "180", "360", "600"})
+    private int termInMonths;
+    
+    private LoanAccount loan;
+    private LocalDate nearMaturity;
+    private double extraPayment;
+    private double[] sliderStops;
+    
+    @Setup
+    public void setUp() {
+        loan = new LoanAccount("Benchmark Loan", "Personal", 250000, 0.045,
+                termInMonths, LocalDate.of(2025, 1, 1));
+        // Query one month before maturity so the balance walk covers almost the whole term
+        nearMaturity = loan.getMaturityDate().minusMonths(1);
+        extraPayment = loan.calculateMonthlyPayment(termInMonths) * 0.10;
+        // A 32-stop extra payment slider from $25 to $800
+        sliderStops = new double[32];
+        for (int i = 0; i < sliderStops.length; i++) {
+            sliderStops[i] = 25.0 * (i + 1);
+        }
+    }
+    
+    @Benchmark
+    public List<PaymentDetails> generateAmortizationSchedule() {
+        return loan.generateAmortizationSchedule();
+    }
+    
+    @Benchmark
+    public AmortizationTable generateAmortizationTable() {
+        return loan.generateAmortizationTable();
+    }
+    
+    @Benchmark
+    public double calculateRemainingBalance() {
+        return loan.calculateRemainingBalance(nearMaturity);
+    }
+    
+    @Benchmark
+    public double calculateSavingsWithExtraPayments() {
+        return loan.calculateSavingsWithExtraPayments(extraPayment);
+    }
+    
+    @Benchmark
+    public List<ExtraPaymentSavings> calculateExtraPaymentSavings() {
+        return loan.calculateExtraPaymentSavings(sliderStops);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks comparing the scalar LoanCalculator methods with the batch
+ * array methods over the same portfolio
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanCalculatorBatchBenchmark {
+    private static final int LOANS = 100_000;
+    
+    private double[] principals;
+    private double[] rates;
+    private int[] terms;
+    private double[] out;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        principals = new double[LOANS];
+        rates = new double[LOANS];
+        terms = new int[LOANS];
+        out = new double[LOANS];
+        for (int i = 0; i < LOANS; i++) {
+            principals[i] = 5000 + random.nextInt(500000);
+            rates[i] = random.nextInt(1, 1500) / 10000.0;
+            terms[i] = 12 * random.nextInt(1, 51);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public double[] scalarMonthlyPayments() {
+        for (int i = 0; i < LOANS; i++) {
+            out[i] = LoanCalculator.calculateMonthlyPayment(principals[i], rates[i], terms[i]);
+        }
+        return out;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public double[] batchMonthlyPayments() {
+        LoanCalculator.calculateMonthlyPayments(principals, rates, terms, out);
+        return out;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public double[] batchTotalInterests() {
+        LoanCalculator.calculateTotalInterests(principals, rates, terms, out);
+        return out;
+    }
+}
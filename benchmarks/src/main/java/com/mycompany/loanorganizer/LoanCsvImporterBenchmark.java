@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark for importing a CSV loan file with LoanCsvImporter, against
+ * reading it line by line with String.split and Double.parseDouble
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanCsvImporterBenchmark {
+    
+    @Param({"200000"})
+    private int rows;
+    
+    private Path file;
+    
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("loans", ".csv");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(LoanCsvImporter.HEADER);
+            out.write('\n');
+            for (int i = 0; i < rows; i++) {
+                switch (i % 3) {
+                    case 0:
+                        out.write("Personal,Loan " + i + "," + (1000 + i) + ".25,0.0899,36,2024-03-15\n");
+                        break;
+                    case 1:
+                        out.write("Auto,Car " + i + ",25000.50,0.0599,60,2025-01-01,Toyota,Camry,2024,VIN" + i
+                                + ",30000,true,,,,,\n");
+                        break;
+                    default:
+                        out.write("Mortgage,Home " + i + ",300000,0.045,360,2023-06-30,,,,,,,\"" + i
+                                + " Main St, Springfield\",400000,80000,true,450.25\n");
+                        break;
+                }
+            }
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+    
+    @Benchmark
+    public long loanCsvImporter(Blackhole blackhole) throws IOException {
+        return new LoanCsvImporter().forEachLoan(file, blackhole::consume);
+    }
+    
+    @Benchmark
+    public long splitAndParse(Blackhole blackhole) throws IOException {
+        long count = 0;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            in.readLine();
+            String line;
+            while ((line = in.readLine()) != null) {
+                // Good enough for this file: only the property address is quoted, and it is not read
+                String[] fields = line.split(",", -1);
+                blackhole.consume(new LoanAccount(fields[1], fields[0], Double.parseDouble(fields[2]),
+                        Double.parseDouble(fields[3]), Integer.parseInt(fields[4]), LocalDate.parse(fields[5])));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for formatting a statement line's amounts with String.format and
+ * with LoanFormatter into a reused buffer. Run with -prof gc to compare allocation.
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanFormatterBenchmark {
+    
+    private double payment = 1234.5678;
+    private double balance = 187654.321;
+    private double annualInterestRate = 0.0599;
+    private final StringBuilder buffer = new StringBuilder(64);
+    
+    @Benchmark
+    public String stringFormat() {
+        return String.format(Locale.US, "$%,.2f $%,.2f %.2f%%", payment, balance, annualInterestRate * 100);
+    }
+    
+    @Benchmark
+    public StringBuilder loanFormatter() {
+        buffer.setLength(0);
+        LoanFormatter.US.appendCurrency(buffer, payment).append(' ');
+        LoanFormatter.US.appendCurrency(buffer, balance).append(' ');
+        return LoanFormatter.US.appendPercent(buffer, annualInterestRate);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks measuring the cost of the metrics instrumentation on a monthly
+ * payment quote, with recording off and on
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoanMetricsBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean metricsEnabled;
+    
+    private double principal = 250000;
+    private double annualInterestRate = 0.045;
+    private int termInMonths = 360;
+    private LoanMetrics.Timer timer = LoanMetrics.timer("LoanMetricsBenchmark.record");
+    
+    @Setup
+    public void setUp() {
+        LoanMetrics.setEnabled(metricsEnabled);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        LoanMetrics.setEnabled(false);
+    }
+    
+    @Benchmark
+    public double monthlyPayment() {
+        return LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+    }
+    
+    @Benchmark
+    public void recordOnly() {
+        timer.record(LoanMetrics.start());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load-test driver for LoanQuoteServer. Keeps a fixed number of client threads
+ * sending payment quotes for a fixed time and reports requests per second.
+ * Without a base URL it starts a server in-process on a free port.
+ * 
+ * Usage: LoanQuoteLoadTest [baseUrl] [threads] [seconds]
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanQuoteLoadTest {
+    private static final int DEFAULT_THREADS = 32;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int WARMUP_SECONDS = 2;
+    
+    /**
+     * Main method to run the load test
+     * 
+     * @param args Optional base URL, client thread count and duration in seconds
+     * @throws Exception If the server cannot be started or a client thread is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        LoanQuoteServer server = null;
+        String baseUrl;
+        if (args.length > 0 && !args[0].equals("-")) {
+            baseUrl = args[0];
+        } else {
+            LoanQuoteServer.enableNoDelay();
+            server = LoanQuoteServer.start(0);
+            baseUrl = "http://localhost:" + server.getPort();
+            System.out.println("Started in-process server on port " + server.getPort()
+                    + (server.isUsingVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_THREADS;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SECONDS;
+        
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        
+        System.out.println("Warming up for " + WARMUP_SECONDS + " s...");
+        run(client, baseUrl, threads, WARMUP_SECONDS);
+        
+        System.out.println("Measuring with " + threads + " client threads for " + seconds + " s...");
+        long[] result = run(client, baseUrl, threads, seconds);
+        System.out.printf("Requests: %d, errors: %d, throughput: %.0f requests/s%n",
+                result[0], result[1], result[0] / (double) seconds);
+        
+        if (server != null) {
+            server.stop();
+        }
+    }
+    
+    /**
+     * Send quotes from a number of threads for a fixed time
+     * 
+     * @param client The HTTP client
+     * @param baseUrl The server base URL
+     * @param threads The number of client threads
+     * @param seconds How long to run
+     * @return The number of successful requests and the number of errors
+     * @throws InterruptedException If interrupted while waiting for the clients
+     */
+    private static long[] run(HttpClient client, String baseUrl, int threads, int seconds)
+            throws InterruptedException {
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        
+        List<Thread> clients = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    int principal = 5_000 + random.nextInt(500_000);
+                    int term = 12 * (1 + random.nextInt(30));
+                    URI uri = URI.create(baseUrl + "/quote/payment?principal=" + principal
+                            + "&rate=0.0" + (3 + random.nextInt(6)) + "&term=" + term);
+                    try {
+                        HttpResponse<String> response = client.send(
+                                HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() == 200) {
+                            completed.increment();
+                        } else {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                }
+            }, "quote-client-" + t);
+            clients.add(thread);
+            thread.start();
+        }
+        for (Thread thread : clients) {
+            thread.join();
+        }
+        return new long[] {completed.sum(), errors.sum()};
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for a 30-year monthly projection of a seasoned portfolio with
+ * PortfolioProjector, against summing each loan's generated schedule by month
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PortfolioProjectorBenchmark {
+    
+    @Param({"10000"})
+    private int loanCount;
+    
+    private final YearMonth firstMonth = YearMonth.of(2025, 1);
+    private final int months = 360;
+    private final List<LoanAccount> loans = new ArrayList<>();
+    private final PortfolioProjector projector = new PortfolioProjector(0.06);
+    
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < loanCount; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Mortgage", 150000 + i % 1000 * 250, 0.03 + i % 40 * 0.001,
+                    i % 2 == 0 ? 360 : 180, LocalDate.of(2015 + i % 10, 1 + i % 12, 1 + i % 28)));
+        }
+    }
+    
+    @Benchmark
+    public PortfolioProjector.Projection project() {
+        return projector.project(loans, firstMonth, months);
+    }
+    
+    @Benchmark
+    public double[] sumSchedules() {
+        double[] interest = new double[months];
+        for (LoanAccount loan : loans) {
+            for (PaymentDetails row : loan.generateAmortizationSchedule()) {
+                long month = firstMonth.until(row.getPaymentDate(), ChronoUnit.MONTHS);
+                if (month >= 0 && month < months) {
+                    interest[(int) month] += row.getInterestPayment();
+                }
+            }
+        }
+        return interest;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for a Monte Carlo run of 100 paths over 10,000 mixed-term loans.
+ * Divide the score by one million to get the cost per loan per path.
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PortfolioSimulationBenchmark {
+    
+    private static final LocalDate AS_OF = LocalDate.of(2025, 1, 1);
+    
+    private List<LoanAccount> loans;
+    private PortfolioSimulation simulation;
+    
+    @Setup
+    public void setUp() {
+        int[] terms = {36, 60, 180, 360};
+        loans = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Personal", 5000 + (i % 100) * 2500,
+                    0.03 + (i % 40) * 0.001, terms[i % terms.length], AS_OF.minusMonths(i % 24)));
+        }
+        simulation = new PortfolioSimulation(0.08, 0.02, 0.4);
+    }
+    
+    @Benchmark
+    public PortfolioSimulation.Result simulate() {
+        return simulation.run(loans, AS_OF, 100, 42L);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for a repeated 60-month standard product quote with and without
+ * a ScheduleCache installed
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScheduleCacheBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean cached;
+    
+    private double principal = 25000;
+    private double annualInterestRate = 0.0599;
+    private int termInMonths = 60;
+    private LocalDate startDate = LocalDate.of(2025, 1, 1);
+    
+    @Setup
+    public void setUp() {
+        LoanCalculator.setScheduleCache(cached ? new ScheduleCache(1000, 1000000) : null);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        LoanCalculator.setScheduleCache(null);
+    }
+    
+    @Benchmark
+    public List<PaymentDetails> generateAmortizationSchedule() {
+        return LoanCalculator.generateAmortizationSchedule(principal, annualInterestRate, termInMonths, startDate);
+    }
+}
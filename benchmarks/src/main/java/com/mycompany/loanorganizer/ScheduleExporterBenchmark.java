@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for dumping the schedules of 1,000 thirty-year mortgages (360,000
+ * rows) with ScheduleExporter, against building each schedule list and printing
+ * it with String.format. Output goes to a channel that discards it.
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScheduleExporterBenchmark {
+    
+    private final List<LoanAccount> loans = new ArrayList<>();
+    private final WritableByteChannel sink = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer source) {
+            int written = source.remaining();
+            source.position(source.limit());
+            return written;
+        }
+        
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+        
+        @Override
+        public void close() {
+        }
+    };
+    private final ScheduleExporter csv = new ScheduleExporter(ScheduleExporter.Format.CSV);
+    private final ScheduleExporter binary = new ScheduleExporter(ScheduleExporter.Format.BINARY);
+    
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 1000; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Mortgage", 200000 + i * 100, 0.04 + i % 50 * 0.0005, 360,
+                    LocalDate.of(2025, 1, 1)));
+        }
+    }
+    
+    @Benchmark
+    public long exportCsv() throws IOException {
+        return csv.writePortfolio(sink, loans);
+    }
+    
+    @Benchmark
+    public long exportBinary() throws IOException {
+        return binary.writePortfolio(sink, loans);
+    }
+    
+    @Benchmark
+    public long formatScheduleLists() {
+        PrintWriter out = new PrintWriter(OutputStream.nullOutputStream());
+        long rows = 0;
+        for (int i = 0; i < loans.size(); i++) {
+            for (PaymentDetails row : loans.get(i).generateAmortizationSchedule()) {
+                out.printf("%d,%d,%s,%.2f,%.2f,%.2f,%.2f%n", i, row.getMonth(), row.getPaymentDate(),
+                        row.getMonthlyPayment(), row.getPrincipalPayment(), row.getInterestPayment(),
+                        row.getRemainingBalance());
+                rows++;
+            }
+        }
+        out.flush();
+        return rows;
+    }
+}
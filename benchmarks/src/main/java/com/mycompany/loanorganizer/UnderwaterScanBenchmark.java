@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for finding when each loan of an auto portfolio goes underwater,
+ * with UnderwaterScan against checking isLoanUnderwater for every month
+ * 
+ * @author Loan Organizer Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnderwaterScanBenchmark {
+    
+    @Param({"100000"})
+    private int loanCount;
+    
+    private final List<AutoLoan> loans = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < loanCount; i++) {
+            double value = random.nextDouble(5000, 60000);
+            loans.add(new AutoLoan("Car " + i, value * random.nextDouble(0.5, 1.3), random.nextDouble(0.02, 0.15),
+                    12 * random.nextInt(3, 8), "Make", "Model", 2025, "VIN", value, random.nextBoolean()));
+        }
+    }
+    
+    @Benchmark
+    public UnderwaterScan scan() {
+        return UnderwaterScan.scan(loans);
+    }
+    
+    @Benchmark
+    public int[] monthlyBalanceScan() {
+        // Without a closed form: compare the balance and value month by month
+        int[] underwaterMonths = new int[loans.size()];
+        for (int i = 0; i < loans.size(); i++) {
+            AutoLoan loan = loans.get(i);
+            underwaterMonths[i] = -1;
+            for (int month = 0; month <= loan.getTermInMonths(); month++) {
+                double balance = LoanCalculator.calculateRemainingBalance(loan.getPrincipal(),
+                        loan.getAnnualInterestRate(), loan.getTermInMonths(), month);
+                if (balance > loan.estimateCurrentValue(month / 12)) {
+                    underwaterMonths[i] = month;
+                    break;
+                }
+            }
+        }
+        return underwaterMonths;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator that computes amortization schedule rows on demand. Rows are only
+ * created when they are consumed, so a caller that reads the first few months of
+ * a long schedule pays only for those months.
+ * 
+ * When split, the second half starts from the closed-form balance of
+ * LoanCalculator.calculateRemainingBalance instead of walking the months before it,
+ * so parallel streams can begin anywhere in the schedule.
+ * 
+ * @author Loan Organizer Team
+ */
+class AmortizationSpliterator implements Spliterator<PaymentDetails> {
+    // Below this many rows a split costs more than it saves
+    private static final int MIN_SPLIT_SIZE = 16;
+    
+    private final double principal;
+    private final double annualInterestRate;
+    private final int termInMonths;
+    private final double monthlyPayment;
+    private final boolean settleFinalPayment;
+    private final int startYear;
+    private final int startMonth;
+    private final int startDay;
+    
+    private int nextMonth;
+    private final int lastMonth;
+    private double remainingBalance;
+    
+    /**
+     * Constructor for a spliterator over a whole schedule
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @param settleFinalPayment Whether the final payment absorbs any rounding
+     *        difference so the schedule ends at exactly zero
+     */
+    AmortizationSpliterator(double principal, double annualInterestRate, int termInMonths,
+            LocalDate startDate, boolean settleFinalPayment) {
+        this.principal = principal;
+        this.annualInterestRate = annualInterestRate;
+        this.termInMonths = termInMonths;
+        this.monthlyPayment = LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+        this.settleFinalPayment = settleFinalPayment;
+        this.startYear = startDate.getYear();
+        this.startMonth = startDate.getMonthValue();
+        this.startDay = startDate.getDayOfMonth();
+        this.nextMonth = 1;
+        this.lastMonth = termInMonths;
+        this.remainingBalance = principal;
+    }
+    
+    /**
+     * Constructor for the prefix produced by a split
+     * 
+     * @param parent The spliterator being split
+     * @param lastMonth The last month covered by the prefix
+     */
+    private AmortizationSpliterator(AmortizationSpliterator parent, int lastMonth) {
+        this.principal = parent.principal;
+        this.annualInterestRate = parent.annualInterestRate;
+        this.termInMonths = parent.termInMonths;
+        this.monthlyPayment = parent.monthlyPayment;
+        this.settleFinalPayment = parent.settleFinalPayment;
+        this.startYear = parent.startYear;
+        this.startMonth = parent.startMonth;
+        this.startDay = parent.startDay;
+        this.nextMonth = parent.nextMonth;
+        this.lastMonth = lastMonth;
+        this.remainingBalance = parent.remainingBalance;
+    }
+    
+    @Override
+    public boolean tryAdvance(Consumer<? super PaymentDetails> action) {
+        if (nextMonth > lastMonth) {
+            return false;
+        }
+        action.accept(computeNextRow());
+        return true;
+    }
+    
+    @Override
+    public void forEachRemaining(Consumer<? super PaymentDetails> action) {
+        while (nextMonth <= lastMonth) {
+            action.accept(computeNextRow());
+        }
+    }
+    
+    @Override
+    public Spliterator<PaymentDetails> trySplit() {
+        int remaining = lastMonth - nextMonth + 1;
+        if (remaining < 2 * MIN_SPLIT_SIZE) {
+            return null;
+        }
+        
+        int splitMonth = nextMonth + remaining / 2;
+        AmortizationSpliterator prefix = new AmortizationSpliterator(this, splitMonth - 1);
+        
+        nextMonth = splitMonth;
+        remainingBalance = LoanCalculator.calculateRemainingBalance(
+                principal, annualInterestRate, termInMonths, splitMonth - 1);
+        return prefix;
+    }
+    
+    @Override
+    public long estimateSize() {
+        return Math.max(0, lastMonth - nextMonth + 1);
+    }
+    
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+    
+    /**
+     * Compute the row for the next month and advance past it
+     * 
+     * @return The payment details for the month
+     */
+    private PaymentDetails computeNextRow() {
+        int month = nextMonth++;
+        double payment = monthlyPayment;
+        double interestPayment = remainingBalance * (annualInterestRate / 12);
+        double principalPayment = payment - interestPayment;
+        
+        if (settleFinalPayment && month == termInMonths) {
+            // Handle rounding issues in the final payment
+            principalPayment = remainingBalance;
+            payment = principalPayment + interestPayment;
+        }
+        
+        remainingBalance -= principalPayment;
+        
+        if (settleFinalPayment && remainingBalance < 0) {
+            remainingBalance = 0;
+        }
+        
+        LocalDate paymentDate = LocalDate.ofEpochDay(
+                AmortizationTable.epochDayPlusMonths(startYear, startMonth, startDay, month));
+        
+        return new PaymentDetails(month, paymentDate, payment,
+                principalPayment, interestPayment, remainingBalance);
+    }
+}
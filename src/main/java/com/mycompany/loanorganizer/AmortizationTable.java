@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A columnar amortization schedule. Each field of the schedule is kept in its own
+ * primitive array so that a schedule of any length costs a handful of allocations
+ * instead of one PaymentDetails and one LocalDate per month.
+ * 
+ * @author Loan Organizer Team
+ */
+public class AmortizationTable {
+    private final double[] monthlyPayment;
+    private final double[] principalPayment;
+    private final double[] interestPayment;
+    private final double[] remainingBalance;
+    private final int[] paymentEpochDay;
+    
+    /**
+     * Constructor for an empty table with room for the given number of months
+     * 
+     * @param termInMonths The number of rows in the table
+     */
+    AmortizationTable(int termInMonths) {
+        int rows = Math.max(0, termInMonths);
+        this.monthlyPayment = new double[rows];
+        this.principalPayment = new double[rows];
+        this.interestPayment = new double[rows];
+        this.remainingBalance = new double[rows];
+        this.paymentEpochDay = new int[rows];
+    }
+    
+    /**
+     * Fill in one row of the table
+     * 
+     * @param index The zero-based row index
+     * @param epochDay The payment date as a day count from 1970-01-01
+     * @param payment The total monthly payment
+     * @param principal The principal portion of the payment
+     * @param interest The interest portion of the payment
+     * @param balance The remaining balance after the payment
+     */
+    void setRow(int index, int epochDay, double payment, double principal,
+            double interest, double balance) {
+        paymentEpochDay[index] = epochDay;
+        monthlyPayment[index] = payment;
+        principalPayment[index] = principal;
+        interestPayment[index] = interest;
+        remainingBalance[index] = balance;
+    }
+    
+    /**
+     * Get the number of rows (months) in the table
+     * 
+     * @return The number of rows
+     */
+    public int size() {
+        return monthlyPayment.length;
+    }
+    
+    /**
+     * Get the month number of a row
+     * 
+     * @param index The zero-based row index
+     * @return The month number, starting at 1
+     */
+    public int getMonth(int index) {
+        return index + 1;
+    }
+    
+    /**
+     * Get the payment date of a row as a day count from 1970-01-01
+     * 
+     * @param index The zero-based row index
+     * @return The payment date as an epoch day
+     */
+    public int getPaymentEpochDay(int index) {
+        return paymentEpochDay[index];
+    }
+    
+    /**
+     * Get the payment date of a row
+     * 
+     * @param index The zero-based row index
+     * @return The payment date
+     */
+    public LocalDate getPaymentDate(int index) {
+        return LocalDate.ofEpochDay(paymentEpochDay[index]);
+    }
+    
+    /**
+     * Get the monthly payment of a row
+     * 
+     * @param index The zero-based row index
+     * @return The monthly payment
+     */
+    public double getMonthlyPayment(int index) {
+        return monthlyPayment[index];
+    }
+    
+    /**
+     * Get the principal portion of a row's payment
+     * 
+     * @param index The zero-based row index
+     * @return The principal payment
+     */
+    public double getPrincipalPayment(int index) {
+        return principalPayment[index];
+    }
+    
+    /**
+     * Get the interest portion of a row's payment
+     * 
+     * @param index The zero-based row index
+     * @return The interest payment
+     */
+    public double getInterestPayment(int index) {
+        return interestPayment[index];
+    }
+    
+    /**
+     * Get the remaining balance after a row's payment
+     * 
+     * @param index The zero-based row index
+     * @return The remaining balance
+     */
+    public double getRemainingBalance(int index) {
+        return remainingBalance[index];
+    }
+    
+    /**
+     * Calculate the total interest paid over the whole table
+     * 
+     * @return The total interest
+     */
+    public double getTotalInterest() {
+        double total = 0;
+        for (int i = 0; i < interestPayment.length; i++) {
+            total += interestPayment[i];
+        }
+        return total;
+    }
+    
+    /**
+     * Create a reusable row view positioned at the first row. Move it with
+     * {@link Row#at(int)} to read other rows without allocating.
+     * 
+     * @return A row view over this table
+     */
+    public Row row() {
+        return new Row(this);
+    }
+    
+    /**
+     * Get a read-only list view of the table for callers that expect a
+     * List of PaymentDetails. Rows are created on access and read straight
+     * from the columns; nothing is copied.
+     * 
+     * @return A list view of the table
+     */
+    public List<PaymentDetails> asList() {
+        return new AbstractList<PaymentDetails>() {
+            @Override
+            public PaymentDetails get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Row " + index + " out of range for " + size() + " rows");
+                }
+                return new Row(AmortizationTable.this).at(index);
+            }
+            
+            @Override
+            public int size() {
+                return AmortizationTable.this.size();
+            }
+        };
+    }
+    
+    /**
+     * Compute the epoch day of the date a number of months after a start date,
+     * with the same end-of-month clamping as LocalDate.plusMonths
+     * 
+     * @param startYear The start year
+     * @param startMonth The start month (1-12)
+     * @param startDay The start day of month
+     * @param monthsToAdd The number of months to add
+     * @return The epoch day of the resulting date
+     */
+    static int epochDayPlusMonths(int startYear, int startMonth, int startDay, int monthsToAdd) {
+        long date = datePlusMonths(startYear, startMonth, startDay, monthsToAdd);
+        return (int) epochDay(packedYear(date), packedMonth(date), packedDay(date));
+    }
+    
+    /**
+     * Compute the date a number of months after a start date, with the same
+     * end-of-month clamping as LocalDate.plusMonths. The date is packed into a
+     * long so callers that need the year, month and day get them without
+     * allocating; read them back with packedYear, packedMonth and packedDay.
+     * 
+     * @param startYear The start year
+     * @param startMonth The start month (1-12)
+     * @param startDay The start day of month
+     * @param monthsToAdd The number of months to add
+     * @return The resulting date, packed
+     */
+    static long datePlusMonths(int startYear, int startMonth, int startDay, int monthsToAdd) {
+        long monthCount = startYear * 12L + (startMonth - 1) + monthsToAdd;
+        int year = (int) Math.floorDiv(monthCount, 12);
+        int month = Math.floorMod(monthCount, 12) + 1;
+        int day = Math.min(startDay, lengthOfMonth(year, month));
+        return ((long) year << 16) | (month << 8) | day;
+    }
+    
+    /**
+     * Get the year of a date packed by datePlusMonths
+     * 
+     * @param date The packed date
+     * @return The year
+     */
+    static int packedYear(long date) {
+        return (int) (date >> 16);
+    }
+    
+    /**
+     * Get the month of a date packed by datePlusMonths
+     * 
+     * @param date The packed date
+     * @return The month (1-12)
+     */
+    static int packedMonth(long date) {
+        return (int) (date >> 8) & 0xFF;
+    }
+    
+    /**
+     * Get the day of month of a date packed by datePlusMonths
+     * 
+     * @param date The packed date
+     * @return The day of month
+     */
+    static int packedDay(long date) {
+        return (int) date & 0xFF;
+    }
+    
+    /**
+     * Get the number of days in a month
+     * 
+     * @param year The year
+     * @param month The month (1-12)
+     * @return The number of days in the month
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+    
+    /**
+     * Convert a proleptic Gregorian date to a day count from 1970-01-01
+     * 
+     * @param year The year
+     * @param month The month (1-12)
+     * @param day The day of month
+     * @return The epoch day
+     */
+    static long epochDay(int year, int month, int day) {
+        // Shift the year to start in March so the leap day falls at the end
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+    
+    /**
+     * A PaymentDetails view over one row of an AmortizationTable. The view can be
+     * moved between rows, so a single instance serves a whole scan of the table.
+     */
+    public static class Row extends PaymentDetails {
+        private final AmortizationTable table;
+        private int index;
+        
+        /**
+         * Constructor for a row view
+         * 
+         * @param table The table to read from
+         */
+        private Row(AmortizationTable table) {
+            this.table = table;
+        }
+        
+        /**
+         * Move the view to another row
+         * 
+         * @param index The zero-based row index
+         * @return This view, for chaining
+         */
+        public Row at(int index) {
+            this.index = index;
+            return this;
+        }
+        
+        @Override
+        public int getMonth() {
+            return table.getMonth(index);
+        }
+        
+        @Override
+        public LocalDate getPaymentDate() {
+            return table.getPaymentDate(index);
+        }
+        
+        @Override
+        public double getMonthlyPayment() {
+            return table.getMonthlyPayment(index);
+        }
+        
+        @Override
+        public double getPrincipalPayment() {
+            return table.getPrincipalPayment(index);
+        }
+        
+        @Override
+        public double getInterestPayment() {
+            return table.getInterestPayment(index);
+        }
+        
+        @Override
+        public double getRemainingBalance() {
+            return table.getRemainingBalance(index);
+        }
+    }
+}
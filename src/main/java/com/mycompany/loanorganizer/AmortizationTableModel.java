@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import javax.swing.SwingConstants;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * A Swing table model for an amortization schedule that computes each row on
+ * demand from the loan parameters. Nothing is generated up front: the balance for
+ * any month comes from the closed-form annuity formula, so a JTable only pays for
+ * the rows it actually paints and scrolling to any row costs the same whatever
+ * the term. Rows match LoanAccount.generateAmortizationSchedule.
+ * 
+ * @author Loan Organizer Team
+ */
+public class AmortizationTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    
+    public static final int MONTH = 0;
+    public static final int PAYMENT_DATE = 1;
+    public static final int PAYMENT = 2;
+    public static final int PRINCIPAL = 3;
+    public static final int INTEREST = 4;
+    public static final int REMAINING_BALANCE = 5;
+    
+    private static final String[] COLUMN_NAMES = {
+        "Month", "Payment Date", "Payment", "Principal", "Interest", "Remaining Balance"
+    };
+    private static final Class<?>[] COLUMN_CLASSES = {
+        Integer.class, LocalDate.class, Double.class, Double.class, Double.class, Double.class
+    };
+    
+    private double principal;
+    private double monthlyRate;
+    private double monthlyPayment;
+    private int termInMonths;
+    private LocalDate startDate;
+    
+    // The row most recently computed; a JTable reads every column of a row in turn
+    private int cachedRow = -1;
+    private double cachedInterest;
+    private double cachedBalance;
+    
+    /**
+     * Set the loan to show, replacing any previous schedule
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate (decimal)
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     */
+    public void setLoan(double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        this.principal = principal;
+        this.monthlyRate = annualInterestRate / 12;
+        this.monthlyPayment = LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+        this.termInMonths = Math.max(0, termInMonths);
+        this.startDate = startDate;
+        this.cachedRow = -1;
+        fireTableDataChanged();
+    }
+    
+    /**
+     * Remove the schedule
+     */
+    public void clear() {
+        termInMonths = 0;
+        cachedRow = -1;
+        fireTableDataChanged();
+    }
+    
+    /**
+     * Get the scheduled monthly payment of the loan being shown
+     * 
+     * @return The monthly payment
+     */
+    public double getMonthlyPayment() {
+        return monthlyPayment;
+    }
+    
+    @Override
+    public int getRowCount() {
+        return termInMonths;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+    
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+    
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return COLUMN_CLASSES[column];
+    }
+    
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (row != cachedRow) {
+            double balanceBefore = balanceAfter(row);
+            cachedInterest = balanceBefore * monthlyRate;
+            cachedBalance = balanceBefore - (monthlyPayment - cachedInterest);
+            cachedRow = row;
+        }
+        
+        switch (column) {
+            case MONTH:
+                return row + 1;
+            case PAYMENT_DATE:
+                return startDate.plusMonths(row + 1);
+            case PAYMENT:
+                return monthlyPayment;
+            case PRINCIPAL:
+                return monthlyPayment - cachedInterest;
+            case INTEREST:
+                return cachedInterest;
+            case REMAINING_BALANCE:
+                return cachedBalance;
+            default:
+                throw new IndexOutOfBoundsException("Column " + column + " out of range");
+        }
+    }
+    
+    /**
+     * Get the balance after a number of payments
+     * 
+     * @param payments The number of payments made
+     * @return The remaining balance
+     */
+    private double balanceAfter(int payments) {
+        if (monthlyRate == 0) {
+            return principal - monthlyPayment * payments;
+        }
+        double growth = Math.pow(1 + monthlyRate, payments);
+        return principal * growth - monthlyPayment * (growth - 1) / monthlyRate;
+    }
+    
+    /**
+     * Renders Double cells as right-aligned US currency
+     */
+    static class CurrencyRenderer extends DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+        
+        // Renderers only run on the event dispatch thread, so one buffer serves every cell
+        private final StringBuilder text = new StringBuilder(24);
+        
+        /**
+         * Constructor for a currency renderer
+         */
+        CurrencyRenderer() {
+            setHorizontalAlignment(SwingConstants.RIGHT);
+        }
+        
+        @Override
+        protected void setValue(Object value) {
+            if (value == null) {
+                setText("");
+                return;
+            }
+            // Round-off in the last row would otherwise show as -$0.00
+            double amount = (Double) value;
+            text.setLength(0);
+            setText(LoanFormatter.US.appendCurrency(text, Math.abs(amount) < 0.005 ? 0.0 : amount).toString());
+        }
+    }
+    
+    /**
+     * Renders LocalDate cells in the MM/dd/yyyy form used by LoanCalculator.formatDate
+     */
+    static class DateRenderer extends DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+        
+        private final StringBuilder text = new StringBuilder(10);
+        
+        @Override
+        protected void setValue(Object value) {
+            if (value == null) {
+                setText("");
+                return;
+            }
+            text.setLength(0);
+            setText(LoanFormatter.US.appendDate(text, (LocalDate) value).toString());
+        }
+    }
+}
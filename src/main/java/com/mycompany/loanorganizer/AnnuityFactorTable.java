@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+/**
+ * A precomputed grid of annuity payment factors, i.e. the monthly payment per
+ * dollar borrowed, for rates in basis-point steps and terms in months. Looking up
+ * a quote on the grid costs an array read instead of a Math.pow call; rates or
+ * terms off the grid fall back to the exact formula. Interest-free payments are
+ * divided by the term just as LoanCalculator does, so results never depend on
+ * whether the table is in use.
+ * 
+ * Install a table with LoanCalculator.setAnnuityFactorTable to have LoanCalculator
+ * and LoanAccount use it for monthly payments and affordable amounts.
+ * 
+ * @author Loan Organizer Team
+ */
+public class AnnuityFactorTable {
+    private static final double BASIS_POINTS_PER_UNIT = 10000.0;
+    
+    private final int minRateBasisPoints;
+    private final int stepBasisPoints;
+    private final int rateCount;
+    private final int maxTermInMonths;
+    private final double[] factors;
+    
+    /**
+     * Constructor for a table covering a range of rates and all terms up to a maximum
+     * 
+     * @param minRateBasisPoints The lowest annual rate on the grid, in basis points
+     * @param maxRateBasisPoints The highest annual rate on the grid, in basis points
+     * @param stepBasisPoints The spacing between rates on the grid, in basis points
+     * @param maxTermInMonths The longest term on the grid; terms start at 1 month
+     * @throws IllegalArgumentException If the grid bounds are invalid
+     */
+    public AnnuityFactorTable(int minRateBasisPoints, int maxRateBasisPoints,
+            int stepBasisPoints, int maxTermInMonths) {
+        if (minRateBasisPoints < 0 || maxRateBasisPoints < minRateBasisPoints) {
+            throw new IllegalArgumentException("Rate range must be non-negative and in ascending order");
+        }
+        if (stepBasisPoints <= 0) {
+            throw new IllegalArgumentException("Rate step must be greater than zero");
+        }
+        if (maxTermInMonths <= 0) {
+            throw new IllegalArgumentException("Maximum term must be greater than zero");
+        }
+        
+        this.minRateBasisPoints = minRateBasisPoints;
+        this.stepBasisPoints = stepBasisPoints;
+        this.rateCount = (maxRateBasisPoints - minRateBasisPoints) / stepBasisPoints + 1;
+        this.maxTermInMonths = maxTermInMonths;
+        this.factors = new double[Math.multiplyExact(rateCount, maxTermInMonths)];
+        
+        for (int rateIndex = 0; rateIndex < rateCount; rateIndex++) {
+            double annualRate = gridRate(rateIndex);
+            int offset = rateIndex * maxTermInMonths;
+            for (int term = 1; term <= maxTermInMonths; term++) {
+                factors[offset + term - 1] = LoanCalculator.calculatePaymentFactor(annualRate, term);
+            }
+        }
+    }
+    
+    /**
+     * Get the monthly payment per dollar of principal
+     * 
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The payment factor
+     */
+    public double getPaymentFactor(double annualInterestRate, int termInMonths) {
+        if (termInMonths >= 1 && termInMonths <= maxTermInMonths) {
+            double steps = (annualInterestRate * BASIS_POINTS_PER_UNIT - minRateBasisPoints) / stepBasisPoints;
+            long rateIndex = Math.round(steps);
+            // Only exact grid rates use the table, so lookups match calculatePaymentFactor bit for bit
+            if (rateIndex >= 0 && rateIndex < rateCount && gridRate((int) rateIndex) == annualInterestRate) {
+                return factors[(int) rateIndex * maxTermInMonths + termInMonths - 1];
+            }
+        }
+        return LoanCalculator.calculatePaymentFactor(annualInterestRate, termInMonths);
+    }
+    
+    /**
+     * Calculate the monthly payment for a loan
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The monthly payment
+     */
+    public double calculateMonthlyPayment(double principal, double annualInterestRate, int termInMonths) {
+        return LoanCalculator.applyPaymentFactor(principal, annualInterestRate, termInMonths,
+                getPaymentFactor(annualInterestRate, termInMonths));
+    }
+    
+    /**
+     * Calculate the affordable loan amount based on maximum monthly payment
+     * 
+     * @param maxMonthlyPayment The maximum monthly payment
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The affordable loan amount
+     */
+    public double calculateAffordableLoanAmount(double maxMonthlyPayment, double annualInterestRate,
+            int termInMonths) {
+        return LoanCalculator.removePaymentFactor(maxMonthlyPayment, annualInterestRate, termInMonths,
+                getPaymentFactor(annualInterestRate, termInMonths));
+    }
+    
+    /**
+     * Get the number of rates on the grid
+     * 
+     * @return The number of rates
+     */
+    public int getRateCount() {
+        return rateCount;
+    }
+    
+    /**
+     * Get the longest term on the grid
+     * 
+     * @return The maximum term in months
+     */
+    public int getMaxTermInMonths() {
+        return maxTermInMonths;
+    }
+    
+    /**
+     * Get the annual rate at a position on the grid
+     * 
+     * @param rateIndex The rate position
+     * @return The annual rate as a decimal
+     */
+    private double gridRate(int rateIndex) {
+        return (minRateBasisPoints + (long) rateIndex * stepBasisPoints) / BASIS_POINTS_PER_UNIT;
+    }
+}
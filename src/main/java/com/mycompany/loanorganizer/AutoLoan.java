@@ -4,6 +4,8 @@
  */
 package com.mycompany.loanorganizer;
 
+import java.time.LocalDate;
+
 /**
  * Represents an auto loan with specific features for vehicle financing
  * 
@@ -42,7 +44,29 @@ public class AutoLoan extends LoanAccount {
     public AutoLoan(String loanName, double principal, double annualInterestRate,
                    int termInMonths, String vehicleMake, String vehicleModel,
                    int vehicleYear, String vin, double vehicleValue, boolean isNew) {
-        super(loanName, "Auto", principal, annualInterestRate, termInMonths);
+        this(loanName, principal, annualInterestRate, termInMonths, vehicleMake, vehicleModel, vehicleYear, vin,
+                vehicleValue, isNew, LocalDate.now());
+    }
+    
+    /**
+     * Constructor with parameters for an auto loan starting on a given date
+     * 
+     * @param loanName The name of the loan
+     * @param principal The loan principal amount
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param vehicleMake The make of the vehicle
+     * @param vehicleModel The model of the vehicle
+     * @param vehicleYear The year of the vehicle
+     * @param vin The vehicle identification number
+     * @param vehicleValue The value of the vehicle
+     * @param isNew Whether the vehicle is new
+     * @param startDate The start date of the loan
+     */
+    public AutoLoan(String loanName, double principal, double annualInterestRate,
+                   int termInMonths, String vehicleMake, String vehicleModel,
+                   int vehicleYear, String vin, double vehicleValue, boolean isNew, LocalDate startDate) {
+        super(loanName, "Auto", principal, annualInterestRate, termInMonths, startDate);
         this.vehicleMake = vehicleMake;
         this.vehicleModel = vehicleModel;
         this.vehicleYear = vehicleYear;
@@ -67,19 +91,7 @@ public class AutoLoan extends LoanAccount {
      * @return The estimated current value
      */
     public double estimateCurrentValue(int ageInYears) {
-        double depreciation = isNew ? 0.20 : 0.10; // New cars depreciate faster in the first year
-        
-        // Simple depreciation model
-        double currentValue = vehicleValue;
-        for (int i = 0; i < ageInYears; i++) {
-            if (i == 0 && isNew) {
-                currentValue *= (1 - depreciation);
-            } else {
-                currentValue *= 0.90; // 10% depreciation per year after the first
-            }
-        }
-        
-        return currentValue;
+        return estimateValue(vehicleValue, isNew, ageInYears);
     }
     
     /**
@@ -94,6 +106,139 @@ public class AutoLoan extends LoanAccount {
         return currentBalance > currentValue;
     }
     
+    /**
+     * Find the first month in which the scheduled balance exceeds the estimated
+     * vehicle value. Months count from the start of the loan, so month 12 is the
+     * age isLoanUnderwater(1) checks. Recorded payments are not taken into account.
+     * 
+     * @return The first underwater month, or -1 if the loan is never underwater
+     */
+    public int findUnderwaterMonth() {
+        return underwaterMonth(findUnderwaterRange(getPrincipal(), getAnnualInterestRate(), getTermInMonths(),
+                vehicleValue, isNew));
+    }
+    
+    /**
+     * Find the month from which the scheduled balance stays at or below the
+     * estimated vehicle value until the loan is paid off
+     * 
+     * @return The recovery month, or -1 if the loan is never underwater
+     */
+    public int findRecoveryMonth() {
+        return recoveryMonth(findUnderwaterRange(getPrincipal(), getAnnualInterestRate(), getTermInMonths(),
+                vehicleValue, isNew));
+    }
+    
+    /**
+     * Estimate a vehicle's value: 20% off in the first year for a new vehicle, and
+     * 10% off every other year
+     * 
+     * @param vehicleValue The value when the loan started
+     * @param isNew Whether the vehicle was new
+     * @param ageInYears The age in whole years
+     * @return The estimated value
+     */
+    static double estimateValue(double vehicleValue, boolean isNew, int ageInYears) {
+        if (ageInYears <= 0) {
+            return vehicleValue;
+        }
+        return isNew ? vehicleValue * 0.80 * Math.pow(0.90, ageInYears - 1)
+                : vehicleValue * Math.pow(0.90, ageInYears);
+    }
+    
+    /**
+     * Find when a loan goes underwater and when it recovers. The vehicle value
+     * only drops on each anniversary while the balance falls every month, so
+     * within a year the underwater months are those before the balance first
+     * reaches that year's value. That month is solved from the closed-form
+     * balance, giving a few steps per year of term instead of one per month.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term in months
+     * @param vehicleValue The vehicle value when the loan started
+     * @param isNew Whether the vehicle was new
+     * @return The first underwater month in the high 32 bits and the recovery
+     *         month in the low 32 bits, each -1 if the loan is never underwater;
+     *         unpack with underwaterMonth and recoveryMonth
+     */
+    static long findUnderwaterRange(double principal, double annualInterestRate, int termInMonths,
+            double vehicleValue, boolean isNew) {
+        int first = -1;
+        int last = -1;
+        for (int year = 0; year * 12 <= termInMonths; year++) {
+            int from = year * 12;
+            int to = Math.min(from + 11, termInMonths);
+            double value = estimateValue(vehicleValue, isNew, year);
+            int crossing = firstMonthAtOrBelow(principal, annualInterestRate, termInMonths, value, from, to + 1);
+            if (crossing > from) {
+                if (first < 0) {
+                    first = from;
+                }
+                last = crossing - 1;
+            }
+        }
+        int recovery = first < 0 ? -1 : last + 1;
+        return ((long) first << 32) | (recovery & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Get the first underwater month from a packed range
+     * 
+     * @param range The range from findUnderwaterRange
+     * @return The first underwater month, or -1
+     */
+    static int underwaterMonth(long range) {
+        return (int) (range >> 32);
+    }
+    
+    /**
+     * Get the recovery month from a packed range
+     * 
+     * @param range The range from findUnderwaterRange
+     * @return The recovery month, or -1
+     */
+    static int recoveryMonth(long range) {
+        return (int) range;
+    }
+    
+    /**
+     * Find the first month in a range whose scheduled balance is at or below a value
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term in months
+     * @param value The value to compare against
+     * @param from The first month to consider
+     * @param to The month returned if no earlier month qualifies
+     * @return The month, between from and to
+     */
+    private static int firstMonthAtOrBelow(double principal, double annualInterestRate, int termInMonths,
+            double value, int from, int to) {
+        // Solve balance(m) = value: P (G^n - G^m) / (G^n - 1) = value, or P (n - m) / n without interest
+        double monthlyRate = annualInterestRate / 12;
+        double estimate;
+        if (monthlyRate == 0) {
+            estimate = termInMonths * (1 - value / principal);
+        } else {
+            double growthOverTerm = Math.pow(1 + monthlyRate, termInMonths);
+            double target = growthOverTerm - value * (growthOverTerm - 1) / principal;
+            estimate = target <= 1 ? 0 : Math.log(target) / Math.log1p(monthlyRate);
+        }
+        int month = (int) Math.max(from, Math.min(to, Math.ceil(estimate)));
+        
+        // Settle rounding in the estimate against the same balance formula the loan uses
+        while (month > from && LoanCalculator.calculateRemainingBalance(
+                principal, annualInterestRate, termInMonths, month - 1) <= value) {
+            month--;
+        }
+        while (month < to && LoanCalculator.calculateRemainingBalance(
+                principal, annualInterestRate, termInMonths, month) > value) {
+            month++;
+        }
+        return month;
+    }
+    
     /**
      * Get the vehicle make
      * 
@@ -204,8 +349,10 @@ public class AutoLoan extends LoanAccount {
     
     @Override
     public String toString() {
-        return String.format("Auto Loan: %s - $%.2f at %.2f%% for %d months on %d %s %s",
-                getLoanName(), getPrincipal(), getAnnualInterestRate() * 100, 
-                getTermInMonths(), vehicleYear, vehicleMake, vehicleModel);
+        StringBuilder out = new StringBuilder(96).append("Auto Loan: ").append(getLoanName()).append(" - ");
+        LoanFormatter.US.appendCurrency(out, getPrincipal(), false).append(" at ");
+        LoanFormatter.US.appendPercent(out, getAnnualInterestRate()).append(" for ").append(getTermInMonths());
+        return out.append(" months on ").append(vehicleYear).append(' ').append(vehicleMake).append(' ')
+                .append(vehicleModel).toString();
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+
+/**
+ * A columnar amortization schedule with every amount held as whole cents,
+ * produced by CentsLoanCalculator
+ * 
+ * @author Loan Organizer Team
+ */
+public class CentsAmortizationTable {
+    private final long[] monthlyPayment;
+    private final long[] principalPayment;
+    private final long[] interestPayment;
+    private final long[] remainingBalance;
+    private final int[] paymentEpochDay;
+    
+    /**
+     * Constructor for an empty table with room for the given number of months
+     * 
+     * @param termInMonths The number of rows in the table
+     */
+    CentsAmortizationTable(int termInMonths) {
+        int rows = Math.max(0, termInMonths);
+        this.monthlyPayment = new long[rows];
+        this.principalPayment = new long[rows];
+        this.interestPayment = new long[rows];
+        this.remainingBalance = new long[rows];
+        this.paymentEpochDay = new int[rows];
+    }
+    
+    /**
+     * Fill in one row of the table
+     * 
+     * @param index The zero-based row index
+     * @param epochDay The payment date as a day count from 1970-01-01
+     * @param payment The total payment in cents
+     * @param principal The principal portion in cents
+     * @param interest The interest portion in cents
+     * @param balance The remaining balance after the payment in cents
+     */
+    void setRow(int index, int epochDay, long payment, long principal, long interest, long balance) {
+        paymentEpochDay[index] = epochDay;
+        monthlyPayment[index] = payment;
+        principalPayment[index] = principal;
+        interestPayment[index] = interest;
+        remainingBalance[index] = balance;
+    }
+    
+    /**
+     * Get the number of rows (months) in the table
+     * 
+     * @return The number of rows
+     */
+    public int size() {
+        return monthlyPayment.length;
+    }
+    
+    /**
+     * Get the month number of a row
+     * 
+     * @param index The zero-based row index
+     * @return The month number, starting at 1
+     */
+    public int getMonth(int index) {
+        return index + 1;
+    }
+    
+    /**
+     * Get the payment date of a row as a day count from 1970-01-01
+     * 
+     * @param index The zero-based row index
+     * @return The payment date as an epoch day
+     */
+    public int getPaymentEpochDay(int index) {
+        return paymentEpochDay[index];
+    }
+    
+    /**
+     * Get the payment date of a row
+     * 
+     * @param index The zero-based row index
+     * @return The payment date
+     */
+    public LocalDate getPaymentDate(int index) {
+        return LocalDate.ofEpochDay(paymentEpochDay[index]);
+    }
+    
+    /**
+     * Get the payment of a row in cents
+     * 
+     * @param index The zero-based row index
+     * @return The payment in cents
+     */
+    public long getMonthlyPaymentCents(int index) {
+        return monthlyPayment[index];
+    }
+    
+    /**
+     * Get the principal portion of a row's payment in cents
+     * 
+     * @param index The zero-based row index
+     * @return The principal payment in cents
+     */
+    public long getPrincipalPaymentCents(int index) {
+        return principalPayment[index];
+    }
+    
+    /**
+     * Get the interest portion of a row's payment in cents
+     * 
+     * @param index The zero-based row index
+     * @return The interest payment in cents
+     */
+    public long getInterestPaymentCents(int index) {
+        return interestPayment[index];
+    }
+    
+    /**
+     * Get the remaining balance after a row's payment in cents
+     * 
+     * @param index The zero-based row index
+     * @return The remaining balance in cents
+     */
+    public long getRemainingBalanceCents(int index) {
+        return remainingBalance[index];
+    }
+    
+    /**
+     * Calculate the total interest paid over the whole table in cents
+     * 
+     * @return The total interest in cents
+     */
+    public long getTotalInterestCents() {
+        long total = 0;
+        for (int i = 0; i < interestPayment.length; i++) {
+            total += interestPayment[i];
+        }
+        return total;
+    }
+    
+    /**
+     * Convert the table to a double-based AmortizationTable for code that works in dollars
+     * 
+     * @return The equivalent table in dollars
+     */
+    public AmortizationTable toAmortizationTable() {
+        AmortizationTable table = new AmortizationTable(size());
+        for (int i = 0; i < size(); i++) {
+            table.setRow(i, paymentEpochDay[i],
+                    CentsLoanCalculator.toDollars(monthlyPayment[i]),
+                    CentsLoanCalculator.toDollars(principalPayment[i]),
+                    CentsLoanCalculator.toDollars(interestPayment[i]),
+                    CentsLoanCalculator.toDollars(remainingBalance[i]));
+        }
+        return table;
+    }
+}
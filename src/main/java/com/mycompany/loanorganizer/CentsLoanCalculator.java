@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+
+/**
+ * Loan calculations on fixed-point money. Amounts are whole cents held in a long,
+ * and each period's interest is rounded to the cent with banker's rounding
+ * (round half to even) using integer arithmetic only. Schedules are therefore
+ * penny-exact: every payment is its principal plus its interest, the principal
+ * portions add up to the amount borrowed, and the final balance is exactly zero.
+ * 
+ * Interest rates are held as integers in units of 1e-8 (one millionth of a basis
+ * point), which represents any realistic quoted rate exactly.
+ * 
+ * @author Loan Organizer Team
+ */
+public class CentsLoanCalculator {
+    // Rates are stored as multiples of 1e-8
+    private static final long RATE_SCALE = 100_000_000L;
+    private static final long MONTHLY_RATE_DIVISOR = 12 * RATE_SCALE;
+    
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private CentsLoanCalculator() {
+        // Utility class should not be instantiated
+    }
+    
+    /**
+     * Convert a dollar amount to cents, rounding half to even
+     * 
+     * @param amount The amount in dollars
+     * @return The amount in cents
+     */
+    public static long toCents(double amount) {
+        return (long) Math.rint(amount * 100);
+    }
+    
+    /**
+     * Convert an amount in cents to dollars
+     * 
+     * @param cents The amount in cents
+     * @return The amount in dollars
+     */
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+    
+    /**
+     * Calculate the level monthly payment in cents. The exact annuity payment is
+     * rounded half to even to the nearest cent; the final payment of a schedule
+     * absorbs the difference.
+     * 
+     * @param principalCents The loan principal in cents
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The monthly payment in cents
+     */
+    public static long calculateMonthlyPaymentCents(long principalCents, double annualInterestRate, int termInMonths) {
+        if (annualInterestRate == 0) {
+            return roundHalfEven(principalCents, termInMonths);
+        }
+        return (long) Math.rint(principalCents * LoanCalculator.calculatePaymentFactor(annualInterestRate, termInMonths));
+    }
+    
+    /**
+     * Calculate the total interest in cents over the life of a loan by walking the
+     * schedule, without storing it
+     * 
+     * @param principalCents The loan principal in cents
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The total interest in cents
+     */
+    public static long calculateTotalInterestCents(long principalCents, double annualInterestRate, int termInMonths) {
+        long rateUnits = toRateUnits(annualInterestRate);
+        long payment = calculateMonthlyPaymentCents(principalCents, annualInterestRate, termInMonths);
+        long balance = principalCents;
+        long totalInterest = 0;
+        
+        for (int month = 1; month <= termInMonths && balance > 0; month++) {
+            long interest = monthlyInterestCents(balance, rateUnits);
+            long principalPart = month == termInMonths ? balance : Math.min(payment - interest, balance);
+            balance -= principalPart;
+            totalInterest += interest;
+        }
+        
+        return totalInterest;
+    }
+    
+    /**
+     * Generate a penny-exact amortization schedule for a loan
+     * 
+     * @param principalCents The loan principal in cents
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @return The amortization table in cents
+     */
+    public static CentsAmortizationTable generateAmortizationTable(
+            long principalCents, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        
+        CentsAmortizationTable table = new CentsAmortizationTable(termInMonths);
+        long rateUnits = toRateUnits(annualInterestRate);
+        long payment = calculateMonthlyPaymentCents(principalCents, annualInterestRate, termInMonths);
+        long balance = principalCents;
+        int startYear = startDate.getYear();
+        int startMonth = startDate.getMonthValue();
+        int startDay = startDate.getDayOfMonth();
+        
+        for (int month = 1; month <= termInMonths; month++) {
+            long interest = monthlyInterestCents(balance, rateUnits);
+            long principalPart;
+            
+            if (month == termInMonths) {
+                // The final payment settles whatever the rounded level payment left over
+                principalPart = balance;
+            } else {
+                principalPart = Math.min(payment - interest, balance);
+            }
+            
+            balance -= principalPart;
+            
+            table.setRow(month - 1,
+                    AmortizationTable.epochDayPlusMonths(startYear, startMonth, startDay, month),
+                    principalPart + interest, principalPart, interest, balance);
+        }
+        
+        return table;
+    }
+    
+    /**
+     * Convert an annual rate to integer rate units
+     * 
+     * @param annualInterestRate The annual interest rate
+     * @return The rate in units of 1e-8
+     * @throws IllegalArgumentException If the rate is negative
+     */
+    private static long toRateUnits(double annualInterestRate) {
+        if (annualInterestRate < 0) {
+            throw new IllegalArgumentException("Interest rate cannot be negative");
+        }
+        return Math.round(annualInterestRate * RATE_SCALE);
+    }
+    
+    /**
+     * Calculate one month of interest on a balance, rounded half to even to the cent
+     * 
+     * @param balanceCents The balance in cents
+     * @param rateUnits The annual rate in units of 1e-8
+     * @return The interest in cents
+     */
+    private static long monthlyInterestCents(long balanceCents, long rateUnits) {
+        return roundHalfEven(Math.multiplyExact(balanceCents, rateUnits), MONTHLY_RATE_DIVISOR);
+    }
+    
+    /**
+     * Divide two non-negative integers, rounding the quotient half to even
+     * 
+     * @param dividend The dividend
+     * @param divisor The divisor
+     * @return The rounded quotient
+     */
+    static long roundHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+
+/**
+ * The effect of paying a fixed extra amount every month on a loan
+ * 
+ * @author Loan Organizer Team
+ */
+public class ExtraPaymentSavings {
+    private final double extraPayment;
+    private final double interestSaved;
+    private final int payoffMonths;
+    private final int monthsSaved;
+    private final LocalDate payoffDate;
+    
+    /**
+     * Constructor for extra payment savings
+     * 
+     * @param extraPayment The extra amount paid each month
+     * @param interestSaved The interest saved over the life of the loan
+     * @param payoffMonths The number of payments needed with the extra amount
+     * @param monthsSaved The number of payments saved
+     * @param payoffDate The date of the final payment
+     */
+    public ExtraPaymentSavings(double extraPayment, double interestSaved, int payoffMonths, int monthsSaved,
+            LocalDate payoffDate) {
+        this.extraPayment = extraPayment;
+        this.interestSaved = interestSaved;
+        this.payoffMonths = payoffMonths;
+        this.monthsSaved = monthsSaved;
+        this.payoffDate = payoffDate;
+    }
+    
+    /**
+     * Get the extra amount paid each month
+     * 
+     * @return The extra payment
+     */
+    public double getExtraPayment() {
+        return extraPayment;
+    }
+    
+    /**
+     * Get the interest saved over the life of the loan
+     * 
+     * @return The interest saved
+     */
+    public double getInterestSaved() {
+        return interestSaved;
+    }
+    
+    /**
+     * Get the number of payments needed with the extra amount
+     * 
+     * @return The payoff term in months
+     */
+    public int getPayoffMonths() {
+        return payoffMonths;
+    }
+    
+    /**
+     * Get the number of payments saved compared with the original term
+     * 
+     * @return The months saved
+     */
+    public int getMonthsSaved() {
+        return monthsSaved;
+    }
+    
+    /**
+     * Get the date of the final payment with the extra amount
+     * 
+     * @return The new payoff date
+     */
+    public LocalDate getPayoffDate() {
+        return payoffDate;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Extra %s/month: saves %s interest and %d months, paid off %s",
+                LoanCalculator.formatCurrency(extraPayment), LoanCalculator.formatCurrency(interestSaved),
+                monthsSaved, LoanCalculator.formatDate(payoffDate));
+    }
+}
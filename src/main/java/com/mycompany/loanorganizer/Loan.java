@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+
+/**
+ * The terms of a loan and the calculations that depend only on them. Both
+ * LoanAccount and a LoanBookStore.LoanView implement it, so code that only
+ * reads loans can run on heap objects and on memory-mapped records alike.
+ *
+ * @author Loan Organizer Team
+ */
+public interface Loan {
+
+    /**
+     * Get the loan name
+     *
+     * @return The loan name
+     */
+    String getLoanName();
+
+    /**
+     * Get the loan type
+     *
+     * @return The loan type
+     */
+    String getLoanType();
+
+    /**
+     * Get the loan principal amount
+     *
+     * @return The principal amount
+     */
+    double getPrincipal();
+
+    /**
+     * Get the annual interest rate of the loan
+     *
+     * @return The annual interest rate
+     */
+    double getAnnualInterestRate();
+
+    /**
+     * Get the term in months
+     *
+     * @return Term in months
+     */
+    int getTermInMonths();
+
+    /**
+     * Get the start date of the loan
+     *
+     * @return The start date
+     */
+    LocalDate getStartDate();
+
+    /**
+     * Get the maturity date of the loan
+     *
+     * @return The maturity date
+     */
+    LocalDate getMaturityDate();
+
+    /**
+     * Check if the loan is active
+     *
+     * @return True if the loan is active, false otherwise
+     */
+    boolean isActive();
+
+    /**
+     * Calculate the monthly payment amount for the loan
+     *
+     * @param numberOfPayments The number of payments to be made
+     * @return The monthly payment amount
+     */
+    double calculateMonthlyPayment(int numberOfPayments);
+
+    /**
+     * Calculate the total interest paid over the life of the loan
+     *
+     * @return The total interest amount
+     */
+    double calculateTotalInterest();
+
+    /**
+     * Calculate the remaining balance at a specific point in time
+     *
+     * @param asOfDate The date to calculate the balance for
+     * @return The remaining balance
+     */
+    double calculateRemainingBalance(LocalDate asOfDate);
+}
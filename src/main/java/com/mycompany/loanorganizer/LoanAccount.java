@@ -1,58 +1,69 @@
 /*
  * Copyright (c) 2025 Loan Organizer
- * All rights reserv    /**
-     * Constructor with principal and interest rate
-     * 
-     * @param principal The loan amount
-     * @param annualInterestRate The annual interest rate (decimal)
-     * @throws LoanException If parameters are invalid
-     */
-    public LoanAccount(double principal, double annualInterestRate) throws LoanException {
-        this();
-        validatePrincipal(principal);
-        validateInterestRate(annualInterestRate);
-        this.principal = principal;
-        this.annualInterestRate = annualInterestRate;
-    }kage com.mycompany.loanorganizer;
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.NumberFormat;
-import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * LoanAccount class represents a general loan with methods for calculations
- * and tracking of loan information.
+ * The LoanAccount class represents a loan with various properties and methods
+ * for calculating payments, interest, and amortization schedules.
  * 
- * @author Loan Organizer Team
- * @version 1.0
+ * A loan can be shared between threads. Payments are posted under a lock owned by
+ * the loan, so postings to different loans never contend and postings to the same
+ * loan keep a single order. Readers of the payment history never lock: they see an
+ * immutable snapshot of every payment posted before the read began.
+ * 
+ * @author Pranav Mishra
+ * @version 2.0
  */
-public class LoanAccount {
+public class LoanAccount implements Loan {
     // Class constants
-    private static double defaultInterestRate = 5.0;
-    private static final double MIN_PRINCIPAL = 1.0;
-    private static final double MAX_PRINCIPAL = 10000000.0; // 10 million
-    private static final double MIN_INTEREST_RATE = 0.0;
-    private static final double MAX_INTEREST_RATE = 0.5; // 50%
+    private static double defaultInterestRate = 0.05; // 5% default interest rate
     private static final int MIN_TERM = 1; // 1 month
     private static final int MAX_TERM = 600; // 50 years
     
+    // Latency timers, recorded only while LoanMetrics is enabled
+    private static final LoanMetrics.Timer AMORTIZATION_SCHEDULE =
+            LoanMetrics.timer("LoanAccount.generateAmortizationSchedule");
+    private static final LoanMetrics.Timer AMORTIZATION_TABLE =
+            LoanMetrics.timer("LoanAccount.generateAmortizationTable");
+    private static final LoanMetrics.Timer REMAINING_BALANCE =
+            LoanMetrics.timer("LoanAccount.calculateRemainingBalance");
+    private static final LoanMetrics.Timer REMAINING_BALANCES =
+            LoanMetrics.timer("LoanAccount.calculateRemainingBalances");
+    private static final LoanMetrics.Timer SAVINGS_WITH_EXTRA_PAYMENTS =
+            LoanMetrics.timer("LoanAccount.calculateSavingsWithExtraPayments");
+    
     // Instance variables
-    private String loanName;
-    private String loanType;
-    private double principal;
-    private double annualInterestRate;
-    private int termInMonths;
-    private LocalDate startDate;
-    private LocalDate maturityDate;
-    private List<Payment> paymentHistory;
-    private boolean isActive;
+    private volatile String loanName;
+    private volatile String loanType;
+    private volatile double principal;
+    private volatile double annualInterestRate;
+    private volatile int termInMonths;
+    private volatile LocalDate startDate;
+    private volatile LocalDate maturityDate;
+    private volatile PaymentLog paymentLog;
+    private PaymentLedger ledger;
+    private PaymentJournal journal;
+    private String journalLoanId;
+    private long journalSequence;
+    private final ArrayDeque<PendingPayment> pendingPayments = new ArrayDeque<>();
+    private volatile boolean isActive;
+    
+    // Serializes payment posting and changes that touch more than one field
+    private final Object lock = new Object();
     
     /**
      * Default constructor
@@ -65,7 +76,7 @@ public class LoanAccount {
         this.loanType = "General";
         this.startDate = LocalDate.now();
         this.maturityDate = null;
-        this.paymentHistory = new ArrayList<>();
+        this.paymentLog = PaymentLog.EMPTY;
         this.isActive = true;
     }
     
@@ -73,32 +84,53 @@ public class LoanAccount {
      * Constructor with principal and interest rate
      * 
      * @param principal The loan amount
-     * @param annualInterestRate The annual interest rate (percentage)
+     * @param annualInterestRate The annual interest rate (decimal)
+     * @throws LoanException If parameters are invalid
      */
-    public LoanAccount(double principal, double annualInterestRate) {
+    public LoanAccount(double principal, double annualInterestRate) throws LoanException {
         this();
+        validatePrincipal(principal);
+        validateInterestRate(annualInterestRate);
         this.principal = principal;
         this.annualInterestRate = annualInterestRate;
     }
     
+    /**
+     * Constructor with parameters
+     * 
+     * @param loanName The name of the loan
+     * @param loanType The type of loan (e.g., Auto, Personal, Mortgage)
+     * @param principal The loan principal amount
+     * @param annualInterestRate The annual interest rate (decimal)
+     * @param termInMonths The term of the loan in months
+     */
+    public LoanAccount(String loanName, String loanType, double principal,
+                       double annualInterestRate, int termInMonths) {
+        this(loanName, loanType, principal, annualInterestRate, termInMonths, LocalDate.now());
+    }
+    
     /**
      * Constructor with all basic loan parameters
      * 
      * @param loanName The name of the loan
      * @param loanType The type of loan
      * @param principal The loan amount
-     * @param annualInterestRate The annual interest rate (percentage)
+     * @param annualInterestRate The annual interest rate (decimal)
      * @param termInMonths The term of the loan in months
      * @param startDate The start date of the loan
      */
-    public LoanAccount(String loanName, String loanType, double principal, 
+    public LoanAccount(String loanName, String loanType, double principal,
             double annualInterestRate, int termInMonths, LocalDate startDate) {
-        this(principal, annualInterestRate);
+        // Assigned directly rather than through this(), which would read the clock for a date that is replaced
         this.loanName = loanName;
         this.loanType = loanType;
+        this.principal = principal;
+        this.annualInterestRate = annualInterestRate;
         this.termInMonths = termInMonths;
         this.startDate = startDate;
         this.maturityDate = startDate.plusMonths(termInMonths);
+        this.paymentLog = PaymentLog.EMPTY;
+        this.isActive = true;
     }
     
     /**
@@ -106,7 +138,7 @@ public class LoanAccount {
      * 
      * @param interestRate The default interest rate
      */
-    public static void setDefaultInterestRate(double interestRate){
+    public static void setDefaultInterestRate(double interestRate) {
         defaultInterestRate = interestRate;
     }
     
@@ -127,7 +159,9 @@ public class LoanAccount {
      */
     public void setAnnualInterestRate(double annualInterestRate) throws LoanException {
         validateInterestRate(annualInterestRate);
-        this.annualInterestRate = annualInterestRate;
+        synchronized (lock) {
+            this.annualInterestRate = annualInterestRate;
+        }
     }
     
     /**
@@ -147,7 +181,9 @@ public class LoanAccount {
      */
     public void setPrincipal(double principal) throws LoanException {
         validatePrincipal(principal);
-        this.principal = principal;
+        synchronized (lock) {
+            this.principal = principal;
+        }
     }
     
     /**
@@ -203,9 +239,11 @@ public class LoanAccount {
      */
     public void setTermInMonths(int termInMonths) throws LoanException {
         validateTerm(termInMonths);
-        this.termInMonths = termInMonths;
-        if (this.startDate != null) {
-            this.maturityDate = this.startDate.plusMonths(termInMonths);
+        synchronized (lock) {
+            this.termInMonths = termInMonths;
+            if (this.startDate != null) {
+                this.maturityDate = this.startDate.plusMonths(termInMonths);
+            }
         }
     }
     
@@ -224,9 +262,11 @@ public class LoanAccount {
      * @param startDate The start date
      */
     public void setStartDate(LocalDate startDate) {
-        this.startDate = startDate;
-        if (this.termInMonths > 0) {
-            this.maturityDate = startDate.plusMonths(termInMonths);
+        synchronized (lock) {
+            this.startDate = startDate;
+            if (this.termInMonths > 0) {
+                this.maturityDate = startDate.plusMonths(termInMonths);
+            }
         }
     }
     
@@ -240,214 +280,98 @@ public class LoanAccount {
     }
     
     /**
-     * Get payment history for the loan
+     * Get payment history for the loan. The list is a copy of a consistent
+     * snapshot and is never affected by payments posted later.
      * 
      * @return List of payments
      */
     public List<Payment> getPaymentHistory() {
-        return new ArrayList<>(paymentHistory);
+        PaymentLog log = paymentLog;
+        return new ArrayList<>(Arrays.asList(log.payments).subList(0, log.size));
     }
     
     /**
-     * Calculate how much money would be saved by making extra payments
+     * Get the number of payments recorded on the loan, without copying the history
      * 
-     * @param extraPayment The amount of extra payment per month
-     * @return Amount saved in interest
+     * @return The payment count
      */
-    public double calculateSavingsWithExtraPayments(double extraPayment) {
-        double standardTotalInterest = calculateTotalInterest();
-        
-        // Calculate new term with extra payments
-        double monthlyPayment = calculateMonthlyPayment(termInMonths);
-        double effectiveMonthlyPayment = monthlyPayment + extraPayment;
-        
-        double remainingBalance = principal;
-        double monthlyRate = annualInterestRate / 12;
-        double totalInterestWithExtra = 0;
-        int paymentsNeeded = 0;
-        
-        while (remainingBalance > 0 && paymentsNeeded < termInMonths) {
-            double interestPayment = remainingBalance * monthlyRate;
-            double principalPayment = effectiveMonthlyPayment - interestPayment;
-            
-            if (principalPayment >= remainingBalance) {
-                totalInterestWithExtra += (remainingBalance * monthlyRate);
-                remainingBalance = 0;
-            } else {
-                remainingBalance -= principalPayment;
-                totalInterestWithExtra += interestPayment;
-            }
-            
-            paymentsNeeded++;
-        }
-        
-        return standardTotalInterest - totalInterestWithExtra;
+    public int getPaymentCount() {
+        return paymentLog.size;
     }
     
     /**
-     * Main method to demonstrate the loan account functionality
+     * Switch the loan to ledger mode. A running-balance ledger is built from the
+     * loan's current principal, rate and start date, and the payments recorded so
+     * far are posted to it in date order. From then on recordPayment posts to the
+     * ledger and calculateRemainingBalance reports the balance actually owed
+     * rather than the scheduled one. Calling it again has no effect.
      * 
-     * @param args Command line arguments
+     * @return The loan's ledger
+     * @throws IllegalStateException If a recorded payment is dated before the start
+     *         date, or a payment still waiting on the journal is dated before a
+     *         recorded one, so the ledger could not hold every payment in the
+     *         history; the loan then stays out of ledger mode
      */
-    public static void main(String[] args){
-        // Creating loan objects with different configurations
-        LoanAccount loan1 = new LoanAccount("Car Loan", "Auto", 5000, 0.01, 36);
-        LoanAccount loan2 = new LoanAccount("Home Loan", "Mortgage", 31000, 0.01, 60);
-        
-        // Display loan information and monthly payments
-        displayLoanInformation(loan1, loan2);
-        
-        // Display comparison at different interest rates
-        System.out.println("\n--- PAYMENT COMPARISON AT DIFFERENT INTEREST RATES ---");
-        
-        // 1% interest rate
-        displayInterestRateComparison(loan1, loan2, 0.01);
-        
-        // 5% interest rate
-        displayInterestRateComparison(loan1, loan2, 0.05);
-        
-        // Generate and display amortization schedule for loan1
-        System.out.println("\n--- AMORTIZATION SCHEDULE FOR " + loan1.getLoanName() + " ---");
-        displayAmortizationSchedule(loan1, 5); // Display first 5 months
-        
-        // Calculate and display savings with extra payments
-        double extraPayment = 50.0;
-        System.out.println("\n--- SAVINGS WITH EXTRA PAYMENTS ---");
-        System.out.printf("Making an extra $%.2f payment each month on %s:%n", 
-                extraPayment, loan1.getLoanName());
-        
-        double savings = loan1.calculateSavingsWithExtraPayments(extraPayment);
-        System.out.printf("Total interest savings: $%.2f%n", savings);
+    public PaymentLedger enableLedger() {
+        synchronized (lock) {
+            if (ledger == null) {
+                List<Payment> payments = getPaymentHistory();
+                payments.sort(Comparator.comparing(Payment::getDate));
+                PaymentLedger newLedger = new PaymentLedger(principal, annualInterestRate, startDate);
+                for (Payment payment : payments) {
+                    if (!newLedger.post(payment.getAmount(), payment.getDate())) {
+                        throw new IllegalStateException("Cannot enable ledger mode: payment dated "
+                                + payment.getDate() + " is before the loan's start date " + startDate);
+                    }
+                }
+                // Journaled payments are posted in journal order once they are durable
+                LocalDate lastDate = newLedger.getLastPostingDate();
+                for (PendingPayment pending : pendingPayments) {
+                    if (pending.payment.getDate().isBefore(lastDate)) {
+                        throw new IllegalStateException("Cannot enable ledger mode: pending payment dated "
+                                + pending.payment.getDate() + " is before " + lastDate);
+                    }
+                    lastDate = pending.payment.getDate();
+                }
+                ledger = newLedger;
+            }
+            return ledger;
+        }
     }
     
     /**
-     * Display loan information for two loans
+     * Persist every payment recorded from now on to a journal. Once attached,
+     * recordPayment returns only after the payment is durable, and a payment is
+     * added to the history and ledger only then, in the order it was journaled.
      * 
-     * @param loan1 First loan
-     * @param loan2 Second loan
-     */
-    private static void displayLoanInformation(LoanAccount loan1, LoanAccount loan2) {
-        System.out.println("=== LOAN ACCOUNT DETAILS ===");
-        System.out.println("Loan 1: " + loan1.getLoanName() + " (" + loan1.getLoanType() + ")");
-        System.out.printf("Principal: $%.2f, Interest Rate: %.2f%%, Term: %d months%n", 
-                loan1.getPrincipal(), loan1.getAnnualInterestRate() * 100, loan1.getTermInMonths());
-        
-        System.out.println("\nLoan 2: " + loan2.getLoanName() + " (" + loan2.getLoanType() + ")");
-        System.out.printf("Principal: $%.2f, Interest Rate: %.2f%%, Term: %d months%n", 
-                loan2.getPrincipal(), loan2.getAnnualInterestRate() * 100, loan2.getTermInMonths());
-    }
-    
-    /**
-     * Display payment comparison at a specific interest rate
+     * If the journal cannot write a payment, recordPayment throws
+     * UncheckedIOException and the payment is not in the history or ledger. It may
+     * still have reached the disk before the failure, so after reopening the
+     * journal check the recovered history before posting it again. A failed
+     * journal stays failed: every later payment throws UncheckedIOException too,
+     * and IllegalStateException is thrown once the journal is closed.
      * 
-     * @param loan1 First loan
-     * @param loan2 Second loan
-     * @param interestRate Interest rate to use
+     * @param journal The journal to write to
+     * @param loanId The id that identifies this loan in the journal
      */
-    private static void displayInterestRateComparison(LoanAccount loan1, LoanAccount loan2, double interestRate) {
-        // Save original rates
-        double origRate1 = loan1.getAnnualInterestRate();
-        double origRate2 = loan2.getAnnualInterestRate();
-        
-        // Set rates for comparison
-        loan1.setAnnualInterestRate(interestRate);
-        loan2.setAnnualInterestRate(interestRate);
-        
-        System.out.printf("%nMonthly payments for loans at %.1f%% interest:%n", interestRate * 100);
-        System.out.println("Loan\t3years\t5years\t6years");
-        
-        // Loan 1 calculations
-        String loan1_three_years = String.format("%.2f", loan1.calculateMonthlyPayment(36));
-        String loan1_five_years = String.format("%.2f", loan1.calculateMonthlyPayment(60));
-        String loan1_six_years = String.format("%.2f", loan1.calculateMonthlyPayment(72));
-        
-        // Loan 2 calculations
-        String loan2_three_years = String.format("%.2f", loan2.calculateMonthlyPayment(36));
-        String loan2_five_years = String.format("%.2f", loan2.calculateMonthlyPayment(60));
-        String loan2_six_years = String.format("%.2f", loan2.calculateMonthlyPayment(72));
-        
-        // Print results
-        System.out.println(loan1.getLoanName() + "\t" + loan1_three_years + "\t" + 
-                loan1_five_years + "\t" + loan1_six_years);
-        System.out.println(loan2.getLoanName() + "\t" + loan2_three_years + "\t" + 
-                loan2_five_years + "\t" + loan2_six_years);
-        
-        // Restore original rates
-        loan1.setAnnualInterestRate(origRate1);
-        loan2.setAnnualInterestRate(origRate2);
+    public void attachJournal(PaymentJournal journal, String loanId) {
+        PaymentJournal.encodeLoanId(loanId);
+        synchronized (lock) {
+            this.journal = journal;
+            this.journalLoanId = loanId;
+        }
     }
     
     /**
-     * Display an amortization schedule for a loan
+     * Get the loan's running-balance ledger. A ledger is not thread-safe; when the
+     * loan is shared between threads, query balances through the loan instead.
      * 
-     * @param loan The loan
-     * @param monthsToShow Number of months to show
+     * @return The ledger, or null if ledger mode is not enabled
      */
-    private static void displayAmortizationSchedule(LoanAccount loan, int monthsToShow) {
-        List<PaymentDetails> schedule = loan.generateAmortizationSchedule();
-        int months = Math.min(monthsToShow, schedule.size());
-        
-        System.out.println("Month\tPayment\tPrincipal\tInterest\tRemaining Balance");
-        for (int i = 0; i < months; i++) {
-            PaymentDetails payment = schedule.get(i);
-            System.out.printf("%d\t$%.2f\t$%.2f\t$%.2f\t$%.2f%n",
-                    payment.getMonth(),
-                    payment.getMonthlyPayment(),
-                    payment.getPrincipalPayment(),
-                    payment.getInterestPayment(),
-                    payment.getRemainingBalance());
+    public PaymentLedger getLedger() {
+        synchronized (lock) {
+            return ledger;
         }
-        System.out.println("... (remaining payments omitted)");
-    }hronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * The LoanAccount class represents a loan with various properties and methods
- * for calculating payments, interest, and amortization schedules.
- *
- * @author Pranav Mishra
- * @version 2.0
- */
-public class LoanAccount {
-    private static double defaultInterestRate = 0.05; // 5% default interest rate
-    private double annualInterestRate;
-    private double principal;
-    private String loanName;
-    private String loanType;
-    private int termInMonths;
-    private LocalDate startDate;
-    private LocalDate maturityDate;
-    private List<Payment> paymentHistory;
-
-    /**
-     * Default constructor
-     */
-    public LoanAccount() {
-        this.annualInterestRate = defaultInterestRate;
-        this.paymentHistory = new ArrayList<>();
-        this.startDate = LocalDate.now();
-    }
-
-    /**
-     * Constructor with parameters
-     * 
-     * @param loanName The name of the loan
-     * @param loanType The type of loan (e.g., Auto, Personal, Mortgage)
-     * @param principal The loan principal amount
-     * @param annualInterestRate The annual interest rate (decimal)
-     * @param termInMonths The term of the loan in months
-     */
-    public LoanAccount(String loanName, String loanType, double principal, 
-                       double annualInterestRate, int termInMonths) {
-        this.loanName = loanName;
-        this.loanType = loanType;
-        this.principal = principal;
-        this.annualInterestRate = annualInterestRate;
-        this.termInMonths = termInMonths;
-        this.paymentHistory = new ArrayList<>();
-        this.startDate = LocalDate.now();
-        this.maturityDate = startDate.plusMonths(termInMonths);
     }
     
     /**
@@ -456,10 +380,8 @@ public class LoanAccount {
      * @param numberOfPayments The number of payments to be made
      * @return The monthly payment amount
      */
-    public double calculateMonthlyPayment(int numberOfPayments){
-        double monthlyInterest = annualInterestRate / 12;
-        double monthlyPayment = principal * ( monthlyInterest / (1 - Math.pow(1 + monthlyInterest, -numberOfPayments)));
-        return monthlyPayment;
+    public double calculateMonthlyPayment(int numberOfPayments) {
+        return LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, numberOfPayments);
     }
     
     /**
@@ -479,10 +401,84 @@ public class LoanAccount {
      * @return List of payment details for each month
      */
     public List<PaymentDetails> generateAmortizationSchedule() {
-        List<PaymentDetails> schedule = new ArrayList<>();
-        double monthlyPayment = calculateMonthlyPayment(termInMonths);
+        long start = LoanMetrics.start();
+        LoanEvents.ScheduleEvent event = new LoanEvents.ScheduleEvent();
+        event.begin();
+        try {
+            ScheduleCache cache = LoanCalculator.getScheduleCache();
+            if (cache != null) {
+                List<PaymentDetails> schedule = cache.get(principal, annualInterestRate, termInMonths, startDate,
+                        false).asList();
+                event.finish(loanType, termInMonths, schedule.size());
+                return schedule;
+            }
+            
+            List<PaymentDetails> schedule = new ArrayList<>();
+            double monthlyPayment = calculateMonthlyPayment(termInMonths);
+            double remainingBalance = principal;
+            double monthlyRate = annualInterestRate / 12;
+            
+            for (int month = 1; month <= termInMonths; month++) {
+                double interestPayment = remainingBalance * monthlyRate;
+                double principalPayment = monthlyPayment - interestPayment;
+                
+                remainingBalance -= principalPayment;
+                
+                LocalDate paymentDate = startDate.plusMonths(month);
+                
+                PaymentDetails details = new PaymentDetails(
+                    month, paymentDate, monthlyPayment, principalPayment,
+                    interestPayment, remainingBalance
+                );
+                
+                schedule.add(details);
+            }
+            
+            event.finish(loanType, termInMonths, schedule.size());
+            return schedule;
+        } finally {
+            AMORTIZATION_SCHEDULE.record(start);
+        }
+    }
+    
+    /**
+     * Generate an amortization schedule for the loan as a columnar table.
+     * The rows are identical to those of generateAmortizationSchedule, but the
+     * table is backed by primitive arrays instead of one object per month.
+     * 
+     * @return The amortization table
+     */
+    public AmortizationTable generateAmortizationTable() {
+        long start = LoanMetrics.start();
+        try {
+            ScheduleCache cache = LoanCalculator.getScheduleCache();
+            if (cache != null) {
+                return cache.get(principal, annualInterestRate, termInMonths, startDate, false);
+            }
+            return buildAmortizationTable(principal, annualInterestRate, termInMonths, startDate);
+        } finally {
+            AMORTIZATION_TABLE.record(start);
+        }
+    }
+    
+    /**
+     * Build the table returned by generateAmortizationTable, bypassing the cache
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @return The amortization table
+     */
+    static AmortizationTable buildAmortizationTable(
+            double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        AmortizationTable table = new AmortizationTable(termInMonths);
+        double monthlyPayment = LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
         double remainingBalance = principal;
         double monthlyRate = annualInterestRate / 12;
+        int startYear = startDate.getYear();
+        int startMonth = startDate.getMonthValue();
+        int startDay = startDate.getDayOfMonth();
         
         for (int month = 1; month <= termInMonths; month++) {
             double interestPayment = remainingBalance * monthlyRate;
@@ -490,17 +486,23 @@ public class LoanAccount {
             
             remainingBalance -= principalPayment;
             
-            LocalDate paymentDate = startDate.plusMonths(month);
-            
-            PaymentDetails details = new PaymentDetails(
-                month, paymentDate, monthlyPayment, principalPayment, 
-                interestPayment, remainingBalance
-            );
-            
-            schedule.add(details);
+            table.setRow(month - 1,
+                    AmortizationTable.epochDayPlusMonths(startYear, startMonth, startDay, month),
+                    monthlyPayment, principalPayment, interestPayment, remainingBalance);
         }
         
-        return schedule;
+        return table;
+    }
+    
+    /**
+     * Stream the amortization schedule for the loan, computing each row only when
+     * it is consumed. The rows match generateAmortizationSchedule.
+     * 
+     * @return A lazily computed stream of payment details
+     */
+    public Stream<PaymentDetails> amortizationStream() {
+        return StreamSupport.stream(new AmortizationSpliterator(
+                principal, annualInterestRate, termInMonths, startDate, false), false);
     }
     
     /**
@@ -509,181 +511,434 @@ public class LoanAccount {
      * @param amount The payment amount
      * @param date The date of the payment
      * @param notes Additional notes about the payment
+     * @return True if the payment was recorded, false if it was rejected. In ledger
+     *         mode payments dated before the last posted payment are also rejected.
+     * @throws UncheckedIOException If an attached journal failed to write the payment
+     * @throws IllegalStateException If an attached journal is closed
      */
-    public void recordPayment(double amount, LocalDate date, String notes) {
-        Payment payment = new Payment(amount, date, notes);
-        paymentHistory.add(payment);
+    public boolean recordPayment(double amount, LocalDate date, String notes) {
+        LoanEvents.PaymentEvent event = new LoanEvents.PaymentEvent();
+        event.begin();
+        boolean recorded = false;
+        try {
+            recorded = postPayment(amount, date, notes);
+            return recorded;
+        } finally {
+            event.amount = amount;
+            event.accepted = recorded;
+            event.finish(loanType, termInMonths, getPaymentCount());
+        }
     }
     
     /**
-     * Calculate the remaining balance at a specific point in time
+     * Validate a payment, journal it if a journal is attached, and add it to the
+     * history and ledger once it is durable
      * 
-     * @param asOfDate The date to calculate the balance for
-     * @return The remaining balance
+     * @param amount Payment amount
+     * @param date Payment date
+     * @param notes Additional notes about the payment
+     * @return True if payment was recorded successfully
      */
-    public double calculateRemainingBalance(LocalDate asOfDate) {
-        if (asOfDate.isBefore(startDate)) {
-            return principal;
+    private boolean postPayment(double amount, LocalDate date, String notes) {
+        if (amount <= 0 || date == null) {
+            return false;
         }
-        
-        if (maturityDate != null && asOfDate.isAfter(maturityDate)) {
-            return 0.0;
+        Payment payment = new Payment(amount, date, notes);
+        PaymentJournal target;
+        long sequence;
+        synchronized (lock) {
+            if (ledger != null && !(ledger.accepts(amount, date) && (pendingPayments.isEmpty()
+                    || !date.isBefore(pendingPayments.peekLast().payment.getDate())))) {
+                return false;
+            }
+            target = journal;
+            if (target == null) {
+                publish(payment);
+                return true;
+            }
+            sequence = target.append(journalLoanId, payment);
+            pendingPayments.addLast(new PendingPayment(payment, sequence));
         }
         
-        long monthsPassed = ChronoUnit.MONTHS.between(startDate, asOfDate);
-        double monthlyPayment = calculateMonthlyPayment(termInMonths);
-        double remainingBalance = principal;
-        double monthlyRate = annualInterestRate / 12;
-        
-        for (int i = 0; i < monthsPassed; i++) {
-            double interestPayment = remainingBalance * monthlyRate;
-            double principalPayment = monthlyPayment - interestPayment;
-            remainingBalance -= principalPayment;
+        // Wait outside the lock so the next payment on this loan joins the same fsync
+        try {
+            target.awaitDurable(sequence);
+        } catch (IOException e) {
+            // Records become durable in sequence order, so nothing after this one
+            // can have been published either
+            synchronized (lock) {
+                pendingPayments.removeIf(pending -> pending.sequence == sequence);
+            }
+            throw new UncheckedIOException(e);
         }
-        
-        return Math.max(0, remainingBalance);
+        synchronized (lock) {
+            publishThrough(sequence);
+        }
+        return true;
     }
     
     /**
-     * Check if the loan is active
+     * Publish the journaled payments up to a sequence number, which must be durable.
+     * Must only be called by the thread holding the loan's lock.
      * 
-     * @return True if the loan is active, false otherwise
+     * @param sequence The last sequence number to publish
      */
-    public boolean isActive() {
-        return isActive;
+    private void publishThrough(long sequence) {
+        while (!pendingPayments.isEmpty() && pendingPayments.peekFirst().sequence <= sequence) {
+            PendingPayment pending = pendingPayments.removeFirst();
+            publish(pending.payment);
+            journalSequence = pending.sequence;
+        }
     }
     
     /**
-     * Set the loan as active or inactive
+     * Add a payment to the ledger and history. Must only be called by the thread
+     * holding the loan's lock.
      * 
-     * @param active True to set as active, false for inactive
+     * @param payment The payment
      */
-    public void setActive(boolean active) {
-        this.isActive = active;
+    private void publish(Payment payment) {
+        if (ledger != null) {
+            ledger.post(payment.getAmount(), payment.getDate());
+        }
+        paymentLog = paymentLog.append(payment);
     }
     
     /**
-     * Format a currency amount
+     * Add a payment read back from a journal, without writing it to the journal again
      * 
-     * @param amount The amount to format
-     * @return The formatted amount as a string
+     * @param payment The payment
+     * @param sequence The journal sequence number the payment was written with
+     * @return True if the payment was restored, false if the loan is in ledger mode
+     *         and the ledger rejects it; it is then added to neither the history
+     *         nor the ledger
      */
-    public static String formatCurrency(double amount) {
-        return String.format("$%.2f", amount);
+    boolean restorePayment(Payment payment, long sequence) {
+        synchronized (lock) {
+            if (ledger != null && !ledger.post(payment.getAmount(), payment.getDate())) {
+                return false;
+            }
+            paymentLog = paymentLog.append(payment);
+            journalSequence = Math.max(journalSequence, sequence);
+            return true;
+        }
     }
     
     /**
-     * Set the default interest rate for all loans
+     * Copy the payment history together with the journal sequence number of the
+     * last journaled payment, as one consistent snapshot. Journaled payments still
+     * waiting to be published are published first if they are durable.
      * 
-     * @param interestRate The default interest rate to set
+     * @param payments The list to add the payments to
+     * @param durableSequence A sequence number the journal has made durable
+     * @return The journal sequence number of the last journaled payment
      */
-    public static void setDefaultInterestRate(double interestRate) {
-        defaultInterestRate = interestRate;
+    long snapshotPayments(List<Payment> payments, long durableSequence) {
+        synchronized (lock) {
+            publishThrough(durableSequence);
+            PaymentLog log = paymentLog;
+            payments.addAll(Arrays.asList(log.payments).subList(0, log.size));
+            return journalSequence;
+        }
     }
     
     /**
-     * Set the annual interest rate for all loan objects statically
+     * Calculate the remaining balance at a specific point in time. In ledger mode
+     * this is the principal still owed after the payments actually recorded;
+     * otherwise it is the balance on the amortization schedule.
      * 
-     * @param rate The annual interest rate to set
+     * @param asOfDate The date to calculate the balance for
+     * @return The remaining balance
      */
-    public static void setAnnualInterestRate(double rate) {
-        defaultInterestRate = rate;
+    public double calculateRemainingBalance(LocalDate asOfDate) {
+        long start = LoanMetrics.start();
+        LoanEvents.RemainingBalanceEvent event = new LoanEvents.RemainingBalanceEvent();
+        event.begin();
+        int rows = 0;
+        try {
+            synchronized (lock) {
+                if (ledger != null) {
+                    rows = ledger.getPaymentCount();
+                    return ledger.getPrincipalBalance(asOfDate);
+                }
+            }
+            
+            if (asOfDate.isBefore(startDate)) {
+                return principal;
+            }
+            
+            if (maturityDate != null && asOfDate.isAfter(maturityDate)) {
+                rows = termInMonths;
+                return 0.0;
+            }
+            
+            long monthsPassed = ChronoUnit.MONTHS.between(startDate, asOfDate);
+            rows = (int) monthsPassed;
+            return LoanCalculator.calculateRemainingBalance(
+                    principal, annualInterestRate, termInMonths, monthsPassed);
+        } finally {
+            REMAINING_BALANCE.record(start);
+            event.finish(loanType, termInMonths, rows);
+        }
     }
     
     /**
-     * Validate the loan principal amount
+     * Calculate the remaining balance at several points in time in one call. The
+     * loan's terms are read once, so every balance comes from the same snapshot
+     * even while another thread changes them, and the growth over the term is
+     * worked out once for all the dates.
      * 
-     * @param principal The principal to validate
-     * @throws LoanException If the principal is invalid
+     * @param asOfDates The dates to calculate balances for
+     * @return The remaining balance for each date, in the same order
      */
-    private void validatePrincipal(double principal) throws LoanException {
-        if (principal <= 0) {
-            throw new LoanException("Principal amount must be greater than zero");
+    public double[] calculateRemainingBalances(List<LocalDate> asOfDates) {
+        long start = LoanMetrics.start();
+        try {
+            double[] balances = new double[asOfDates.size()];
+            double loanPrincipal;
+            double monthlyRate;
+            int term;
+            LocalDate loanStartDate;
+            LocalDate loanMaturityDate;
+            synchronized (lock) {
+                if (ledger != null) {
+                    for (int i = 0; i < balances.length; i++) {
+                        balances[i] = ledger.getPrincipalBalance(asOfDates.get(i));
+                    }
+                    return balances;
+                }
+                loanPrincipal = principal;
+                monthlyRate = annualInterestRate / 12;
+                term = termInMonths;
+                loanStartDate = startDate;
+                loanMaturityDate = maturityDate;
+            }
+            
+            double growthOverTerm = LoanCalculator.growthOverTerm(monthlyRate, term);
+            for (int i = 0; i < balances.length; i++) {
+                LocalDate asOfDate = asOfDates.get(i);
+                if (asOfDate.isBefore(loanStartDate)) {
+                    balances[i] = loanPrincipal;
+                } else if (loanMaturityDate != null && asOfDate.isAfter(loanMaturityDate)) {
+                    balances[i] = 0.0;
+                } else {
+                    balances[i] = LoanCalculator.remainingBalance(loanPrincipal, monthlyRate, term, growthOverTerm,
+                            ChronoUnit.MONTHS.between(loanStartDate, asOfDate));
+                }
+            }
+            return balances;
+        } finally {
+            REMAINING_BALANCES.record(start);
         }
     }
     
     /**
-     * Validate the interest rate
+     * Calculate how much money would be saved by making extra payments
      * 
-     * @param interestRate The interest rate to validate
-     * @throws LoanException If the interest rate is invalid
+     * @param extraPayment The amount of extra payment per month
+     * @return Amount saved in interest
      */
-    private void validateInterestRate(double interestRate) throws LoanException {
-        if (interestRate < 0) {
-            throw new LoanException("Interest rate cannot be negative");
-        }
-        if (interestRate > 1.0) {
-            throw new LoanException("Interest rate should be expressed as a decimal (e.g., 0.05 for 5%)");
+    public double calculateSavingsWithExtraPayments(double extraPayment) {
+        long start = LoanMetrics.start();
+        try {
+            return calculateExtraPaymentSavings(extraPayment).getInterestSaved();
+        } finally {
+            SAVINGS_WITH_EXTRA_PAYMENTS.record(start);
         }
     }
     
     /**
-     * Validate the term in months
+     * Calculate the interest saved, months saved and new payoff date from paying a
+     * fixed extra amount every month
      * 
-     * @param termInMonths The term to validate
-     * @throws LoanException If the term is invalid
+     * @param extraPayment The amount of extra payment per month
+     * @return The savings
      */
-    private void validateTerm(int termInMonths) throws LoanException {
-        if (termInMonths <= 0) {
-            throw new LoanException("Loan term must be greater than zero");
-        }
-        if (termInMonths > 600) { // 50 years max
-            throw new LoanException("Loan term exceeds maximum allowed (600 months)");
+    public ExtraPaymentSavings calculateExtraPaymentSavings(double extraPayment) {
+        return calculateExtraPaymentSavings(new double[] {extraPayment}).get(0);
+    }
+    
+    /**
+     * Calculate the savings for several extra payment amounts in one call, such as
+     * the stops on a slider. The standard payment and interest are worked out once
+     * and each amount then costs a few logarithms and powers, whatever the term.
+     * 
+     * @param extraPayments The extra payment amounts per month
+     * @return The savings for each amount, in the same order
+     */
+    public List<ExtraPaymentSavings> calculateExtraPaymentSavings(double[] extraPayments) {
+        double loanPrincipal = principal;
+        double monthlyRate = annualInterestRate / 12;
+        int term = termInMonths;
+        LocalDate loanStartDate = startDate;
+        
+        double monthlyPayment = calculateMonthlyPayment(term);
+        double standardTotalInterest = monthlyPayment * term - loanPrincipal;
+        double logGrowth = Math.log1p(monthlyRate);
+        
+        List<ExtraPaymentSavings> savings = new ArrayList<>(extraPayments.length);
+        for (double extraPayment : extraPayments) {
+            double payment = monthlyPayment + extraPayment;
+            
+            // Number of full payments before the final, partial one, from the same
+            // log formula as LoanCalculator.calculateMonthsUntilPayoff. A payment that
+            // never clears the balance runs for the whole term, as does one whose
+            // payoff would come later than that.
+            int fullPayments = term;
+            if (monthlyRate == 0) {
+                // A negative extra payment can leave nothing to pay, which never clears it
+                if (payment > 0) {
+                    fullPayments = (int) Math.min(term, Math.floor(loanPrincipal / payment));
+                }
+            } else if (payment > loanPrincipal * monthlyRate) {
+                double months = Math.log(payment / (payment - loanPrincipal * monthlyRate)) / logGrowth;
+                fullPayments = (int) Math.min(term, Math.floor(months));
+            }
+            
+            // Balance after the full payments, then the final payment clears it with
+            // one more month of interest
+            double growth = Math.pow(1 + monthlyRate, fullPayments);
+            double balance = monthlyRate == 0
+                    ? loanPrincipal - payment * fullPayments
+                    : loanPrincipal * growth - payment * (growth - 1) / monthlyRate;
+            int payoffMonths = fullPayments;
+            double interestWithExtra = payment * fullPayments - (loanPrincipal - balance);
+            if (fullPayments < term && balance > loanPrincipal * 1e-12) {
+                payoffMonths++;
+                interestWithExtra += balance * monthlyRate;
+            }
+            
+            savings.add(new ExtraPaymentSavings(extraPayment, standardTotalInterest - interestWithExtra,
+                    payoffMonths, term - payoffMonths, loanStartDate.plusMonths(payoffMonths)));
         }
+        return savings;
     }
     
     /**
-     * Main method to demonstrate loan calculations
+     * Check if the loan is active
      * 
-     * @param args Command line arguments (not used)
+     * @return True if the loan is active, false otherwise
+     */
+    public boolean isActive() {
+        return isActive;
+    }
+    
+    /**
+     * Set the loan as active or inactive
+     * 
+     * @param active True to set as active, false for inactive
+     */
+    public void setActive(boolean active) {
+        this.isActive = active;
+    }
+    
+    /**
+     * Format a currency amount
+     * 
+     * @param amount The amount to format
+     * @return The formatted amount as a string
+     */
+    public static String formatCurrency(double amount) {
+        return LoanFormatter.US.appendCurrency(new StringBuilder(16), amount, false).toString();
+    }
+    
+    /**
+     * Main method to demonstrate the loan account functionality
+     * 
+     * @param args Command line arguments
      */
     public static void main(String[] args) {
-        // Creating objects loan1 an loan2
-        LoanAccount loan1 = new LoanAccount();
-        LoanAccount loan2 = new LoanAccount();
+        // Creating loan objects with different configurations
+        LoanAccount loan1 = new LoanAccount("Car Loan", "Auto", 5000, 0.01, 36);
+        LoanAccount loan2 = new LoanAccount("Home Loan", "Mortgage", 31000, 0.01, 60);
         
-        // Assigning the principal amounts for the respective objects
-        loan1.principal = 5000;
-        loan2.principal = 31000;
+        // Display loan information and monthly payments
+        displayLoanInformation(loan1, loan2);
         
-        // Setting the annual interest rate
-        setAnnualInterestRate(0.01);
+        // Display comparison at different interest rates
+        System.out.println("\n--- PAYMENT COMPARISON AT DIFFERENT INTEREST RATES ---");
         
-        // Formatting the monthly payments for the respective loan objects according to the number of months
-        String loan1_three_years = String.format("%.2f",loan1.calculateMonthlyPayment(36));
-        String loan1_five_years = String.format("%.2f",loan1.calculateMonthlyPayment(60));
-        String loan1_six_years = String.format("%.2f",loan1.calculateMonthlyPayment(72));
-        String loan2_three_years = String.format("%.2f",loan2.calculateMonthlyPayment(36));
-        String loan2_five_years = String.format("%.2f",loan2.calculateMonthlyPayment(60));
-        String loan2_six_years = String.format("%.2f",loan2.calculateMonthlyPayment(72));
+        // 1% interest rate
+        displayInterestRateComparison(loan1, loan2, 0.01);
         
-        // Printing the output
-        System.out.println("Monthly payments for loan1 of $5000.00 and loan2 for 3,5 and 6 year loans at 1% interest.");
-        System.out.println("Loan\t3years\t5years\t6years");
-        System.out.println("Loan1\t" + loan1_three_years+ "\t" + loan1_five_years + "\t" + loan1_six_years);
-        System.out.println("Loan2\t" + loan2_three_years+ "\t" + loan2_five_years + "\t" + loan2_six_years);
+        // 5% interest rate
+        displayInterestRateComparison(loan1, loan2, 0.05);
         
-        // Newline
-        System.out.println();
+        // Generate and display amortization schedule for loan1
+        System.out.println("\n--- AMORTIZATION SCHEDULE FOR " + loan1.getLoanName() + " ---");
+        displayAmortizationSchedule(loan1, 5); // Display first 5 months
         
-        // Setting the annual interest rate
-        setAnnualInterestRate(0.05);
+        // Calculate and display savings with extra payments
+        double extraPayment = 50.0;
+        System.out.println("\n--- SAVINGS WITH EXTRA PAYMENTS ---");
+        System.out.printf("Making an extra $%.2f payment each month on %s:%n",
+                extraPayment, loan1.getLoanName());
+        
+        double savings = loan1.calculateSavingsWithExtraPayments(extraPayment);
+        System.out.printf("Total interest savings: $%.2f%n", savings);
+        
+        System.out.println("\nNote: For more comprehensive demonstrations, please run the LoanOrganizerDemo class.");
+    }
+    
+    /**
+     * Display loan information for two loans
+     * 
+     * @param loan1 First loan
+     * @param loan2 Second loan
+     */
+    private static void displayLoanInformation(LoanAccount loan1, LoanAccount loan2) {
+        System.out.println("=== LOAN ACCOUNT DETAILS ===");
+        System.out.println("Loan 1: " + loan1.getLoanName() + " (" + loan1.getLoanType() + ")");
+        System.out.printf("Principal: $%.2f, Interest Rate: %.2f%%, Term: %d months%n",
+                loan1.getPrincipal(), loan1.getAnnualInterestRate() * 100, loan1.getTermInMonths());
         
-        // Formatting the monthly payments for the respective loan objects according to the number of months
-        loan1_three_years = String.format("%.2f",loan1.calculateMonthlyPayment(36));
-        loan1_five_years = String.format("%.2f",loan1.calculateMonthlyPayment(60));
-        loan1_six_years = String.format("%.2f",loan1.calculateMonthlyPayment(72));
-        loan2_three_years = String.format("%.2f",loan2.calculateMonthlyPayment(36));
-        loan2_five_years = String.format("%.2f",loan2.calculateMonthlyPayment(60));
-        loan2_six_years = String.format("%.2f",loan2.calculateMonthlyPayment(72));
+        System.out.println("\nLoan 2: " + loan2.getLoanName() + " (" + loan2.getLoanType() + ")");
+        System.out.printf("Principal: $%.2f, Interest Rate: %.2f%%, Term: %d months%n",
+                loan2.getPrincipal(), loan2.getAnnualInterestRate() * 100, loan2.getTermInMonths());
+    }
+    
+    /**
+     * Display payment comparison at a specific interest rate
+     * 
+     * @param loan1 First loan
+     * @param loan2 Second loan
+     * @param interestRate Interest rate to use
+     */
+    private static void displayInterestRateComparison(LoanAccount loan1, LoanAccount loan2, double interestRate) {
+        // The grid uses each loan's principal without touching the loans' own rates
+        RateTermGrid grid = new RateTermGrid(new double[] {interestRate}, new int[] {36, 60, 72});
+        List<RateTermGrid.Result> results = grid.calculate(Arrays.asList(loan1, loan2));
         
-        // Printing the output
-        System.out.println("Monthly payments for loan1 of $5000.00 and loan2 for 3,5 and 6 year loans at 5% interest.");
+        System.out.printf("%nMonthly payments for loans at %.1f%% interest:%n", interestRate * 100);
         System.out.println("Loan\t3years\t5years\t6years");
-        System.out.println("Loan1\t" + loan1_three_years+"\t" + loan1_five_years + "\t" +  loan1_six_years);
-        System.out.println("Loan2\t" + loan2_three_years+"\t" + loan2_five_years + "\t" + loan2_six_years);
         
-        System.out.println("\nNote: For more comprehensive demonstrations, please run the LoanOrganizerDemo class.");
+        String[] names = {loan1.getLoanName(), loan2.getLoanName()};
+        for (int i = 0; i < names.length; i++) {
+            RateTermGrid.Result result = results.get(i);
+            StringBuilder line = new StringBuilder(names[i]);
+            for (int term = 0; term < 3; term++) {
+                LoanFormatter.US.appendNumber(line.append('\t'), result.getMonthlyPayment(0, term), 2, false);
+            }
+            System.out.println(line);
+        }
+    }
+    
+    /**
+     * Display an amortization schedule for a loan
+     * 
+     * @param loan The loan
+     * @param monthsToShow Number of months to show
+     */
+    private static void displayAmortizationSchedule(LoanAccount loan, int monthsToShow) {
+        System.out.println("Month\tPayment\tPrincipal\tInterest\tRemaining Balance");
+        loan.amortizationStream().limit(monthsToShow).forEach(payment ->
+            System.out.printf("%d\t$%.2f\t$%.2f\t$%.2f\t$%.2f%n",
+                    payment.getMonth(),
+                    payment.getMonthlyPayment(),
+                    payment.getPrincipalPayment(),
+                    payment.getInterestPayment(),
+                    payment.getRemainingBalance()));
+        System.out.println("... (remaining payments omitted)");
     }
     
     /**
@@ -719,36 +974,70 @@ public class LoanAccount {
      * @param termInMonths The term to validate
      * @throws LoanException If the term is invalid
      */
-    private void validateTermInMonths(int termInMonths) throws LoanException {
-        if (termInMonths <= 0) {
+    private void validateTerm(int termInMonths) throws LoanException {
+        if (termInMonths < MIN_TERM) {
             throw new LoanException("Loan term must be greater than zero");
         }
-        if (termInMonths > 600) { // 50 years max
-            throw new LoanException("Loan term exceeds maximum allowed (600 months)");
+        if (termInMonths > MAX_TERM) {
+            throw new LoanException("Loan term exceeds maximum allowed (" + MAX_TERM + " months)");
         }
     }
     
     /**
-     * Validate loan name
-     * 
-     * @param loanName The loan name to validate
-     * @throws LoanException If the loan name is invalid
+     * A journaled payment waiting for its record to become durable
      */
-    private void validateLoanName(String loanName) throws LoanException {
-        if (loanName == null || loanName.trim().isEmpty()) {
-            throw new LoanException("Loan name cannot be empty");
+    private static final class PendingPayment {
+        final Payment payment;
+        final long sequence;
+        
+        /**
+         * Constructor for a pending payment
+         * 
+         * @param payment The payment
+         * @param sequence The journal sequence number of its record
+         */
+        PendingPayment(Payment payment, long sequence) {
+            this.payment = payment;
+            this.sequence = sequence;
         }
     }
     
     /**
-     * Validate loan type
-     * 
-     * @param loanType The loan type to validate
-     * @throws LoanException If the loan type is invalid
+     * An immutable snapshot of the payment history. Snapshots share one backing
+     * array; a new payment is written past the end of the latest snapshot and then
+     * published in a new snapshot, so slots a reader can see never change.
      */
-    private void validateLoanType(String loanType) throws LoanException {
-        if (loanType == null || loanType.trim().isEmpty()) {
-            throw new LoanException("Loan type cannot be empty");
+    private static final class PaymentLog {
+        static final PaymentLog EMPTY = new PaymentLog(new Payment[0], 0);
+        
+        final Payment[] payments;
+        final int size;
+        
+        /**
+         * Constructor for a snapshot
+         * 
+         * @param payments The backing array
+         * @param size The number of payments in the snapshot
+         */
+        PaymentLog(Payment[] payments, int size) {
+            this.payments = payments;
+            this.size = size;
+        }
+        
+        /**
+         * Append a payment. Must only be called by the thread holding the loan's lock,
+         * on the latest snapshot.
+         * 
+         * @param payment The payment to append
+         * @return The snapshot including the payment
+         */
+        PaymentLog append(Payment payment) {
+            Payment[] array = payments;
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(8, size * 2));
+            }
+            array[size] = payment;
+            return new PaymentLog(array, size + 1);
         }
     }
-}
\ No newline at end of file
+}
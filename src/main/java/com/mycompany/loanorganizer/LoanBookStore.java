@@ -0,0 +1,654 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A loan book kept in a memory-mapped file. Loan terms are stored as fixed-width
+ * records and names, VINs and addresses in a separate variable-length string
+ * region, so the book lives outside the Java heap and reopening it after a restart
+ * only maps the file; nothing is deserialized.
+ * 
+ * Records are read through a reusable LoanView flyweight, which implements Loan
+ * like LoanAccount does. Call toLoanAccount on a view when a full LoanAccount,
+ * AutoLoan or MortgageLoan object is needed.
+ * 
+ * File layout:
+ * <pre>
+ *   header   64 bytes   magic, version, capacities, record count, string bytes used
+ *   records  64 bytes x record capacity
+ *   strings  string capacity bytes, one block of length-prefixed UTF-8 strings per loan
+ * </pre>
+ * 
+ * Each region is mapped separately and is limited to 2 GB. A store may be read
+ * from many threads, but adds must come from a single thread. The record count is
+ * written with release semantics and read with acquire semantics, so a reader
+ * that sees a record counted also sees all of its data.
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanBookStore implements Closeable {
+    private static final int MAGIC = 0x4C4F414E; // "LOAN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 64;
+    
+    // Header fields
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_CAPACITY = 8;
+    private static final int HEADER_STRING_CAPACITY = 12;
+    private static final int HEADER_RECORD_COUNT = 16;
+    private static final int HEADER_STRING_USED = 20;
+    
+    // Publishes the record count; mapped buffers are big-endian, like the header
+    private static final VarHandle HEADER_INT =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    
+    // Record fields
+    private static final int TYPE = 0;
+    private static final int FLAGS = 1;
+    private static final int TERM = 4;
+    private static final int PRINCIPAL = 8;
+    private static final int RATE = 16;
+    private static final int START_EPOCH_DAY = 24;
+    private static final int VEHICLE_YEAR = 28;
+    private static final int COLLATERAL_VALUE = 32;
+    private static final int DOWN_PAYMENT = 40;
+    private static final int ESCROW_AMOUNT = 48;
+    private static final int STRING_OFFSET = 56;
+    private static final int STRING_LENGTH = 60;
+    
+    // Record types
+    private static final byte TYPE_GENERAL = 0;
+    private static final byte TYPE_AUTO = 1;
+    private static final byte TYPE_MORTGAGE = 2;
+    
+    // Record flags
+    private static final int FLAG_ACTIVE = 1;
+    private static final int FLAG_NEW_VEHICLE = 2;
+    private static final int FLAG_ESCROW_INCLUDED = 4;
+    
+    // Position of each string within a loan's string block
+    private static final int LOAN_NAME = 0;
+    private static final int LOAN_TYPE = 1;
+    private static final int VEHICLE_MAKE = 2;
+    private static final int VEHICLE_MODEL = 3;
+    private static final int VIN = 4;
+    private static final int PROPERTY_ADDRESS = 2;
+    
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer records;
+    private final MappedByteBuffer strings;
+    private final int recordCapacity;
+    private final int stringCapacity;
+    
+    /**
+     * Constructor that maps an already laid out file
+     * 
+     * @param channel The open file channel
+     * @param recordCapacity The number of records the file can hold
+     * @param stringCapacity The size of the string region in bytes
+     * @throws IOException If the file cannot be mapped
+     */
+    private LoanBookStore(FileChannel channel, int recordCapacity, int stringCapacity) throws IOException {
+        this.channel = channel;
+        this.recordCapacity = recordCapacity;
+        this.stringCapacity = stringCapacity;
+        long recordsSize = (long) recordCapacity * RECORD_SIZE;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.records = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, recordsSize);
+        this.strings = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + recordsSize, stringCapacity);
+    }
+    
+    /**
+     * Create a new, empty store. Any existing file at the path is replaced.
+     * 
+     * @param path The file to create
+     * @param recordCapacity The maximum number of loans
+     * @param stringCapacity The size of the string region in bytes
+     * @return The new store
+     * @throws IOException If the file cannot be created
+     * @throws IllegalArgumentException If a region would exceed 2 GB
+     */
+    public static LoanBookStore create(Path path, int recordCapacity, int stringCapacity) throws IOException {
+        if (recordCapacity <= 0 || (long) recordCapacity * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Record capacity must be between 1 and "
+                    + (Integer.MAX_VALUE / RECORD_SIZE));
+        }
+        if (stringCapacity < 0) {
+            throw new IllegalArgumentException("String capacity cannot be negative");
+        }
+        
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            LoanBookStore store = new LoanBookStore(channel, recordCapacity, stringCapacity);
+            store.header.putInt(HEADER_RECORD_CAPACITY, recordCapacity);
+            store.header.putInt(HEADER_STRING_CAPACITY, stringCapacity);
+            store.header.putInt(HEADER_RECORD_COUNT, 0);
+            store.header.putInt(HEADER_STRING_USED, 0);
+            store.header.putInt(HEADER_VERSION, VERSION);
+            // The magic number goes last so a half-created file is never mistaken for a store
+            store.header.putInt(HEADER_MAGIC, MAGIC);
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Open an existing store
+     * 
+     * @param path The store file
+     * @return The opened store
+     * @throws IOException If the file cannot be read or is not a loan book store
+     */
+    public static LoanBookStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer fileHeader = ByteBuffer.allocate(HEADER_SIZE);
+            while (fileHeader.hasRemaining() && channel.read(fileHeader) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            if (fileHeader.hasRemaining() || fileHeader.getInt(HEADER_MAGIC) != MAGIC) {
+                throw new IOException(path + " is not a loan book store");
+            }
+            if (fileHeader.getInt(HEADER_VERSION) != VERSION) {
+                throw new IOException("Unsupported loan book store version " + fileHeader.getInt(HEADER_VERSION));
+            }
+            
+            // Mapping past the end would silently grow the file, so check the header first
+            int recordCapacity = fileHeader.getInt(HEADER_RECORD_CAPACITY);
+            int stringCapacity = fileHeader.getInt(HEADER_STRING_CAPACITY);
+            int recordCount = fileHeader.getInt(HEADER_RECORD_COUNT);
+            int stringUsed = fileHeader.getInt(HEADER_STRING_USED);
+            if (recordCapacity <= 0 || (long) recordCapacity * RECORD_SIZE > Integer.MAX_VALUE
+                    || stringCapacity < 0
+                    || HEADER_SIZE + (long) recordCapacity * RECORD_SIZE + stringCapacity > channel.size()
+                    || recordCount < 0 || recordCount > recordCapacity
+                    || stringUsed < 0 || stringUsed > stringCapacity) {
+                throw new IOException(path + " has a corrupt loan book store header");
+            }
+            return new LoanBookStore(channel, recordCapacity, stringCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Get the number of loans in the store
+     * 
+     * @return The number of loans
+     */
+    public int size() {
+        return (int) HEADER_INT.getAcquire(header, HEADER_RECORD_COUNT);
+    }
+    
+    /**
+     * Get the maximum number of loans the store can hold
+     * 
+     * @return The record capacity
+     */
+    public int getRecordCapacity() {
+        return recordCapacity;
+    }
+    
+    /**
+     * Add a loan to the store. AutoLoan and MortgageLoan details are kept;
+     * payment history is not.
+     * 
+     * @param loan The loan to add
+     * @return The index of the new record
+     * @throws IllegalStateException If the record or string region is full
+     */
+    public int add(LoanAccount loan) {
+        int index = size();
+        if (index >= recordCapacity) {
+            throw new IllegalStateException("Loan book store is full (" + recordCapacity + " records)");
+        }
+        
+        byte type;
+        int flags = loan.isActive() ? FLAG_ACTIVE : 0;
+        String[] texts;
+        int vehicleYear = 0;
+        double collateralValue = 0;
+        double downPayment = 0;
+        double escrowAmount = 0;
+        
+        if (loan instanceof AutoLoan) {
+            AutoLoan auto = (AutoLoan) loan;
+            type = TYPE_AUTO;
+            flags |= auto.isNew() ? FLAG_NEW_VEHICLE : 0;
+            texts = new String[] {loan.getLoanName(), loan.getLoanType(),
+                auto.getVehicleMake(), auto.getVehicleModel(), auto.getVin()};
+            vehicleYear = auto.getVehicleYear();
+            collateralValue = auto.getVehicleValue();
+        } else if (loan instanceof MortgageLoan) {
+            MortgageLoan mortgage = (MortgageLoan) loan;
+            type = TYPE_MORTGAGE;
+            flags |= mortgage.isEscrowIncluded() ? FLAG_ESCROW_INCLUDED : 0;
+            texts = new String[] {loan.getLoanName(), loan.getLoanType(), mortgage.getPropertyAddress()};
+            collateralValue = mortgage.getPropertyValue();
+            downPayment = mortgage.getDownPayment();
+            escrowAmount = mortgage.getEscrowAmount();
+        } else {
+            type = TYPE_GENERAL;
+            texts = new String[] {loan.getLoanName(), loan.getLoanType()};
+        }
+        
+        int stringOffset = header.getInt(HEADER_STRING_USED);
+        int stringLength = writeStrings(stringOffset, texts);
+        
+        int base = index * RECORD_SIZE;
+        records.put(base + TYPE, type);
+        records.put(base + FLAGS, (byte) flags);
+        records.putInt(base + TERM, loan.getTermInMonths());
+        records.putDouble(base + PRINCIPAL, loan.getPrincipal());
+        records.putDouble(base + RATE, loan.getAnnualInterestRate());
+        records.putInt(base + START_EPOCH_DAY, (int) loan.getStartDate().toEpochDay());
+        records.putInt(base + VEHICLE_YEAR, vehicleYear);
+        records.putDouble(base + COLLATERAL_VALUE, collateralValue);
+        records.putDouble(base + DOWN_PAYMENT, downPayment);
+        records.putDouble(base + ESCROW_AMOUNT, escrowAmount);
+        records.putInt(base + STRING_OFFSET, stringOffset);
+        records.putInt(base + STRING_LENGTH, stringLength);
+        
+        // Publish the record only after its data is in place
+        header.putInt(HEADER_STRING_USED, stringOffset + stringLength);
+        HEADER_INT.setRelease(header, HEADER_RECORD_COUNT, index + 1);
+        return index;
+    }
+    
+    /**
+     * Create a reusable view positioned at the first record. Move it with
+     * {@link LoanView#at(int)} to read other records.
+     * 
+     * @return A view over this store
+     */
+    public LoanView view() {
+        return new LoanView();
+    }
+    
+    /**
+     * Flush all changes to the file
+     */
+    public void force() {
+        header.force();
+        records.force();
+        strings.force();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+    
+    /**
+     * Write a block of length-prefixed UTF-8 strings to the string region
+     * 
+     * @param offset The position to write at
+     * @param texts The strings to write; null strings are allowed
+     * @return The number of bytes written
+     * @throws IllegalStateException If the string region is full
+     */
+    private int writeStrings(int offset, String[] texts) {
+        byte[][] encoded = new byte[texts.length][];
+        int length = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] != null) {
+                encoded[i] = texts[i].getBytes(StandardCharsets.UTF_8);
+                length += encoded[i].length;
+            }
+            length += Integer.BYTES;
+        }
+        if ((long) offset + length > stringCapacity) {
+            throw new IllegalStateException("Loan book string region is full (" + stringCapacity + " bytes)");
+        }
+        
+        int position = offset;
+        for (byte[] bytes : encoded) {
+            if (bytes == null) {
+                strings.putInt(position, -1);
+                position += Integer.BYTES;
+            } else {
+                strings.putInt(position, bytes.length);
+                position += Integer.BYTES;
+                for (byte b : bytes) {
+                    strings.put(position++, b);
+                }
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * A flyweight over one record of the store. It implements Loan like
+     * LoanAccount does, reading straight from the mapped file.
+     */
+    public class LoanView implements Loan {
+        private int base;
+        
+        /**
+         * Constructor for a view at the first record
+         */
+        private LoanView() {
+            this.base = 0;
+        }
+        
+        /**
+         * Move the view to another record
+         * 
+         * @param index The record index
+         * @return This view, for chaining
+         * @throws IndexOutOfBoundsException If the index is not a stored record
+         */
+        public LoanView at(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Record " + index + " out of range for " + size() + " records");
+            }
+            this.base = index * RECORD_SIZE;
+            return this;
+        }
+        
+        /**
+         * Check if the record is an auto loan
+         * 
+         * @return True for auto loans
+         */
+        public boolean isAutoLoan() {
+            return records.get(base + TYPE) == TYPE_AUTO;
+        }
+        
+        /**
+         * Check if the record is a mortgage loan
+         * 
+         * @return True for mortgage loans
+         */
+        public boolean isMortgageLoan() {
+            return records.get(base + TYPE) == TYPE_MORTGAGE;
+        }
+        
+        /**
+         * Get the loan name
+         * 
+         * @return The loan name
+         */
+        public String getLoanName() {
+            return readString(LOAN_NAME);
+        }
+        
+        /**
+         * Get the loan type
+         * 
+         * @return The loan type
+         */
+        public String getLoanType() {
+            return readString(LOAN_TYPE);
+        }
+        
+        /**
+         * Get the loan principal
+         * 
+         * @return The principal
+         */
+        public double getPrincipal() {
+            return records.getDouble(base + PRINCIPAL);
+        }
+        
+        /**
+         * Get the annual interest rate
+         * 
+         * @return The annual interest rate
+         */
+        public double getAnnualInterestRate() {
+            return records.getDouble(base + RATE);
+        }
+        
+        /**
+         * Get the term of the loan
+         * 
+         * @return The term in months
+         */
+        public int getTermInMonths() {
+            return records.getInt(base + TERM);
+        }
+        
+        /**
+         * Get the start date as a day count from 1970-01-01
+         * 
+         * @return The start date as an epoch day
+         */
+        public int getStartEpochDay() {
+            return records.getInt(base + START_EPOCH_DAY);
+        }
+        
+        /**
+         * Get the start date
+         * 
+         * @return The start date
+         */
+        public LocalDate getStartDate() {
+            return LocalDate.ofEpochDay(getStartEpochDay());
+        }
+        
+        /**
+         * Get the maturity date
+         * 
+         * @return The maturity date
+         */
+        public LocalDate getMaturityDate() {
+            return getStartDate().plusMonths(getTermInMonths());
+        }
+        
+        /**
+         * Check if the loan is active
+         * 
+         * @return True if the loan is active
+         */
+        public boolean isActive() {
+            return (records.get(base + FLAGS) & FLAG_ACTIVE) != 0;
+        }
+        
+        /**
+         * Get the vehicle make of an auto loan
+         * 
+         * @return The vehicle make, or null for other loan types
+         */
+        public String getVehicleMake() {
+            return isAutoLoan() ? readString(VEHICLE_MAKE) : null;
+        }
+        
+        /**
+         * Get the vehicle model of an auto loan
+         * 
+         * @return The vehicle model, or null for other loan types
+         */
+        public String getVehicleModel() {
+            return isAutoLoan() ? readString(VEHICLE_MODEL) : null;
+        }
+        
+        /**
+         * Get the VIN of an auto loan
+         * 
+         * @return The VIN, or null for other loan types
+         */
+        public String getVin() {
+            return isAutoLoan() ? readString(VIN) : null;
+        }
+        
+        /**
+         * Get the vehicle year of an auto loan
+         * 
+         * @return The vehicle year, or 0 for other loan types
+         */
+        public int getVehicleYear() {
+            return records.getInt(base + VEHICLE_YEAR);
+        }
+        
+        /**
+         * Get the vehicle value of an auto loan
+         * 
+         * @return The vehicle value, or 0 for other loan types
+         */
+        public double getVehicleValue() {
+            return isAutoLoan() ? records.getDouble(base + COLLATERAL_VALUE) : 0;
+        }
+        
+        /**
+         * Check if an auto loan is for a new vehicle
+         * 
+         * @return True for new vehicles
+         */
+        public boolean isNew() {
+            return (records.get(base + FLAGS) & FLAG_NEW_VEHICLE) != 0;
+        }
+        
+        /**
+         * Get the property address of a mortgage loan
+         * 
+         * @return The property address, or null for other loan types
+         */
+        public String getPropertyAddress() {
+            return isMortgageLoan() ? readString(PROPERTY_ADDRESS) : null;
+        }
+        
+        /**
+         * Get the property value of a mortgage loan
+         * 
+         * @return The property value, or 0 for other loan types
+         */
+        public double getPropertyValue() {
+            return isMortgageLoan() ? records.getDouble(base + COLLATERAL_VALUE) : 0;
+        }
+        
+        /**
+         * Get the down payment of a mortgage loan
+         * 
+         * @return The down payment, or 0 for other loan types
+         */
+        public double getDownPayment() {
+            return records.getDouble(base + DOWN_PAYMENT);
+        }
+        
+        /**
+         * Check if a mortgage loan includes escrow
+         * 
+         * @return True if escrow is included
+         */
+        public boolean isEscrowIncluded() {
+            return (records.get(base + FLAGS) & FLAG_ESCROW_INCLUDED) != 0;
+        }
+        
+        /**
+         * Get the escrow amount of a mortgage loan
+         * 
+         * @return The escrow amount, or 0 for other loan types
+         */
+        public double getEscrowAmount() {
+            return records.getDouble(base + ESCROW_AMOUNT);
+        }
+        
+        /**
+         * Calculate the monthly payment amount for the loan
+         * 
+         * @param numberOfPayments The number of payments to be made
+         * @return The monthly payment amount
+         */
+        public double calculateMonthlyPayment(int numberOfPayments) {
+            return LoanCalculator.calculateMonthlyPayment(getPrincipal(), getAnnualInterestRate(), numberOfPayments);
+        }
+        
+        /**
+         * Calculate the total interest paid over the life of the loan
+         * 
+         * @return The total interest amount
+         */
+        public double calculateTotalInterest() {
+            return LoanCalculator.calculateTotalInterest(getPrincipal(), getAnnualInterestRate(), getTermInMonths());
+        }
+        
+        /**
+         * Calculate the remaining balance at a specific point in time
+         * 
+         * @param asOfDate The date to calculate the balance for
+         * @return The remaining balance
+         */
+        public double calculateRemainingBalance(LocalDate asOfDate) {
+            LocalDate startDate = getStartDate();
+            if (asOfDate.isBefore(startDate)) {
+                return getPrincipal();
+            }
+            long monthsPassed = ChronoUnit.MONTHS.between(startDate, asOfDate);
+            return LoanCalculator.calculateRemainingBalance(
+                    getPrincipal(), getAnnualInterestRate(), getTermInMonths(), monthsPassed);
+        }
+        
+        /**
+         * Materialize the record as a LoanAccount, AutoLoan or MortgageLoan
+         * 
+         * @return A new loan object with the record's values
+         */
+        public LoanAccount toLoanAccount() {
+            LoanAccount loan;
+            if (isAutoLoan()) {
+                loan = new AutoLoan(getLoanName(), getPrincipal(), getAnnualInterestRate(), getTermInMonths(),
+                        getVehicleMake(), getVehicleModel(), getVehicleYear(), getVin(), getVehicleValue(), isNew());
+            } else if (isMortgageLoan()) {
+                loan = new MortgageLoan(getLoanName(), getPrincipal(), getAnnualInterestRate(), getTermInMonths(),
+                        getPropertyAddress(), getPropertyValue(), getDownPayment(), isEscrowIncluded(),
+                        getEscrowAmount());
+            } else {
+                loan = new LoanAccount(getLoanName(), getLoanType(), getPrincipal(), getAnnualInterestRate(),
+                        getTermInMonths());
+            }
+            loan.setLoanType(getLoanType());
+            loan.setStartDate(getStartDate());
+            loan.setActive(isActive());
+            return loan;
+        }
+        
+        /**
+         * Read one string from this record's string block
+         * 
+         * @param position The position of the string within the block
+         * @return The string, or null if none was stored
+         */
+        private String readString(int position) {
+            int offset = records.getInt(base + STRING_OFFSET);
+            for (int i = 0; i < position; i++) {
+                int length = strings.getInt(offset);
+                offset += Integer.BYTES + Math.max(0, length);
+            }
+            
+            int length = strings.getInt(offset);
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = strings.get(offset + Integer.BYTES + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class with various loan calculation methods
@@ -19,6 +21,36 @@ public class LoanCalculator {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy");
     
+    // Optional precomputed payment factors; null means always use the exact formula
+    private static volatile AnnuityFactorTable annuityFactorTable;
+    
+    // Optional cache of generated schedules; null means always generate
+    private static volatile ScheduleCache scheduleCache;
+    
+    // Latency timers, recorded only while LoanMetrics is enabled
+    private static final LoanMetrics.Timer TOTAL_LOAN_COST =
+            LoanMetrics.timer("LoanCalculator.calculateTotalLoanCost");
+    private static final LoanMetrics.Timer MONTHLY_PAYMENT =
+            LoanMetrics.timer("LoanCalculator.calculateMonthlyPayment");
+    private static final LoanMetrics.Timer MONTHLY_PAYMENTS =
+            LoanMetrics.timer("LoanCalculator.calculateMonthlyPayments");
+    private static final LoanMetrics.Timer TOTAL_LOAN_COSTS =
+            LoanMetrics.timer("LoanCalculator.calculateTotalLoanCosts");
+    private static final LoanMetrics.Timer TOTAL_INTERESTS =
+            LoanMetrics.timer("LoanCalculator.calculateTotalInterests");
+    private static final LoanMetrics.Timer TOTAL_INTEREST =
+            LoanMetrics.timer("LoanCalculator.calculateTotalInterest");
+    private static final LoanMetrics.Timer AMORTIZATION_SCHEDULE =
+            LoanMetrics.timer("LoanCalculator.generateAmortizationSchedule");
+    private static final LoanMetrics.Timer AMORTIZATION_TABLE =
+            LoanMetrics.timer("LoanCalculator.generateAmortizationTable");
+    private static final LoanMetrics.Timer REMAINING_BALANCE =
+            LoanMetrics.timer("LoanCalculator.calculateRemainingBalance");
+    private static final LoanMetrics.Timer MONTHS_UNTIL_PAYOFF =
+            LoanMetrics.timer("LoanCalculator.calculateMonthsUntilPayoff");
+    private static final LoanMetrics.Timer AFFORDABLE_LOAN_AMOUNT =
+            LoanMetrics.timer("LoanCalculator.calculateAffordableLoanAmount");
+    
     /**
      * Private constructor to prevent instantiation
      */
@@ -26,6 +58,52 @@ public class LoanCalculator {
         // Utility class should not be instantiated
     }
     
+    /**
+     * Set the annuity factor table used for monthly payment and affordable amount
+     * calculations. Quotes on the table's grid become a lookup; all other quotes
+     * are computed exactly as before.
+     * 
+     * @param table The table to use, or null to always compute factors exactly
+     */
+    public static void setAnnuityFactorTable(AnnuityFactorTable table) {
+        annuityFactorTable = table;
+        
+        // Cached schedules were built with the old payment factors
+        ScheduleCache cache = scheduleCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+    
+    /**
+     * Get the annuity factor table in use
+     * 
+     * @return The table, or null if factors are always computed exactly
+     */
+    public static AnnuityFactorTable getAnnuityFactorTable() {
+        return annuityFactorTable;
+    }
+    
+    /**
+     * Set the cache that amortization schedules and tables are served from, for
+     * both LoanCalculator and LoanAccount. Schedules served from a cache are
+     * shared and read-only.
+     * 
+     * @param cache The cache to use, or null to always generate schedules
+     */
+    public static void setScheduleCache(ScheduleCache cache) {
+        scheduleCache = cache;
+    }
+    
+    /**
+     * Get the schedule cache in use
+     * 
+     * @return The cache, or null if schedules are always generated
+     */
+    public static ScheduleCache getScheduleCache() {
+        return scheduleCache;
+    }
+    
     /**
      * Calculate the total cost of a loan
      * 
@@ -35,9 +113,13 @@ public class LoanCalculator {
      * @return The total cost of the loan
      */
     public static double calculateTotalLoanCost(double principal, double annualInterestRate, int termInMonths) {
-        double monthlyInterest = annualInterestRate / 12;
-        double monthlyPayment = principal * (monthlyInterest / (1 - Math.pow(1 + monthlyInterest, -termInMonths)));
-        return monthlyPayment * termInMonths;
+        long start = LoanMetrics.start();
+        try {
+            double monthlyPayment = calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+            return monthlyPayment * termInMonths;
+        } finally {
+            TOTAL_LOAN_COST.record(start);
+        }
     }
     
     /**
@@ -49,8 +131,94 @@ public class LoanCalculator {
      * @return The monthly payment
      */
     public static double calculateMonthlyPayment(double principal, double annualInterestRate, int termInMonths) {
-        double monthlyInterest = annualInterestRate / 12;
-        return principal * (monthlyInterest / (1 - Math.pow(1 + monthlyInterest, -termInMonths)));
+        long start = LoanMetrics.start();
+        try {
+            AnnuityFactorTable table = annuityFactorTable;
+            if (table != null) {
+                return table.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+            }
+            
+            return applyPaymentFactor(principal, annualInterestRate, termInMonths,
+                    calculatePaymentFactor(annualInterestRate, termInMonths));
+        } finally {
+            MONTHLY_PAYMENT.record(start);
+        }
+    }
+    
+    /**
+     * Calculate the monthly payments for a batch of loans. The inputs are parallel
+     * arrays with one entry per loan, and the results are written to out so that the
+     * whole batch runs without allocating.
+     * 
+     * @param principals The loan principals
+     * @param annualInterestRates The annual interest rates
+     * @param termsInMonths The terms of the loans in months
+     * @param out The array that receives the monthly payments
+     * @throws IllegalArgumentException If the arrays are not all the same length
+     */
+    public static void calculateMonthlyPayments(double[] principals, double[] annualInterestRates,
+            int[] termsInMonths, double[] out) {
+        long start = LoanMetrics.start();
+        try {
+            checkBatchLengths(principals, annualInterestRates, termsInMonths, out);
+            
+            AnnuityFactorTable table = annuityFactorTable;
+            for (int i = 0; i < out.length; i++) {
+                double factor = table != null
+                        ? table.getPaymentFactor(annualInterestRates[i], termsInMonths[i])
+                        : calculatePaymentFactor(annualInterestRates[i], termsInMonths[i]);
+                out[i] = applyPaymentFactor(principals[i], annualInterestRates[i], termsInMonths[i], factor);
+            }
+        } finally {
+            MONTHLY_PAYMENTS.record(start);
+        }
+    }
+    
+    /**
+     * Calculate the total cost for a batch of loans
+     * 
+     * @param principals The loan principals
+     * @param annualInterestRates The annual interest rates
+     * @param termsInMonths The terms of the loans in months
+     * @param out The array that receives the total costs
+     * @throws IllegalArgumentException If the arrays are not all the same length
+     */
+    public static void calculateTotalLoanCosts(double[] principals, double[] annualInterestRates,
+            int[] termsInMonths, double[] out) {
+        long start = LoanMetrics.start();
+        try {
+            calculateMonthlyPayments(principals, annualInterestRates, termsInMonths, out);
+            
+            // Kept as a separate pass so this simple loop can be unrolled and vectorized
+            for (int i = 0; i < out.length; i++) {
+                out[i] = out[i] * termsInMonths[i];
+            }
+        } finally {
+            TOTAL_LOAN_COSTS.record(start);
+        }
+    }
+    
+    /**
+     * Calculate the total interest for a batch of loans
+     * 
+     * @param principals The loan principals
+     * @param annualInterestRates The annual interest rates
+     * @param termsInMonths The terms of the loans in months
+     * @param out The array that receives the total interest amounts
+     * @throws IllegalArgumentException If the arrays are not all the same length
+     */
+    public static void calculateTotalInterests(double[] principals, double[] annualInterestRates,
+            int[] termsInMonths, double[] out) {
+        long start = LoanMetrics.start();
+        try {
+            calculateMonthlyPayments(principals, annualInterestRates, termsInMonths, out);
+            
+            for (int i = 0; i < out.length; i++) {
+                out[i] = out[i] * termsInMonths[i] - principals[i];
+            }
+        } finally {
+            TOTAL_INTERESTS.record(start);
+        }
     }
     
     /**
@@ -62,8 +230,13 @@ public class LoanCalculator {
      * @return The total interest
      */
     public static double calculateTotalInterest(double principal, double annualInterestRate, int termInMonths) {
-        double totalCost = calculateTotalLoanCost(principal, annualInterestRate, termInMonths);
-        return totalCost - principal;
+        long start = LoanMetrics.start();
+        try {
+            double totalCost = calculateTotalLoanCost(principal, annualInterestRate, termInMonths);
+            return totalCost - principal;
+        } finally {
+            TOTAL_INTEREST.record(start);
+        }
     }
     
     /**
@@ -77,11 +250,93 @@ public class LoanCalculator {
      */
     public static List<PaymentDetails> generateAmortizationSchedule(
             double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
-        
-        List<PaymentDetails> schedule = new ArrayList<>();
+        long start = LoanMetrics.start();
+        try {
+            ScheduleCache cache = scheduleCache;
+            if (cache != null) {
+                return cache.get(principal, annualInterestRate, termInMonths, startDate, true).asList();
+            }
+            
+            List<PaymentDetails> schedule = new ArrayList<>();
+            double monthlyPayment = calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+            double remainingBalance = principal;
+            double monthlyRate = annualInterestRate / 12;
+            
+            for (int month = 1; month <= termInMonths; month++) {
+                double interestPayment = remainingBalance * monthlyRate;
+                double principalPayment = monthlyPayment - interestPayment;
+                
+                if (month == termInMonths) {
+                    // Handle rounding issues in the final payment
+                    principalPayment = remainingBalance;
+                    monthlyPayment = principalPayment + interestPayment;
+                }
+                
+                remainingBalance -= principalPayment;
+                
+                if (remainingBalance < 0) {
+                    remainingBalance = 0;
+                }
+                
+                LocalDate paymentDate = startDate.plusMonths(month);
+                
+                PaymentDetails details = new PaymentDetails(
+                    month, paymentDate, monthlyPayment, 
+                    principalPayment, interestPayment, remainingBalance
+                );
+                
+                schedule.add(details);
+            }
+            
+            return schedule;
+        } finally {
+            AMORTIZATION_SCHEDULE.record(start);
+        }
+    }
+    
+    /**
+     * Generate a complete amortization schedule for a loan as a columnar table.
+     * The rows are identical to those of generateAmortizationSchedule, but the
+     * table is backed by primitive arrays instead of one object per month.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @return The amortization table
+     */
+    public static AmortizationTable generateAmortizationTable(
+            double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        long start = LoanMetrics.start();
+        try {
+            ScheduleCache cache = scheduleCache;
+            if (cache != null) {
+                return cache.get(principal, annualInterestRate, termInMonths, startDate, true);
+            }
+            return buildAmortizationTable(principal, annualInterestRate, termInMonths, startDate);
+        } finally {
+            AMORTIZATION_TABLE.record(start);
+        }
+    }
+    
+    /**
+     * Build the table returned by generateAmortizationTable, bypassing the cache
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @return The amortization table
+     */
+    static AmortizationTable buildAmortizationTable(
+            double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        AmortizationTable table = new AmortizationTable(termInMonths);
         double monthlyPayment = calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
         double remainingBalance = principal;
         double monthlyRate = annualInterestRate / 12;
+        int startYear = startDate.getYear();
+        int startMonth = startDate.getMonthValue();
+        int startDay = startDate.getDayOfMonth();
         
         for (int month = 1; month <= termInMonths; month++) {
             double interestPayment = remainingBalance * monthlyRate;
@@ -99,17 +354,100 @@ public class LoanCalculator {
                 remainingBalance = 0;
             }
             
-            LocalDate paymentDate = startDate.plusMonths(month);
-            
-            PaymentDetails details = new PaymentDetails(
-                month, paymentDate, monthlyPayment, 
-                principalPayment, interestPayment, remainingBalance
-            );
-            
-            schedule.add(details);
+            table.setRow(month - 1,
+                    AmortizationTable.epochDayPlusMonths(startYear, startMonth, startDay, month),
+                    monthlyPayment, principalPayment, interestPayment, remainingBalance);
         }
         
-        return schedule;
+        return table;
+    }
+    
+    /**
+     * Stream the amortization schedule of a loan, computing each row only when it
+     * is consumed. The rows match generateAmortizationSchedule; parallel streams
+     * start each chunk from the closed-form balance at its first month.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @return A lazily computed stream of payment details
+     */
+    public static Stream<PaymentDetails> amortizationStream(
+            double principal, double annualInterestRate, int termInMonths, LocalDate startDate) {
+        return StreamSupport.stream(new AmortizationSpliterator(
+                principal, annualInterestRate, termInMonths, startDate, true), false);
+    }
+    
+    /**
+     * Calculate the remaining balance after a number of scheduled payments.
+     * 
+     * Uses the closed-form annuity balance B(k) = P * ((1 + r)^n - (1 + r)^k) / ((1 + r)^n - 1),
+     * so the cost is constant regardless of how far into the term the query is. The result
+     * agrees with the month-by-month recurrence used by the amortization schedule to within
+     * 1e-6 dollars for any principal up to $10 million and terms up to 600 months.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param paymentsMade The number of scheduled payments already made
+     * @return The remaining balance
+     */
+    public static double calculateRemainingBalance(double principal, double annualInterestRate,
+            int termInMonths, long paymentsMade) {
+        long start = LoanMetrics.start();
+        try {
+            if (paymentsMade <= 0) {
+                return principal;
+            }
+            if (paymentsMade >= termInMonths) {
+                return 0.0;
+            }
+            
+            double monthlyRate = annualInterestRate / 12;
+            return remainingBalance(principal, monthlyRate, termInMonths, growthOverTerm(monthlyRate, termInMonths),
+                    paymentsMade);
+        } finally {
+            REMAINING_BALANCE.record(start);
+        }
+    }
+    
+    /**
+     * Calculate (1 + r)^n, the growth over the whole term used by remainingBalance
+     * 
+     * @param monthlyRate The monthly interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The growth over the term, or 1 for an interest-free loan
+     */
+    static double growthOverTerm(double monthlyRate, int termInMonths) {
+        return monthlyRate == 0 ? 1.0 : Math.pow(1 + monthlyRate, termInMonths);
+    }
+    
+    /**
+     * Closed-form balance after a number of scheduled payments, with the growth over
+     * the term worked out once by the caller so that many balances of the same loan
+     * each cost one Math.pow
+     * 
+     * @param principal The loan principal
+     * @param monthlyRate The monthly interest rate
+     * @param termInMonths The term of the loan in months
+     * @param growthOverTerm The result of growthOverTerm for the same rate and term
+     * @param paymentsMade The number of scheduled payments already made
+     * @return The remaining balance
+     */
+    static double remainingBalance(double principal, double monthlyRate, int termInMonths,
+            double growthOverTerm, long paymentsMade) {
+        if (paymentsMade <= 0) {
+            return principal;
+        }
+        if (paymentsMade >= termInMonths) {
+            return 0.0;
+        }
+        if (monthlyRate == 0) {
+            return principal * (termInMonths - paymentsMade) / termInMonths;
+        }
+        double growthSoFar = Math.pow(1 + monthlyRate, paymentsMade);
+        return Math.max(0, principal * (growthOverTerm - growthSoFar) / (growthOverTerm - 1));
     }
     
     /**
@@ -121,23 +459,28 @@ public class LoanCalculator {
      * @return The number of months until payoff
      */
     public static int calculateMonthsUntilPayoff(double principal, double annualInterestRate, double monthlyPayment) {
-        if (principal <= 0 || monthlyPayment <= 0) {
-            return 0;
-        }
-        
-        double monthlyRate = annualInterestRate / 12;
-        
-        // If the monthly payment is less than the interest, the loan will never be paid off
-        double monthlyInterest = principal * monthlyRate;
-        if (monthlyPayment <= monthlyInterest) {
-            return -1; // Indicates the loan will never be paid off
+        long start = LoanMetrics.start();
+        try {
+            if (principal <= 0 || monthlyPayment <= 0) {
+                return 0;
+            }
+            
+            double monthlyRate = annualInterestRate / 12;
+            
+            // If the monthly payment is less than the interest, the loan will never be paid off
+            double monthlyInterest = principal * monthlyRate;
+            if (monthlyPayment <= monthlyInterest) {
+                return -1; // Indicates the loan will never be paid off
+            }
+            
+            // Calculate the number of months
+            double n = Math.log(monthlyPayment / (monthlyPayment - principal * monthlyRate)) / 
+                      Math.log(1 + monthlyRate);
+            
+            return (int) Math.ceil(n);
+        } finally {
+            MONTHS_UNTIL_PAYOFF.record(start);
         }
-        
-        // Calculate the number of months
-        double n = Math.log(monthlyPayment / (monthlyPayment - principal * monthlyRate)) / 
-                  Math.log(1 + monthlyRate);
-        
-        return (int) Math.ceil(n);
     }
     
     /**
@@ -150,9 +493,91 @@ public class LoanCalculator {
      */
     public static double calculateAffordableLoanAmount(
             double maxMonthlyPayment, double annualInterestRate, int termInMonths) {
-        
-        double monthlyRate = annualInterestRate / 12;
-        return maxMonthlyPayment / (monthlyRate / (1 - Math.pow(1 + monthlyRate, -termInMonths)));
+        long start = LoanMetrics.start();
+        try {
+            AnnuityFactorTable table = annuityFactorTable;
+            if (table != null) {
+                return table.calculateAffordableLoanAmount(maxMonthlyPayment, annualInterestRate, termInMonths);
+            }
+            
+            return removePaymentFactor(maxMonthlyPayment, annualInterestRate, termInMonths,
+                    calculatePaymentFactor(annualInterestRate, termInMonths));
+        } finally {
+            AFFORDABLE_LOAN_AMOUNT.record(start);
+        }
+    }
+    
+    /**
+     * Calculate the monthly payment per dollar of principal with the exact annuity formula
+     * 
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @return The payment factor
+     */
+    static double calculatePaymentFactor(double annualInterestRate, int termInMonths) {
+        double monthlyInterest = annualInterestRate / 12;
+        if (monthlyInterest == 0) {
+            return 1.0 / termInMonths;
+        }
+        return monthlyInterest / (1 - Math.pow(1 + monthlyInterest, -termInMonths));
+    }
+    
+    /**
+     * Turn a principal into a monthly payment with a payment factor. Interest-free
+     * loans divide the principal by the term instead, since multiplying by the
+     * 1 / term factor can round differently in the last bit. Every monthly payment
+     * path goes through here so scalar, batch and table results agree exactly.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param factor The payment factor for the rate and term
+     * @return The monthly payment
+     */
+    static double applyPaymentFactor(double principal, double annualInterestRate, int termInMonths,
+            double factor) {
+        if (annualInterestRate / 12 == 0) {
+            // Interest-free loans are repaid in equal principal installments
+            return principal / termInMonths;
+        }
+        return principal * factor;
+    }
+    
+    /**
+     * Turn a monthly payment back into the principal it repays, the inverse of
+     * applyPaymentFactor. Interest-free loans multiply by the term.
+     * 
+     * @param monthlyPayment The monthly payment
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param factor The payment factor for the rate and term
+     * @return The principal
+     */
+    static double removePaymentFactor(double monthlyPayment, double annualInterestRate, int termInMonths,
+            double factor) {
+        if (annualInterestRate / 12 == 0) {
+            return monthlyPayment * termInMonths;
+        }
+        return monthlyPayment / factor;
+    }
+    
+    /**
+     * Check that the arrays of a batch calculation all describe the same number of loans
+     * 
+     * @param principals The loan principals
+     * @param annualInterestRates The annual interest rates
+     * @param termsInMonths The terms of the loans in months
+     * @param out The output array
+     * @throws IllegalArgumentException If the arrays are not all the same length
+     */
+    private static void checkBatchLengths(double[] principals, double[] annualInterestRates,
+            int[] termsInMonths, double[] out) {
+        int n = out.length;
+        if (principals.length != n || annualInterestRates.length != n || termsInMonths.length != n) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch arrays must have the same length (principals=%d, rates=%d, terms=%d, out=%d)",
+                    principals.length, annualInterestRates.length, termsInMonths.length, n));
+        }
     }
     
     /**
@@ -162,7 +587,7 @@ public class LoanCalculator {
      * @return Formatted currency string
      */
     public static String formatCurrency(double amount) {
-        return String.format("$%.2f", amount);
+        return LoanFormatter.US.appendCurrency(new StringBuilder(16), amount).toString();
     }
     
     /**
@@ -172,7 +597,7 @@ public class LoanCalculator {
      * @return Formatted percentage string
      */
     public static String formatPercent(double percent) {
-        return String.format("%.2f%%", percent * 100);
+        return LoanFormatter.US.appendPercent(new StringBuilder(8), percent).toString();
     }
     
     /**
@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Streaming importer for loan files in CSV form. The file is read through a
+ * FileChannel in large chunks that are cut at line boundaries and parsed in
+ * parallel on the fork-join common pool, while the calling thread reads ahead and
+ * hands the finished loans on in file order. Only a few chunks are in memory at a
+ * time, so file size is limited by the destination rather than the importer.
+ * 
+ * Numbers, dates and flags are parsed straight from the bytes; the only Strings
+ * created are the text columns the loans keep. The first line is a header and is
+ * skipped. Columns, in order:
+ * <pre>
+ *   loanType, loanName, principal, annualInterestRate, termInMonths, startDate,
+ *   vehicleMake, vehicleModel, vehicleYear, vin, vehicleValue, isNew,
+ *   propertyAddress, propertyValue, downPayment, escrowIncluded, escrowAmount
+ * </pre>
+ * 
+ * Rows of type Auto become AutoLoan and rows of type Mortgage become MortgageLoan,
+ * using the vehicle or property columns; other rows become a LoanAccount and may
+ * leave those columns empty. Dates are yyyy-MM-dd, and an empty start date means
+ * today. Fields may be double-quoted, with "" for a quote, but may not contain
+ * line breaks.
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanCsvImporter {
+    /**
+     * The header line written for the columns this importer reads
+     */
+    public static final String HEADER = "loanType,loanName,principal,annualInterestRate,termInMonths,startDate,"
+            + "vehicleMake,vehicleModel,vehicleYear,vin,vehicleValue,isNew,"
+            + "propertyAddress,propertyValue,downPayment,escrowIncluded,escrowAmount";
+    
+    private static final int DEFAULT_CHUNK_BYTES = 8 * 1024 * 1024;
+    
+    // Column positions
+    private static final int LOAN_TYPE = 0;
+    private static final int LOAN_NAME = 1;
+    private static final int PRINCIPAL = 2;
+    private static final int RATE = 3;
+    private static final int TERM = 4;
+    private static final int START_DATE = 5;
+    private static final int VEHICLE_MAKE = 6;
+    private static final int VEHICLE_MODEL = 7;
+    private static final int VEHICLE_YEAR = 8;
+    private static final int VIN = 9;
+    private static final int VEHICLE_VALUE = 10;
+    private static final int IS_NEW = 11;
+    private static final int PROPERTY_ADDRESS = 12;
+    private static final int PROPERTY_VALUE = 13;
+    private static final int DOWN_PAYMENT = 14;
+    private static final int ESCROW_INCLUDED = 15;
+    private static final int ESCROW_AMOUNT = 16;
+    private static final int COLUMNS = 17;
+    
+    // Mantissas up to 15 digits divided by a power of ten up to 10^22 are exact before the final rounding
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private static final byte[] AUTO = "Auto".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MORTGAGE = "Mortgage".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PERSONAL = "Personal".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    
+    private final int chunkBytes;
+    
+    /**
+     * Constructor for an importer reading 8 MB chunks
+     */
+    public LoanCsvImporter() {
+        this(DEFAULT_CHUNK_BYTES);
+    }
+    
+    /**
+     * Constructor for an importer reading chunks of a given size. No line may be
+     * longer than a chunk.
+     * 
+     * @param chunkBytes The chunk size in bytes
+     * @throws IllegalArgumentException If the chunk size is not positive
+     */
+    public LoanCsvImporter(int chunkBytes) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkBytes = chunkBytes;
+    }
+    
+    /**
+     * Read every loan in a file into a list
+     * 
+     * @param file The CSV file
+     * @return The loans in file order
+     * @throws IOException If the file cannot be read or a row is malformed
+     */
+    public List<LoanAccount> readLoans(Path file) throws IOException {
+        List<LoanAccount> loans = new ArrayList<>();
+        forEachLoan(file, loans::add);
+        return loans;
+    }
+    
+    /**
+     * Import every loan in a file into a loan book store
+     * 
+     * @param file The CSV file
+     * @param store The store to add the loans to
+     * @return The number of loans imported
+     * @throws IOException If the file cannot be read or a row is malformed
+     * @throws IllegalStateException If the store fills up
+     */
+    public long importInto(Path file, LoanBookStore store) throws IOException {
+        return forEachLoan(file, store::add);
+    }
+    
+    /**
+     * Parse a file and pass each loan to an action. Parsing runs in parallel, but
+     * the action is called on the calling thread, in file order.
+     * 
+     * @param file The CSV file
+     * @param action The action to run for each loan
+     * @return The number of loans read
+     * @throws IOException If the file cannot be read or a row is malformed
+     */
+    public long forEachLoan(Path file, Consumer<? super LoanAccount> action) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int maxInFlight = pool.getParallelism() + 1;
+        ArrayDeque<ForkJoinTask<List<LoanAccount>>> inFlight = new ArrayDeque<>();
+        ArrayDeque<byte[]> freeBuffers = new ArrayDeque<>();
+        ArrayDeque<byte[]> busyBuffers = new ArrayDeque<>();
+        LocalDate today = LocalDate.now();
+        byte[] carry = new byte[chunkBytes];
+        int carryLength = 0;
+        long chunkOffset = 0;
+        long count = 0;
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                byte[] chunk = freeBuffers.isEmpty() ? new byte[chunkBytes] : freeBuffers.poll();
+                System.arraycopy(carry, 0, chunk, 0, carryLength);
+                ByteBuffer buffer = ByteBuffer.wrap(chunk, carryLength, chunkBytes - carryLength);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        endOfFile = true;
+                        break;
+                    }
+                }
+                
+                // Hand over whole lines only; the partial last line starts the next chunk
+                int length = buffer.position();
+                int end = endOfFile ? length : lastLineEnd(chunk, length);
+                if (end == 0 && length == chunkBytes) {
+                    throw new IOException("Line at byte " + chunkOffset + " is longer than the "
+                            + chunkBytes + " byte chunk size");
+                }
+                carryLength = length - end;
+                System.arraycopy(chunk, end, carry, 0, carryLength);
+                
+                long offset = chunkOffset;
+                boolean skipHeader = chunkOffset == 0;
+                inFlight.add(pool.submit(() -> parseChunk(chunk, end, offset, skipHeader, today)));
+                busyBuffers.add(chunk);
+                chunkOffset += end;
+                
+                // Read ahead while earlier chunks parse, then drain everything at the end
+                while (!inFlight.isEmpty() && (inFlight.size() >= maxInFlight || endOfFile)) {
+                    count += deliver(inFlight.poll(), action);
+                    freeBuffers.add(busyBuffers.poll());
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (ForkJoinTask<List<LoanAccount>> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Wait for a chunk to be parsed and pass its loans to the action
+     * 
+     * @param task The parsing task
+     * @param action The action to run for each loan
+     * @return The number of loans delivered
+     */
+    private static int deliver(ForkJoinTask<List<LoanAccount>> task, Consumer<? super LoanAccount> action) {
+        List<LoanAccount> loans = task.join();
+        for (LoanAccount loan : loans) {
+            action.accept(loan);
+        }
+        return loans.size();
+    }
+    
+    /**
+     * Find the end of the last complete line in a buffer
+     * 
+     * @param bytes The buffer
+     * @param length The number of bytes in the buffer
+     * @return The position just after the last line feed, or 0 if there is none
+     */
+    private static int lastLineEnd(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Parse the complete lines of a chunk
+     * 
+     * @param bytes The chunk
+     * @param length The number of bytes to parse, ending at a line boundary
+     * @param fileOffset The position of the chunk in the file, for error messages
+     * @param skipHeader True to skip the first line
+     * @param today The start date for rows without one
+     * @return The loans in the chunk
+     */
+    private static List<LoanAccount> parseChunk(byte[] bytes, int length, long fileOffset, boolean skipHeader,
+            LocalDate today) {
+        List<LoanAccount> loans = new ArrayList<>(length / 96 + 1);
+        RowParser row = new RowParser(bytes, fileOffset);
+        int lineStart = 0;
+        boolean header = skipHeader;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            if (header) {
+                header = false;
+            } else if (lineEnd > lineStart) {
+                row.split(lineStart, lineEnd);
+                loans.add(row.toLoan(today));
+            }
+            lineStart = next;
+        }
+        return loans;
+    }
+    
+    /**
+     * Splits one line into fields and converts them, reusing its field arrays for
+     * every line of a chunk
+     */
+    private static final class RowParser {
+        private final byte[] bytes;
+        private final long fileOffset;
+        private final int[] starts = new int[COLUMNS];
+        private final int[] ends = new int[COLUMNS];
+        private final boolean[] escaped = new boolean[COLUMNS];
+        private int lineStart;
+        
+        /**
+         * Constructor for a parser over one chunk
+         * 
+         * @param bytes The chunk
+         * @param fileOffset The position of the chunk in the file
+         */
+        RowParser(byte[] bytes, long fileOffset) {
+            this.bytes = bytes;
+            this.fileOffset = fileOffset;
+        }
+        
+        /**
+         * Find the fields of a line
+         * 
+         * @param start The first byte of the line
+         * @param end The position after the last byte of the line
+         */
+        void split(int start, int end) {
+            lineStart = start;
+            int position = start;
+            for (int column = 0; column < COLUMNS; column++) {
+                escaped[column] = false;
+                if (position < end && bytes[position] == '"') {
+                    int fieldStart = position + 1;
+                    int i = fieldStart;
+                    while (true) {
+                        if (i >= end) {
+                            throw malformed("unterminated quoted field in column " + (column + 1));
+                        }
+                        if (bytes[i] == '"') {
+                            if (i + 1 < end && bytes[i + 1] == '"') {
+                                escaped[column] = true;
+                                i += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    starts[column] = fieldStart;
+                    ends[column] = i;
+                    position = i + 1;
+                } else {
+                    starts[column] = position;
+                    while (position < end && bytes[position] != ',') {
+                        position++;
+                    }
+                    ends[column] = position;
+                }
+                
+                boolean last = column == COLUMNS - 1;
+                if (position < end && bytes[position] == ',' && !last) {
+                    position++;
+                } else if (position < end) {
+                    throw malformed(last ? "more than " + COLUMNS + " columns"
+                            : "unexpected character after quoted field in column " + (column + 1));
+                } else if (!last) {
+                    // Missing trailing columns are empty
+                    for (int rest = column + 1; rest < COLUMNS; rest++) {
+                        starts[rest] = end;
+                        ends[rest] = end;
+                        escaped[rest] = false;
+                    }
+                    return;
+                }
+            }
+        }
+        
+        /**
+         * Build the loan for the current line
+         * 
+         * @param today The start date for rows without one
+         * @return The loan
+         */
+        LoanAccount toLoan(LocalDate today) {
+            String loanName = text(LOAN_NAME);
+            double principal = decimal(PRINCIPAL);
+            double rate = decimal(RATE);
+            int term = integer(TERM);
+            LocalDate startDate = isEmpty(START_DATE) ? today : date(START_DATE);
+            
+            LoanAccount loan;
+            if (matches(LOAN_TYPE, AUTO)) {
+                loan = new AutoLoan(loanName, principal, rate, term, text(VEHICLE_MAKE), text(VEHICLE_MODEL),
+                        integer(VEHICLE_YEAR), text(VIN), decimal(VEHICLE_VALUE), flag(IS_NEW), startDate);
+            } else if (matches(LOAN_TYPE, MORTGAGE)) {
+                loan = new MortgageLoan(loanName, principal, rate, term, text(PROPERTY_ADDRESS),
+                        decimal(PROPERTY_VALUE), decimal(DOWN_PAYMENT), flag(ESCROW_INCLUDED),
+                        decimal(ESCROW_AMOUNT), startDate);
+            } else {
+                // Share the common type name rather than decoding it for every row
+                String loanType = matches(LOAN_TYPE, PERSONAL) ? "Personal" : text(LOAN_TYPE);
+                loan = new LoanAccount(loanName, loanType, principal, rate, term, startDate);
+            }
+            return loan;
+        }
+        
+        /**
+         * Check whether a field is empty
+         * 
+         * @param column The column
+         * @return True if the field has no characters
+         */
+        private boolean isEmpty(int column) {
+            return starts[column] == ends[column];
+        }
+        
+        /**
+         * Compare a field with an ASCII constant
+         * 
+         * @param column The column
+         * @param expected The expected bytes
+         * @return True if the field holds exactly those bytes
+         */
+        private boolean matches(int column, byte[] expected) {
+            int start = starts[column];
+            if (ends[column] - start != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (bytes[start + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        /**
+         * Decode a text field
+         * 
+         * @param column The column
+         * @return The text, or null if the field is empty
+         */
+        private String text(int column) {
+            int start = starts[column];
+            int end = ends[column];
+            if (start == end) {
+                return null;
+            }
+            String value = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+            return escaped[column] ? value.replace("\"\"", "\"") : value;
+        }
+        
+        /**
+         * Parse a decimal field. Values with up to 15 significant digits are
+         * converted exactly; longer values and exponents go through
+         * Double.parseDouble.
+         * 
+         * @param column The column
+         * @return The value, or 0 if the field is empty
+         */
+        private double decimal(int column) {
+            int start = starts[column];
+            int end = ends[column];
+            if (start == end) {
+                return 0;
+            }
+            int i = start;
+            boolean negative = bytes[i] == '-';
+            if (negative || bytes[i] == '+') {
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int scale = 0;
+            boolean seenDigit = false;
+            boolean seenPoint = false;
+            for (; i < end; i++) {
+                int c = bytes[i];
+                if (c >= '0' && c <= '9') {
+                    seenDigit = true;
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    if (seenPoint) {
+                        scale++;
+                    }
+                    if (digits > MAX_FAST_DIGITS || scale >= POWERS_OF_TEN.length) {
+                        return slowDecimal(column);
+                    }
+                } else if (c == '.' && !seenPoint) {
+                    seenPoint = true;
+                } else {
+                    return slowDecimal(column);
+                }
+            }
+            if (!seenDigit) {
+                throw malformed("invalid number in column " + (column + 1));
+            }
+            double value = mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        
+        /**
+         * Parse a decimal field that the fast path does not handle
+         * 
+         * @param column The column
+         * @return The value
+         */
+        private double slowDecimal(int column) {
+            String value = new String(bytes, starts[column], ends[column] - starts[column], StandardCharsets.US_ASCII);
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw malformed("invalid number in column " + (column + 1));
+            }
+        }
+        
+        /**
+         * Parse a whole number field
+         * 
+         * @param column The column
+         * @return The value, or 0 if the field is empty
+         */
+        private int integer(int column) {
+            int start = starts[column];
+            int end = ends[column];
+            if (start == end) {
+                return 0;
+            }
+            int i = start;
+            boolean negative = bytes[i] == '-';
+            if (negative || bytes[i] == '+') {
+                i++;
+            }
+            if (i == end) {
+                throw malformed("invalid whole number in column " + (column + 1));
+            }
+            long value = 0;
+            for (; i < end; i++) {
+                int c = bytes[i];
+                if (c < '0' || c > '9') {
+                    throw malformed("invalid whole number in column " + (column + 1));
+                }
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) {
+                    throw malformed("whole number out of range in column " + (column + 1));
+                }
+            }
+            return (int) (negative ? -value : value);
+        }
+        
+        /**
+         * Parse a true/false field
+         * 
+         * @param column The column
+         * @return The value; an empty field is false
+         */
+        private boolean flag(int column) {
+            if (matches(column, TRUE)) {
+                return true;
+            }
+            if (isEmpty(column) || matches(column, FALSE)) {
+                return false;
+            }
+            throw malformed("expected true or false in column " + (column + 1));
+        }
+        
+        /**
+         * Parse a yyyy-MM-dd date field
+         * 
+         * @param column The column
+         * @return The date
+         */
+        private LocalDate date(int column) {
+            int start = starts[column];
+            if (ends[column] - start != 10 || bytes[start + 4] != '-' || bytes[start + 7] != '-') {
+                throw malformed("expected a yyyy-MM-dd date in column " + (column + 1));
+            }
+            try {
+                return LocalDate.of(digits(column, start, 4), digits(column, start + 5, 2),
+                        digits(column, start + 8, 2));
+            } catch (DateTimeException e) {
+                throw malformed("invalid date in column " + (column + 1));
+            }
+        }
+        
+        /**
+         * Parse a run of digits within a date
+         * 
+         * @param column The column, for error messages
+         * @param start The first digit
+         * @param count The number of digits
+         * @return The value
+         */
+        private int digits(int column, int start, int count) {
+            int value = 0;
+            for (int i = start; i < start + count; i++) {
+                int c = bytes[i];
+                if (c < '0' || c > '9') {
+                    throw malformed("expected a yyyy-MM-dd date in column " + (column + 1));
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+        
+        /**
+         * Describe a problem with the current line
+         * 
+         * @param message What is wrong
+         * @return The exception to throw
+         */
+        private UncheckedIOException malformed(String message) {
+            return new UncheckedIOException(new IOException(
+                    "Malformed loan row at byte " + (fileOffset + lineStart) + ": " + message));
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Formats money, percentages and dates by appending straight into a caller's
+ * StringBuilder or CharBuffer. Unlike String.format there is no pattern to parse
+ * and no Formatter, String or boxed value is created, so statements and reports
+ * can reuse one buffer for every field.
+ * 
+ * Numbers are rounded half-up the way String.format rounds them, and grouped with
+ * the locale's grouping separator when asked, so "$%,.2f" and appendCurrency give
+ * the same text. A formatter is immutable and can be shared between threads.
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanFormatter {
+    /**
+     * US dollars with comma grouping, the format used throughout the library
+     */
+    public static final LoanFormatter US = new LoanFormatter(Locale.US, "$");
+    
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L
+    };
+    
+    // Beyond this the gap between doubles nears the last printed digit and rounding needs String.format
+    private static final double MAX_SCALED = 1e14;
+    
+    private final Locale locale;
+    private final String currencySymbol;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    
+    /**
+     * Constructor for a formatter using a locale's separators and currency symbol
+     * 
+     * @param locale The locale
+     */
+    public LoanFormatter(Locale locale) {
+        this(locale, DecimalFormatSymbols.getInstance(locale).getCurrencySymbol());
+    }
+    
+    /**
+     * Constructor for a formatter using a locale's separators and a given currency symbol
+     * 
+     * @param locale The locale
+     * @param currencySymbol The symbol written before amounts
+     */
+    public LoanFormatter(Locale locale, String currencySymbol) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.locale = locale;
+        this.currencySymbol = currencySymbol;
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+    
+    /**
+     * Append a grouped currency amount with two decimals, e.g. "$1,234.56"
+     * 
+     * @param out The buffer to append to
+     * @param amount The amount
+     * @return The buffer
+     */
+    public StringBuilder appendCurrency(StringBuilder out, double amount) {
+        return appendCurrency(out, amount, true);
+    }
+    
+    /**
+     * Append a currency amount with two decimals. Like "$%.2f", the sign of a
+     * negative amount follows the symbol.
+     * 
+     * @param out The buffer to append to
+     * @param amount The amount
+     * @param grouped True to group the digits
+     * @return The buffer
+     */
+    public StringBuilder appendCurrency(StringBuilder out, double amount, boolean grouped) {
+        out.append(currencySymbol);
+        appendNumber(out, amount, 2, grouped);
+        return out;
+    }
+    
+    /**
+     * Append a number with a fixed number of decimals
+     * 
+     * @param out The buffer to append to
+     * @param value The value
+     * @param decimals The number of decimals, from 0 to 6
+     * @param grouped True to group the digits
+     * @return The buffer
+     * @throws IllegalArgumentException If decimals is out of range
+     */
+    public StringBuilder appendNumber(StringBuilder out, double value, int decimals, boolean grouped) {
+        writeNumber(out, value, decimals, grouped);
+        return out;
+    }
+    
+    /**
+     * Append a fraction as a percentage with two decimals, e.g. 0.0525 as "5.25%"
+     * 
+     * @param out The buffer to append to
+     * @param fraction The fraction
+     * @return The buffer
+     */
+    public StringBuilder appendPercent(StringBuilder out, double fraction) {
+        writeNumber(out, fraction * 100, 2, false);
+        return out.append('%');
+    }
+    
+    /**
+     * Append a date as MM/dd/yyyy
+     * 
+     * @param out The buffer to append to
+     * @param date The date
+     * @return The buffer
+     */
+    public StringBuilder appendDate(StringBuilder out, LocalDate date) {
+        writeDate(out, date);
+        return out;
+    }
+    
+    /**
+     * Put a grouped currency amount with two decimals into a buffer
+     * 
+     * @param out The buffer to write to
+     * @param amount The amount
+     * @return The buffer
+     * @throws java.nio.BufferOverflowException If the buffer fills up
+     */
+    public CharBuffer appendCurrency(CharBuffer out, double amount) {
+        return appendCurrency(out, amount, true);
+    }
+    
+    /**
+     * Put a currency amount with two decimals into a buffer
+     * 
+     * @param out The buffer to write to
+     * @param amount The amount
+     * @param grouped True to group the digits
+     * @return The buffer
+     * @throws java.nio.BufferOverflowException If the buffer fills up
+     */
+    public CharBuffer appendCurrency(CharBuffer out, double amount, boolean grouped) {
+        out.append(currencySymbol);
+        writeNumber(out, amount, 2, grouped);
+        return out;
+    }
+    
+    /**
+     * Put a number with a fixed number of decimals into a buffer
+     * 
+     * @param out The buffer to write to
+     * @param value The value
+     * @param decimals The number of decimals, from 0 to 6
+     * @param grouped True to group the digits
+     * @return The buffer
+     * @throws IllegalArgumentException If decimals is out of range
+     * @throws java.nio.BufferOverflowException If the buffer fills up
+     */
+    public CharBuffer appendNumber(CharBuffer out, double value, int decimals, boolean grouped) {
+        writeNumber(out, value, decimals, grouped);
+        return out;
+    }
+    
+    /**
+     * Put a fraction as a percentage with two decimals into a buffer
+     * 
+     * @param out The buffer to write to
+     * @param fraction The fraction
+     * @return The buffer
+     * @throws java.nio.BufferOverflowException If the buffer fills up
+     */
+    public CharBuffer appendPercent(CharBuffer out, double fraction) {
+        writeNumber(out, fraction * 100, 2, false);
+        return out.append('%');
+    }
+    
+    /**
+     * Put a date as MM/dd/yyyy into a buffer
+     * 
+     * @param out The buffer to write to
+     * @param date The date
+     * @return The buffer
+     * @throws java.nio.BufferOverflowException If the buffer fills up
+     */
+    public CharBuffer appendDate(CharBuffer out, LocalDate date) {
+        writeDate(out, date);
+        return out;
+    }
+    
+    /**
+     * Write a number to either kind of buffer
+     * 
+     * @param out The StringBuilder or CharBuffer
+     * @param value The value
+     * @param decimals The number of decimals
+     * @param grouped True to group the digits
+     */
+    private void writeNumber(Appendable out, double value, int decimals, boolean grouped) {
+        if (decimals < 0 || decimals >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Decimals must be between 0 and " + (POWERS_OF_TEN.length - 1));
+        }
+        try {
+            long scale = POWERS_OF_TEN[decimals];
+            double magnitude = Math.abs(value);
+            if (!(magnitude * scale < MAX_SCALED)) {
+                // NaN, infinities and amounts in the quadrillions are rare enough to format the slow way
+                out.append(String.format(locale, grouped ? "%,." + decimals + "f" : "%." + decimals + "f", value));
+                return;
+            }
+            
+            long scaled = roundHalfUp(magnitude, scale);
+            // Like String.format, keep the sign of negative values that round to zero
+            if (Double.doubleToRawLongBits(value) < 0) {
+                out.append('-');
+            }
+            writeDigits(out, scaled / scale, grouped);
+            if (decimals > 0) {
+                out.append(decimalSeparator);
+                long fraction = scaled % scale;
+                for (long divisor = scale / 10; divisor > 0; divisor /= 10) {
+                    out.append((char) ('0' + fraction / divisor % 10));
+                }
+            }
+        } catch (IOException e) {
+            // Neither StringBuilder nor CharBuffer throws IOException
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Write a non-negative whole number, most significant digit first
+     * 
+     * @param out The StringBuilder or CharBuffer
+     * @param number The number
+     * @param grouped True to group the digits
+     * @throws IOException Never, for the buffers used here
+     */
+    private void writeDigits(Appendable out, long number, boolean grouped) throws IOException {
+        int digits = 1;
+        long divisor = 1;
+        while (divisor <= number / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (int position = digits - 1; position >= 0; position--) {
+            out.append((char) ('0' + number / divisor % 10));
+            divisor /= 10;
+            if (grouped && position > 0 && position % 3 == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+    }
+    
+    /**
+     * Write a date as MM/dd/yyyy
+     * 
+     * @param out The StringBuilder or CharBuffer
+     * @param date The date
+     */
+    private static void writeDate(Appendable out, LocalDate date) {
+        try {
+            int year = date.getYear();
+            if (year < 0 || year > 9999) {
+                out.append(LoanCalculator.formatDate(date));
+                return;
+            }
+            writeTwoDigits(out, date.getMonthValue());
+            out.append('/');
+            writeTwoDigits(out, date.getDayOfMonth());
+            out.append('/');
+            writeTwoDigits(out, year / 100);
+            writeTwoDigits(out, year % 100);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Write a number from 0 to 99 as two digits
+     * 
+     * @param out The StringBuilder or CharBuffer
+     * @param value The number
+     * @throws IOException Never, for the buffers used here
+     */
+    private static void writeTwoDigits(Appendable out, int value) throws IOException {
+        out.append((char) ('0' + value / 10));
+        out.append((char) ('0' + value % 10));
+    }
+    
+    /**
+     * Scale a non-negative value and round it half-up the way String.format does.
+     * Formatter rounds the shortest decimal that identifies the double, so 1.005
+     * (really 1.00499999999999989...) becomes 1.01. The half-way decimal counts as
+     * reached if it is at or below the exact value, or if it converts back to the
+     * same double.
+     * 
+     * @param value The value, at least zero
+     * @param scale The power of ten to scale by
+     * @return The rounded, scaled value
+     */
+    static long roundHalfUp(double value, long scale) {
+        double product = value * scale;
+        // product + error is exactly value * scale
+        double error = Math.fma(value, (double) scale, -product);
+        double floor = Math.floor(product);
+        double fraction = product - floor;
+        long rounded = (long) floor;
+        if (fraction == 0) {
+            return rounded;
+        }
+        if (fraction > 0.5 || (fraction == 0.5 && error >= 0) || (floor + 0.5) / scale == value) {
+            rounded++;
+        }
+        return rounded;
+    }
+}
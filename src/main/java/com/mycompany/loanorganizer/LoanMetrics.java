@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of call counters and latency histograms for the loan calculations.
+ * LoanCalculator and LoanAccount time their calculation methods with timers from
+ * this registry.
+ * 
+ * Recording is off by default. It is turned on with setEnabled(true) or by starting
+ * the JVM with -Dloanorganizer.metrics=true. While it is off, an instrumented call
+ * costs one volatile read. While it is on, it costs two System.nanoTime calls, one
+ * histogram increment and two LongAdder updates. Histogram buckets are striped by
+ * thread, so threads timing the same method mostly increment different counters
+ * instead of all hitting the bucket that holds the typical latency; the adders
+ * stripe themselves under contention.
+ * 
+ * Timers nest. A timed method that calls another timed method records both, and
+ * the outer time includes the inner one, so one calculateTotalInterest call also
+ * counts one calculateTotalLoanCost and one calculateMonthlyPayment call. Counts
+ * are therefore calls made, including calls from inside the library, not calls
+ * from application code.
+ * 
+ * Histograms have 16 sub-buckets per power of two, so reported percentiles are
+ * within 1/16 (6.25%) of the true value. Timers are published as JMX MXBeans under
+ * com.mycompany.loanorganizer:type=LoanMetrics once registerMBeans has been
+ * called, and dump() renders them all as a plain-text table.
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanMetrics {
+    private static final String DOMAIN = "com.mycompany.loanorganizer";
+    
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.getBoolean("loanorganizer.metrics");
+    private static volatile boolean mbeansRegistered;
+    
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LoanMetrics() {
+        // Utility class should not be instantiated
+    }
+    
+    /**
+     * Turn recording on or off
+     * 
+     * @param enable True to record calls
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+    
+    /**
+     * Check whether recording is on
+     * 
+     * @return True if calls are being recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get the timer with a name, creating it on first use
+     * 
+     * @param name The timer name, e.g. "LoanCalculator.calculateMonthlyPayment"
+     * @return The timer
+     */
+    public static Timer timer(String name) {
+        Timer timer = TIMERS.get(name);
+        if (timer != null) {
+            return timer;
+        }
+        timer = TIMERS.computeIfAbsent(name, Timer::new);
+        if (mbeansRegistered) {
+            register(timer);
+        }
+        return timer;
+    }
+    
+    /**
+     * Start timing a call
+     * 
+     * @return The start time to pass to Timer.record, or 0 when recording is off
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * Publish every timer, present and future, as a JMX MXBean on the platform MBean
+     * server. Calling it again has no effect.
+     */
+    public static synchronized void registerMBeans() {
+        if (mbeansRegistered) {
+            return;
+        }
+        mbeansRegistered = true;
+        for (Timer timer : TIMERS.values()) {
+            register(timer);
+        }
+    }
+    
+    /**
+     * Clear every timer
+     */
+    public static void reset() {
+        for (Timer timer : TIMERS.values()) {
+            timer.reset();
+        }
+    }
+    
+    /**
+     * Render every timer that has recorded calls as a plain-text table, latencies
+     * in nanoseconds
+     * 
+     * @return The table
+     */
+    public static String dump() {
+        List<Timer> timers = new ArrayList<>(TIMERS.values());
+        timers.sort((a, b) -> a.getName().compareTo(b.getName()));
+        
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-50s %10s %10s %10s %10s %10s %10s%n",
+                "Timer", "Count", "Mean ns", "p50 ns", "p99 ns", "p999 ns", "Max ns"));
+        for (Timer timer : timers) {
+            long count = timer.getCount();
+            if (count == 0) {
+                continue;
+            }
+            out.append(String.format("%-50s %10d %10d %10d %10d %10d %10d%n", timer.getName(), count,
+                    timer.getMeanNanos(), timer.getP50Nanos(), timer.getP99Nanos(), timer.getP999Nanos(),
+                    timer.getMaxNanos()));
+        }
+        return out.toString();
+    }
+    
+    /**
+     * Register one timer with the platform MBean server
+     * 
+     * @param timer The timer
+     */
+    private static void register(Timer timer) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=LoanMetrics,name=" + ObjectName.quote(timer.getName()));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(timer, name);
+            }
+        } catch (JMException e) {
+            // Metrics must never break a calculation; the timer stays readable through dump()
+        }
+    }
+    
+    /**
+     * The JMX view of a timer
+     */
+    public interface TimerMXBean {
+        String getName();
+        
+        long getCount();
+        
+        long getMeanNanos();
+        
+        long getP50Nanos();
+        
+        long getP99Nanos();
+        
+        long getP999Nanos();
+        
+        long getMaxNanos();
+        
+        void reset();
+    }
+    
+    /**
+     * A call counter with a lock-free log-linear latency histogram. Bucket counts
+     * are kept in an AtomicLongArray with one stripe of buckets per group of
+     * threads, so concurrent recorders never block and rarely share a counter. A
+     * recording is one increment plus two adder updates; reads add up the stripes.
+     */
+    public static final class Timer implements TimerMXBean {
+        // 16 sub-buckets per power of two; values of 2^40 ns (about 18 minutes) and up share the top bucket
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int MAX_EXPONENT = 40;
+        private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+        // One stripe per processor rounded up to a power of two, at most 16 stripes of 4.75 KB per timer
+        private static final int STRIPES = Math.min(16,
+                Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+        
+        private final String name;
+        private final AtomicLongArray buckets = new AtomicLongArray(STRIPES * BUCKETS);
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        
+        /**
+         * Constructor for an empty timer
+         * 
+         * @param name The timer name
+         */
+        private Timer(String name) {
+            this.name = name;
+        }
+        
+        /**
+         * Record a call that started at the given time
+         * 
+         * @param startNanos The value returned by LoanMetrics.start; 0 records nothing
+         */
+        public void record(long startNanos) {
+            if (startNanos != 0L) {
+                recordNanos(System.nanoTime() - startNanos);
+            }
+        }
+        
+        /**
+         * Record one call with a known duration
+         * 
+         * @param nanos The duration in nanoseconds
+         */
+        public void recordNanos(long nanos) {
+            long value = Math.max(0L, nanos);
+            // Stripes are a whole histogram apart, so different stripes never share a cache line
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            buckets.incrementAndGet(stripe * BUCKETS + bucketIndex(value));
+            totalNanos.add(value);
+            count.increment();
+            long max = maxNanos.get();
+            while (value > max && !maxNanos.compareAndSet(max, value)) {
+                max = maxNanos.get();
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return name;
+        }
+        
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+        
+        @Override
+        public long getMeanNanos() {
+            long calls = count.sum();
+            return calls == 0 ? 0 : totalNanos.sum() / calls;
+        }
+        
+        @Override
+        public long getP50Nanos() {
+            return getPercentileNanos(0.50);
+        }
+        
+        @Override
+        public long getP99Nanos() {
+            return getPercentileNanos(0.99);
+        }
+        
+        @Override
+        public long getP999Nanos() {
+            return getPercentileNanos(0.999);
+        }
+        
+        @Override
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+        
+        /**
+         * Get a latency percentile
+         * 
+         * @param quantile The quantile, between 0 and 1
+         * @return The upper bound of the bucket holding the percentile, capped at the
+         *         largest recorded value, or 0 if nothing has been recorded
+         */
+        public long getPercentileNanos(double quantile) {
+            long[] snapshot = new long[BUCKETS];
+            long total = 0;
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                int offset = stripe * BUCKETS;
+                for (int i = 0; i < BUCKETS; i++) {
+                    snapshot[i] += buckets.get(offset + i);
+                }
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                total += snapshot[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+        
+        @Override
+        public void reset() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, 0);
+            }
+            totalNanos.reset();
+            count.reset();
+            maxNanos.set(0);
+        }
+        
+        /**
+         * Find the bucket for a value
+         * 
+         * @param value The non-negative value
+         * @return The bucket index
+         */
+        static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) {
+                subBucket = SUB_BUCKETS - 1;
+            }
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+        
+        /**
+         * Get the largest value that falls in a bucket
+         * 
+         * @param index The bucket index
+         * @return The bucket's upper bound
+         */
+        static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long subBucket = index % SUB_BUCKETS;
+            long width = 1L << (exponent - SUB_BUCKET_BITS);
+            return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+        }
+    }
+}
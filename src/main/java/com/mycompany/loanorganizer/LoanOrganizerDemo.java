@@ -129,17 +129,14 @@ public class LoanOrganizerDemo {
         
         // Generate amortization schedule for first few payments
         System.out.println("\nAmortization Schedule (first 3 months):");
-        List<PaymentDetails> schedule = mortgage.generateAmortizationSchedule();
         System.out.println("Month\tPayment\t\tPrincipal\tInterest\tRemaining Balance");
-        for (int i = 0; i < 3 && i < schedule.size(); i++) {
-            PaymentDetails payment = schedule.get(i);
+        mortgage.amortizationStream().limit(3).forEach(payment ->
             System.out.printf("%d\t%s\t%s\t%s\t%s%n",
                     payment.getMonth(),
                     LoanCalculator.formatCurrency(payment.getMonthlyPayment()),
                     LoanCalculator.formatCurrency(payment.getPrincipalPayment()),
                     LoanCalculator.formatCurrency(payment.getInterestPayment()),
-                    LoanCalculator.formatCurrency(payment.getRemainingBalance()));
-        }
+                    LoanCalculator.formatCurrency(payment.getRemainingBalance())));
         System.out.println("... (remaining payments omitted)");
     }
     
@@ -8,7 +8,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 /**
  * Simple GUI for Loan Organizer application
@@ -18,6 +20,9 @@ import java.util.List;
  */
 public class LoanOrganizerGUI extends JFrame {
     
+    // Quiet period after the last edit before a live update recalculates
+    private static final int LIVE_UPDATE_DELAY_MS = 300;
+    
     private JTabbedPane tabbedPane;
     private JPanel loanDetailsPanel;
     private JPanel amortizationPanel;
@@ -30,12 +35,21 @@ public class LoanOrganizerGUI extends JFrame {
     private JTextField interestRateField;
     private JTextField termField;
     private JButton calculateButton;
+    private JCheckBox liveUpdateCheckBox;
+    private Timer liveUpdateTimer;
     
     // Results display
     private JLabel monthlyPaymentLabel;
     private JLabel totalInterestLabel;
     private JLabel totalPaymentLabel;
-    private JTextArea amortizationTextArea;
+    private JLabel amortizationSummaryLabel;
+    private AmortizationTableModel amortizationModel;
+    private final StringBuilder labelText = new StringBuilder(128);
+    
+    // Background work; a newer request cancels the one still running
+    private JProgressBar progressBar;
+    private SwingWorker<double[], Void> calculationWorker;
+    private SwingWorker<String, Void> comparisonWorker;
     
     public LoanOrganizerGUI() {
         setTitle("Loan Organizer");
@@ -59,8 +73,13 @@ public class LoanOrganizerGUI extends JFrame {
         tabbedPane.addTab("Amortization Schedule", amortizationPanel);
         tabbedPane.addTab("Loan Comparison", comparisonPanel);
         
+        // Status bar showing the progress of background calculations
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
+        
         // Add tabbed pane to frame
-        getContentPane().add(tabbedPane);
+        getContentPane().add(tabbedPane, BorderLayout.CENTER);
+        getContentPane().add(progressBar, BorderLayout.SOUTH);
     }
     
     private void createLoanDetailsPanel() {
@@ -96,10 +115,51 @@ public class LoanOrganizerGUI extends JFrame {
         calculateButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                calculateLoan();
+                calculateLoan(true);
+            }
+        });
+        
+        // Live update recalculates once the principal, rate and term fields stop changing
+        liveUpdateTimer = new Timer(LIVE_UPDATE_DELAY_MS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                calculateLoan(false);
+            }
+        });
+        liveUpdateTimer.setRepeats(false);
+        
+        liveUpdateCheckBox = new JCheckBox("Live update");
+        liveUpdateCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (liveUpdateCheckBox.isSelected()) {
+                    calculateLoan(false);
+                } else {
+                    liveUpdateTimer.stop();
+                }
             }
         });
         
+        DocumentListener liveUpdateListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleLiveUpdate();
+            }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleLiveUpdate();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleLiveUpdate();
+            }
+        };
+        principalField.getDocument().addDocumentListener(liveUpdateListener);
+        interestRateField.getDocument().addDocumentListener(liveUpdateListener);
+        termField.getDocument().addDocumentListener(liveUpdateListener);
+        
         // Results panel
         JPanel resultsPanel = new JPanel(new GridLayout(0, 2, 10, 10));
         resultsPanel.setBorder(BorderFactory.createTitledBorder("Results"));
@@ -118,6 +178,7 @@ public class LoanOrganizerGUI extends JFrame {
         
         JPanel buttonPanel = new JPanel();
         buttonPanel.add(calculateButton);
+        buttonPanel.add(liveUpdateCheckBox);
         
         loanDetailsPanel.add(inputPanel, BorderLayout.NORTH);
         loanDetailsPanel.add(resultsPanel, BorderLayout.CENTER);
@@ -127,10 +188,18 @@ public class LoanOrganizerGUI extends JFrame {
     private void createAmortizationPanel() {
         amortizationPanel = new JPanel(new BorderLayout());
         
-        amortizationTextArea = new JTextArea();
-        amortizationTextArea.setEditable(false);
-        JScrollPane scrollPane = new JScrollPane(amortizationTextArea);
+        amortizationSummaryLabel = new JLabel(" ");
+        amortizationSummaryLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        
+        // The model computes rows on demand, so only the visible rows are ever calculated or formatted
+        amortizationModel = new AmortizationTableModel();
+        JTable amortizationTable = new JTable(amortizationModel);
+        amortizationTable.setDefaultRenderer(Double.class, new AmortizationTableModel.CurrencyRenderer());
+        amortizationTable.setDefaultRenderer(LocalDate.class, new AmortizationTableModel.DateRenderer());
+        amortizationTable.setFillsViewportHeight(true);
+        JScrollPane scrollPane = new JScrollPane(amortizationTable);
         
+        amortizationPanel.add(amortizationSummaryLabel, BorderLayout.NORTH);
         amortizationPanel.add(scrollPane, BorderLayout.CENTER);
     }
     
@@ -175,46 +244,72 @@ public class LoanOrganizerGUI extends JFrame {
         compareButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                double p1;
+                double r1;
+                double p2;
+                double r2;
+                int term;
                 try {
-                    double p1 = Double.parseDouble(loan1Principal.getText());
-                    double r1 = Double.parseDouble(loan1Rate.getText()) / 100;
-                    double p2 = Double.parseDouble(loan2Principal.getText());
-                    double r2 = Double.parseDouble(loan2Rate.getText()) / 100;
-                    int term = Integer.parseInt(termMonths.getText());
-                    
-                    LoanAccount loan1 = new LoanAccount("Loan 1", "Personal", p1, r1, term);
-                    LoanAccount loan2 = new LoanAccount("Loan 2", "Personal", p2, r2, term);
-                    
-                    double payment1 = loan1.calculateMonthlyPayment(term);
-                    double payment2 = loan2.calculateMonthlyPayment(term);
-                    double interest1 = loan1.calculateTotalInterest();
-                    double interest2 = loan2.calculateTotalInterest();
-                    
-                    StringBuilder sb = new StringBuilder();
-                    sb.append("LOAN COMPARISON\n\n");
-                    sb.append(String.format("Loan 1 ($%.2f at %.2f%%):\n", p1, r1 * 100));
-                    sb.append(String.format("  Monthly Payment: $%.2f\n", payment1));
-                    sb.append(String.format("  Total Interest: $%.2f\n", interest1));
-                    sb.append(String.format("  Total Cost: $%.2f\n\n", p1 + interest1));
-                    
-                    sb.append(String.format("Loan 2 ($%.2f at %.2f%%):\n", p2, r2 * 100));
-                    sb.append(String.format("  Monthly Payment: $%.2f\n", payment2));
-                    sb.append(String.format("  Total Interest: $%.2f\n", interest2));
-                    sb.append(String.format("  Total Cost: $%.2f\n\n", p2 + interest2));
-                    
-                    if (p1 + interest1 < p2 + interest2) {
-                        sb.append("Loan 1 costs less overall by $").append(String.format("%.2f", (p2 + interest2) - (p1 + interest1)));
-                    } else if (p2 + interest2 < p1 + interest1) {
-                        sb.append("Loan 2 costs less overall by $").append(String.format("%.2f", (p1 + interest1) - (p2 + interest2)));
-                    } else {
-                        sb.append("Both loans have the same overall cost.");
-                    }
-                    
-                    comparisonResults.setText(sb.toString());
-                    
+                    p1 = Double.parseDouble(loan1Principal.getText());
+                    r1 = Double.parseDouble(loan1Rate.getText()) / 100;
+                    p2 = Double.parseDouble(loan2Principal.getText());
+                    r2 = Double.parseDouble(loan2Rate.getText()) / 100;
+                    term = Integer.parseInt(termMonths.getText());
                 } catch (NumberFormatException ex) {
                     comparisonResults.setText("Error: Please enter valid numbers for all fields.");
+                    return;
+                }
+                
+                if (comparisonWorker != null) {
+                    comparisonWorker.cancel(true);
                 }
+                comparisonResults.setText("Comparing...");
+                comparisonWorker = new SwingWorker<String, Void>() {
+                    @Override
+                    protected String doInBackground() {
+                        LoanAccount loan1 = new LoanAccount("Loan 1", "Personal", p1, r1, term);
+                        LoanAccount loan2 = new LoanAccount("Loan 2", "Personal", p2, r2, term);
+                        
+                        double payment1 = loan1.calculateMonthlyPayment(term);
+                        double interest1 = loan1.calculateTotalInterest();
+                        setProgress(50);
+                        double payment2 = loan2.calculateMonthlyPayment(term);
+                        double interest2 = loan2.calculateTotalInterest();
+                        setProgress(100);
+                        
+                        StringBuilder sb = new StringBuilder(512);
+                        sb.append("LOAN COMPARISON\n\n");
+                        appendComparison(sb, "Loan 1", p1, r1, payment1, interest1);
+                        appendComparison(sb, "Loan 2", p2, r2, payment2, interest2);
+                        
+                        if (p1 + interest1 < p2 + interest2) {
+                            sb.append("Loan 1 costs less overall by ");
+                            LoanFormatter.US.appendCurrency(sb, (p2 + interest2) - (p1 + interest1), false);
+                        } else if (p2 + interest2 < p1 + interest1) {
+                            sb.append("Loan 2 costs less overall by ");
+                            LoanFormatter.US.appendCurrency(sb, (p1 + interest1) - (p2 + interest2), false);
+                        } else {
+                            sb.append("Both loans have the same overall cost.");
+                        }
+                        return sb.toString();
+                    }
+                    
+                    @Override
+                    protected void done() {
+                        if (isCancelled() || this != comparisonWorker) {
+                            return;
+                        }
+                        try {
+                            comparisonResults.setText(get());
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        } catch (ExecutionException ex) {
+                            comparisonResults.setText("Error: " + ex.getCause().getMessage());
+                        }
+                    }
+                };
+                trackProgress(comparisonWorker);
+                comparisonWorker.execute();
             }
         });
         
@@ -226,55 +321,156 @@ public class LoanOrganizerGUI extends JFrame {
         comparisonPanel.add(buttonPanel, BorderLayout.SOUTH);
     }
     
-    private void calculateLoan() {
-        try {
-            // Get values from input fields
-            String loanName = loanNameField.getText();
-            String loanType = (String) loanTypeCombo.getSelectedItem();
-            double principal = Double.parseDouble(principalField.getText());
-            double annualRate = Double.parseDouble(interestRateField.getText()) / 100; // Convert to decimal
-            int termMonths = Integer.parseInt(termField.getText());
-            
-            // Create loan object
-            LoanAccount loan = new LoanAccount(loanName, loanType, principal, annualRate, termMonths);
-            
-            // Calculate results
-            double monthlyPayment = loan.calculateMonthlyPayment(termMonths);
-            double totalInterest = loan.calculateTotalInterest();
-            double totalPayment = principal + totalInterest;
-            
-            // Display results
-            monthlyPaymentLabel.setText(String.format("$%.2f", monthlyPayment));
-            totalInterestLabel.setText(String.format("$%.2f", totalInterest));
-            totalPaymentLabel.setText(String.format("$%.2f", totalPayment));
-            
-            // Update amortization schedule
-            List<PaymentDetails> schedule = loan.generateAmortizationSchedule();
-            StringBuilder sb = new StringBuilder();
-            sb.append(String.format("AMORTIZATION SCHEDULE FOR %s\n\n", loanName));
-            sb.append(String.format("Principal: $%.2f, Rate: %.2f%%, Term: %d months\n\n", 
-                    principal, annualRate * 100, termMonths));
-            sb.append("Month\tPayment\t\tPrincipal\tInterest\tRemaining Balance\n");
-            
-            for (PaymentDetails payment : schedule) {
-                sb.append(String.format("%d\t$%.2f\t\t$%.2f\t\t$%.2f\t\t$%.2f\n",
-                        payment.getMonth(),
-                        payment.getMonthlyPayment(),
-                        payment.getPrincipalPayment(),
-                        payment.getInterestPayment(),
-                        payment.getRemainingBalance()));
+    /**
+     * Append one loan's section of the comparison text
+     * 
+     * @param sb The text being built
+     * @param name The loan's label
+     * @param principal The principal
+     * @param annualRate The annual interest rate as a decimal
+     * @param payment The monthly payment
+     * @param interest The total interest
+     */
+    private static void appendComparison(StringBuilder sb, String name, double principal, double annualRate,
+            double payment, double interest) {
+        LoanFormatter formatter = LoanFormatter.US;
+        formatter.appendCurrency(sb.append(name).append(" ("), principal, false).append(" at ");
+        formatter.appendPercent(sb, annualRate).append("):\n");
+        formatter.appendCurrency(sb.append("  Monthly Payment: "), payment, false).append('\n');
+        formatter.appendCurrency(sb.append("  Total Interest: "), interest, false).append('\n');
+        formatter.appendCurrency(sb.append("  Total Cost: "), principal + interest, false).append("\n\n");
+    }
+    
+    /**
+     * Show an amount in a result label, reusing the EDT's text buffer
+     * 
+     * @param label The label
+     * @param amount The amount
+     */
+    private void setCurrencyText(JLabel label, double amount) {
+        labelText.setLength(0);
+        label.setText(LoanFormatter.US.appendCurrency(labelText, amount, false).toString());
+    }
+    
+    /**
+     * Recalculate after the debounce delay if live update is on. Each edit restarts
+     * the delay, so a burst of typing triggers a single calculation.
+     */
+    private void scheduleLiveUpdate() {
+        if (liveUpdateCheckBox.isSelected()) {
+            liveUpdateTimer.restart();
+        }
+    }
+    
+    /**
+     * Show a worker's progress in the status bar until it finishes
+     * 
+     * @param worker The worker to follow
+     */
+    private void trackProgress(SwingWorker<?, ?> worker) {
+        progressBar.setValue(0);
+        worker.addPropertyChangeListener(e -> {
+            if (worker.isCancelled()) {
+                return;
             }
-            
-            amortizationTextArea.setText(sb.toString());
-            
-            // Switch to amortization tab
-            tabbedPane.setSelectedIndex(1);
-            
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            } else if (worker.isDone()) {
+                progressBar.setValue(0);
+            }
+        });
+    }
+    
+    /**
+     * Calculate the loan in the input fields on a background thread. Any
+     * calculation still running is cancelled and its result discarded.
+     * 
+     * @param interactive True when the user pressed Calculate: invalid input is
+     *        reported and the schedule tab is shown. Live updates skip both.
+     */
+    private void calculateLoan(boolean interactive) {
+        // Get values from input fields
+        String loanName = loanNameField.getText();
+        String loanType = (String) loanTypeCombo.getSelectedItem();
+        double principal;
+        double annualRate;
+        int termMonths;
+        try {
+            principal = Double.parseDouble(principalField.getText());
+            annualRate = Double.parseDouble(interestRateField.getText()) / 100; // Convert to decimal
+            termMonths = Integer.parseInt(termField.getText());
         } catch (NumberFormatException e) {
-            JOptionPane.showMessageDialog(this, 
-                    "Please enter valid numbers for principal, interest rate, and term.",
-                    "Input Error", JOptionPane.ERROR_MESSAGE);
+            if (interactive) {
+                JOptionPane.showMessageDialog(this, 
+                        "Please enter valid numbers for principal, interest rate, and term.",
+                        "Input Error", JOptionPane.ERROR_MESSAGE);
+            }
+            return;
         }
+        
+        if (calculationWorker != null) {
+            calculationWorker.cancel(true);
+        }
+        
+        LoanEvents.GuiCalculationEvent event = new LoanEvents.GuiCalculationEvent();
+        event.begin();
+        LoanAccount loan = new LoanAccount(loanName, loanType, principal, annualRate, termMonths);
+        calculationWorker = new SwingWorker<double[], Void>() {
+            @Override
+            protected double[] doInBackground() {
+                // Calculate results
+                double monthlyPayment = loan.calculateMonthlyPayment(termMonths);
+                setProgress(50);
+                double totalInterest = loan.calculateTotalInterest();
+                setProgress(100);
+                return new double[] {monthlyPayment, totalInterest};
+            }
+            
+            @Override
+            protected void done() {
+                // A newer calculation has replaced this one
+                if (isCancelled() || this != calculationWorker) {
+                    return;
+                }
+                double[] results;
+                try {
+                    results = get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    if (interactive) {
+                        JOptionPane.showMessageDialog(LoanOrganizerGUI.this, e.getCause().getMessage(),
+                                "Calculation Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                    return;
+                }
+                double monthlyPayment = results[0];
+                double totalInterest = results[1];
+                double totalPayment = principal + totalInterest;
+                
+                // Display results
+                setCurrencyText(monthlyPaymentLabel, monthlyPayment);
+                setCurrencyText(totalInterestLabel, totalInterest);
+                setCurrencyText(totalPaymentLabel, totalPayment);
+                
+                // Update amortization schedule
+                amortizationModel.setLoan(principal, annualRate, termMonths, loan.getStartDate());
+                labelText.setLength(0);
+                labelText.append("Amortization schedule for ").append(loanName).append(" - Principal: ");
+                LoanFormatter.US.appendCurrency(labelText, principal, false).append(", Rate: ");
+                LoanFormatter.US.appendPercent(labelText, annualRate).append(", Term: ").append(termMonths);
+                amortizationSummaryLabel.setText(labelText.append(" months").toString());
+                event.finish(loanType, termMonths, amortizationModel.getRowCount());
+                
+                // Switch to amortization tab
+                if (interactive) {
+                    tabbedPane.setSelectedIndex(1);
+                }
+            }
+        };
+        trackProgress(calculationWorker);
+        calculationWorker.execute();
     }
     
     /**
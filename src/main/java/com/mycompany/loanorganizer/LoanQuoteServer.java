@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A headless JSON-over-HTTP service exposing the LoanCalculator operations, built on
+ * the JDK's com.sun.net.httpserver. All endpoints take GET query parameters and
+ * return a JSON object:
+ * <pre>
+ *   /quote/payment         principal, rate, term
+ *   /quote/total-interest  principal, rate, term
+ *   /quote/schedule        principal, rate, term, start (optional, yyyy-MM-dd)
+ *   /quote/payoff-months   principal, rate, payment
+ *   /quote/affordable      payment, rate, term
+ * </pre>
+ * Rates are annual decimals, e.g. rate=0.045. Invalid requests get status 400 with
+ * an "error" field. Unexpected failures get status 500 with a generic message and
+ * are logged, so internal details never reach the client.
+ * 
+ * Requests run on virtual threads when the runtime supports them (JDK 21 and
+ * later), and otherwise on a bounded thread pool. When its queue is full the pool
+ * rejects the request, and the accepting thread answers it with status 503 and a
+ * Retry-After header instead of computing the quote.
+ * 
+ * Small JSON responses wait on Nagle's algorithm and delayed ACKs unless the JDK
+ * server sets TCP_NODELAY, which caps each keep-alive connection at roughly 25
+ * requests per second. main turns it on; applications that embed the server
+ * should launch with -Dsun.net.httpserver.nodelay=true, or call enableNoDelay
+ * before the first start, since the JDK reads the property only once.
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanQuoteServer {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int MAX_TERM = 600;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final System.Logger LOG = System.getLogger(LoanQuoteServer.class.getName());
+    
+    // Set while the accepting thread answers a request the pool rejected
+    private static final ThreadLocal<Boolean> REJECTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    
+    /**
+     * Constructor for a server that is bound but not yet started
+     * 
+     * @param server The bound HTTP server
+     * @param executor The executor requests run on
+     * @param virtualThreads Whether the executor uses virtual threads
+     */
+    private LoanQuoteServer(HttpServer server, ExecutorService executor, boolean virtualThreads) {
+        this.server = server;
+        this.executor = executor;
+        this.virtualThreads = virtualThreads;
+    }
+    
+    /**
+     * Start a server on a port
+     * 
+     * @param port The port to listen on, or 0 for any free port
+     * @return The running server
+     * @throws IOException If the port cannot be bound
+     */
+    public static LoanQuoteServer start(int port) throws IOException {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        ExecutorService executor = virtual != null ? virtual : newBoundedExecutor();
+        
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/quote/", LoanQuoteServer::handle);
+        server.setExecutor(virtual != null ? virtual : rejectingExecutor(executor));
+        server.start();
+        return new LoanQuoteServer(server, executor, virtual != null);
+    }
+    
+    /**
+     * Get the port the server is listening on
+     * 
+     * @return The port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * Check whether requests run on virtual threads
+     * 
+     * @return True on virtual threads, false on the bounded pool
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    /**
+     * Stop the server, giving requests in progress up to a second to finish
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+    
+    /**
+     * Main method to run the server
+     * 
+     * @param args Optional port number (default 8080)
+     * @throws IOException If the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        enableNoDelay();
+        LoanQuoteServer quoteServer = start(port);
+        System.out.println("Loan quote server listening on port " + quoteServer.getPort()
+                + (quoteServer.isUsingVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
+        Runtime.getRuntime().addShutdownHook(new Thread(quoteServer::stop));
+    }
+    
+    /**
+     * Turn on TCP_NODELAY for the JDK HTTP server unless the launch flags already
+     * set it. This sets a JVM-wide system property, and the JDK reads it when its
+     * server classes first load, so call it before the first server starts.
+     */
+    public static void enableNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+    
+    /**
+     * Create a virtual-thread-per-task executor if the runtime has one. Looked up
+     * reflectively because the library targets Java 11.
+     * 
+     * @return The executor, or null if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Create the fallback executor: one thread per processor and a bounded queue
+     * that rejects requests once it is full
+     * 
+     * @return The executor
+     */
+    private static ExecutorService newBoundedExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+    
+    /**
+     * Wrap a pool so that a task it rejects runs on the submitting thread marked as
+     * rejected. The JDK server closes the connection without a response when its
+     * executor throws, so this is how a rejected exchange still gets its 503.
+     * 
+     * @param pool The pool to run tasks on
+     * @return The executor to give the HTTP server
+     */
+    static Executor rejectingExecutor(Executor pool) {
+        return task -> {
+            try {
+                pool.execute(task);
+            } catch (RejectedExecutionException e) {
+                REJECTED.set(Boolean.TRUE);
+                try {
+                    task.run();
+                } finally {
+                    REJECTED.remove();
+                }
+            }
+        };
+    }
+    
+    /**
+     * Check whether the current thread is answering a request the pool rejected
+     * 
+     * @return True while a rejected request is being answered
+     */
+    static boolean isRejected() {
+        return REJECTED.get();
+    }
+    
+    /**
+     * Handle one request
+     * 
+     * @param exchange The HTTP exchange
+     * @throws IOException If the response cannot be written
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        int status;
+        String body;
+        try {
+            if (isRejected()) {
+                status = 503;
+                body = error("Server is overloaded, try again later");
+                exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+            } else if (!"GET".equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = error("Only GET is supported");
+            } else {
+                String operation = exchange.getRequestURI().getPath().substring("/quote/".length());
+                body = quote(operation, parseQuery(exchange.getRequestURI().getRawQuery()));
+                status = 200;
+                if (body == null) {
+                    status = 404;
+                    body = error("Unknown operation: " + operation);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e);
+        } catch (RuntimeException e) {
+            // Always answer, so the client is never left waiting for its timeout, but
+            // keep the exception's details in the log
+            LOG.log(System.Logger.Level.ERROR, "Quote request failed: " + exchange.getRequestURI(), e);
+            status = 500;
+            body = error("Internal server error");
+        }
+        
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Run one quote operation
+     * 
+     * @param operation The operation name from the request path
+     * @param params The query parameters
+     * @return The JSON response, or null if the operation is unknown
+     * @throws IllegalArgumentException If a parameter is missing or invalid
+     */
+    static String quote(String operation, Map<String, String> params) {
+        switch (operation) {
+            case "payment": {
+                double principal = amount(params, "principal");
+                double rate = rate(params);
+                int term = term(params);
+                return new JsonObject()
+                        .add("principal", principal).add("rate", rate).add("term", term)
+                        .add("monthlyPayment", LoanCalculator.calculateMonthlyPayment(principal, rate, term))
+                        .toString();
+            }
+            case "total-interest": {
+                double principal = amount(params, "principal");
+                double rate = rate(params);
+                int term = term(params);
+                return new JsonObject()
+                        .add("principal", principal).add("rate", rate).add("term", term)
+                        .add("totalInterest", LoanCalculator.calculateTotalInterest(principal, rate, term))
+                        .add("totalCost", LoanCalculator.calculateTotalLoanCost(principal, rate, term))
+                        .toString();
+            }
+            case "schedule":
+                return schedule(params);
+            case "payoff-months": {
+                double principal = amount(params, "principal");
+                double rate = rate(params);
+                double payment = amount(params, "payment");
+                int months = LoanCalculator.calculateMonthsUntilPayoff(principal, rate, payment);
+                JsonObject json = new JsonObject()
+                        .add("principal", principal).add("rate", rate).add("payment", payment);
+                // The calculator reports -1 when the payment never covers the interest
+                return (months < 0 ? json.addNull("months") : json.add("months", months)).toString();
+            }
+            case "affordable": {
+                double payment = amount(params, "payment");
+                double rate = rate(params);
+                int term = term(params);
+                return new JsonObject()
+                        .add("payment", payment).add("rate", rate).add("term", term)
+                        .add("affordableAmount", LoanCalculator.calculateAffordableLoanAmount(payment, rate, term))
+                        .toString();
+            }
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * Build the JSON for an amortization schedule
+     * 
+     * @param params The query parameters
+     * @return The JSON response
+     */
+    private static String schedule(Map<String, String> params) {
+        double principal = amount(params, "principal");
+        double rate = rate(params);
+        int term = term(params);
+        LocalDate start;
+        try {
+            start = params.containsKey("start") ? LocalDate.parse(params.get("start")) : LocalDate.now();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("start must be a date in yyyy-MM-dd format");
+        }
+        
+        AmortizationTable table = LoanCalculator.generateAmortizationTable(principal, rate, term, start);
+        StringBuilder json = new StringBuilder(64 + table.size() * 128);
+        json.append("{\"principal\":").append(principal)
+                .append(",\"rate\":").append(rate)
+                .append(",\"term\":").append(term)
+                .append(",\"totalInterest\":").append(table.getTotalInterest())
+                .append(",\"payments\":[");
+        for (int i = 0; i < table.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"month\":").append(table.getMonth(i))
+                    .append(",\"date\":\"").append(table.getPaymentDate(i)).append('"')
+                    .append(",\"payment\":").append(table.getMonthlyPayment(i))
+                    .append(",\"principal\":").append(table.getPrincipalPayment(i))
+                    .append(",\"interest\":").append(table.getInterestPayment(i))
+                    .append(",\"balance\":").append(table.getRemainingBalance(i))
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+    
+    /**
+     * Read a required non-negative amount
+     * 
+     * @param params The query parameters
+     * @param name The parameter name
+     * @return The amount
+     * @throws IllegalArgumentException If it is missing, not a number or negative
+     */
+    private static double amount(Map<String, String> params, String name) {
+        double value = number(params, name);
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " cannot be negative");
+        }
+        return value;
+    }
+    
+    /**
+     * Read the required annual interest rate
+     * 
+     * @param params The query parameters
+     * @return The rate as a decimal
+     * @throws IllegalArgumentException If it is missing or outside 0 to 1
+     */
+    private static double rate(Map<String, String> params) {
+        double rate = number(params, "rate");
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be an annual decimal rate between 0 and 1");
+        }
+        return rate;
+    }
+    
+    /**
+     * Read the required term in months
+     * 
+     * @param params The query parameters
+     * @return The term
+     * @throws IllegalArgumentException If it is missing or outside 1 to 600 months
+     */
+    private static int term(Map<String, String> params) {
+        String value = required(params, "term");
+        try {
+            int term = Integer.parseInt(value);
+            if (term < 1 || term > MAX_TERM) {
+                throw new IllegalArgumentException("term must be between 1 and " + MAX_TERM + " months");
+            }
+            return term;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("term must be a whole number of months");
+        }
+    }
+    
+    /**
+     * Read a required finite number
+     * 
+     * @param params The query parameters
+     * @param name The parameter name
+     * @return The number
+     * @throws IllegalArgumentException If it is missing or not a finite number
+     */
+    private static double number(Map<String, String> params, String name) {
+        String value = required(params, name);
+        try {
+            double number = Double.parseDouble(value);
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new IllegalArgumentException(name + " must be a finite number");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+    
+    /**
+     * Read a required parameter
+     * 
+     * @param params The query parameters
+     * @param name The parameter name
+     * @return The raw value
+     * @throws IllegalArgumentException If it is missing or empty
+     */
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+    
+    /**
+     * Parse a raw query string into parameters
+     * 
+     * @param query The raw query string, may be null
+     * @return The decoded parameters
+     */
+    static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+    
+    /**
+     * Build an error response
+     * 
+     * @param message The error message
+     * @return The JSON response
+     */
+    private static String error(String message) {
+        return new JsonObject().add("error", message).toString();
+    }
+    
+    /**
+     * Build an error response for an invalid request
+     * 
+     * @param e The exception describing what is wrong with the request
+     * @return The JSON response, with the exception's class name if it has no message
+     */
+    static String error(IllegalArgumentException e) {
+        return error(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+    }
+    
+    /**
+     * Minimal builder for the flat JSON objects the service returns
+     */
+    private static class JsonObject {
+        private final StringBuilder json = new StringBuilder("{");
+        
+        JsonObject add(String name, double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                // JSON has no NaN or infinity
+                return addNull(name);
+            }
+            field(name).append(value);
+            return this;
+        }
+        
+        JsonObject add(String name, int value) {
+            field(name).append(value);
+            return this;
+        }
+        
+        JsonObject add(String name, String value) {
+            StringBuilder out = field(name).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    out.append('\\').append(c);
+                } else if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            out.append('"');
+            return this;
+        }
+        
+        JsonObject addNull(String name) {
+            field(name).append("null");
+            return this;
+        }
+        
+        private StringBuilder field(String name) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            return json.append('"').append(name).append("\":");
+        }
+        
+        @Override
+        public String toString() {
+            return json.toString() + "}";
+        }
+    }
+}
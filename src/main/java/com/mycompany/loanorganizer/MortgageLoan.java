@@ -4,6 +4,8 @@
  */
 package com.mycompany.loanorganizer;
 
+import java.time.LocalDate;
+
 /**
  * Represents a mortgage loan with specific features for home loans
  * 
@@ -40,7 +42,28 @@ public class MortgageLoan extends LoanAccount {
     public MortgageLoan(String loanName, double principal, double annualInterestRate,
                         int termInMonths, String propertyAddress, double propertyValue,
                         double downPayment, boolean escrowIncluded, double escrowAmount) {
-        super(loanName, "Mortgage", principal, annualInterestRate, termInMonths);
+        this(loanName, principal, annualInterestRate, termInMonths, propertyAddress, propertyValue, downPayment,
+                escrowIncluded, escrowAmount, LocalDate.now());
+    }
+    
+    /**
+     * Constructor with parameters for a mortgage loan starting on a given date
+     * 
+     * @param loanName The name of the loan
+     * @param principal The loan principal amount
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param propertyAddress The address of the property
+     * @param propertyValue The value of the property
+     * @param downPayment The down payment made
+     * @param escrowIncluded Whether escrow is included
+     * @param escrowAmount The escrow amount if included
+     * @param startDate The start date of the loan
+     */
+    public MortgageLoan(String loanName, double principal, double annualInterestRate,
+                        int termInMonths, String propertyAddress, double propertyValue,
+                        double downPayment, boolean escrowIncluded, double escrowAmount, LocalDate startDate) {
+        super(loanName, "Mortgage", principal, annualInterestRate, termInMonths, startDate);
         this.propertyAddress = propertyAddress;
         this.propertyValue = propertyValue;
         this.downPayment = downPayment;
@@ -178,7 +201,9 @@ public class MortgageLoan extends LoanAccount {
     
     @Override
     public String toString() {
-        return String.format("Mortgage Loan: %s - $%.2f at %.2f%% for %d months on property at %s",
-                getLoanName(), getPrincipal(), getAnnualInterestRate() * 100, getTermInMonths(), propertyAddress);
+        StringBuilder out = new StringBuilder(96).append("Mortgage Loan: ").append(getLoanName()).append(" - ");
+        LoanFormatter.US.appendCurrency(out, getPrincipal(), false).append(" at ");
+        LoanFormatter.US.appendPercent(out, getAnnualInterestRate()).append(" for ").append(getTermInMonths());
+        return out.append(" months on property at ").append(propertyAddress).toString();
     }
 }
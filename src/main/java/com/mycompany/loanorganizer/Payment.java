@@ -85,6 +85,7 @@ public class Payment {
     
     @Override
     public String toString() {
-        return String.format("Payment: $%.2f on %s - %s", amount, date, notes);
+        StringBuilder out = LoanFormatter.US.appendCurrency(new StringBuilder(64).append("Payment: "), amount, false);
+        return out.append(" on ").append(date).append(" - ").append(notes).toString();
     }
 }
@@ -19,6 +19,13 @@ public class PaymentDetails {
     private double interestPayment;
     private double remainingBalance;
     
+    /**
+     * Constructor for subclasses that supply their values through the getters,
+     * such as the row views of an AmortizationTable
+     */
+    PaymentDetails() {
+    }
+    
     /**
      * Constructor for payment details
      * 
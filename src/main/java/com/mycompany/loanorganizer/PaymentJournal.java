@@ -0,0 +1,757 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A durable, append-only journal of loan payments. Every payment is written as a
+ * checksummed record (sequence number, loan id, epoch day, amount, notes) to the
+ * current segment file of a journal directory, and a new segment is started once
+ * the current one reaches the segment size.
+ * 
+ * Writes use group commit: payments are appended to an in-memory batch, and one
+ * background thread writes and fsyncs each batch. Threads waiting for durability
+ * while an fsync is in progress are all released by the next one, so the fsync
+ * rate never limits how fast payments can be posted.
+ * 
+ * writeSnapshot saves the payment history of every loan and removes the segments
+ * it covers, so recover only has to replay the records written after the latest
+ * snapshot. A record torn by a crash at the end of the last segment is discarded
+ * when the journal is opened.
+ * 
+ * Attach the journal to loans with LoanAccount.attachJournal. Call recover on a
+ * freshly opened journal before posting any payments.
+ * 
+ * @author Loan Organizer Team
+ */
+public class PaymentJournal implements Closeable {
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final int INITIAL_BATCH_BYTES = 64 * 1024;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MIN_RECORD_BODY_BYTES = 30;
+    private static final int SNAPSHOT_MAGIC = 0x50534E50; // "PSNP"
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    
+    private final Path directory;
+    private final long segmentBytes;
+    private final DirectoryOps directoryOps;
+    private final CRC32C checksum = new CRC32C();
+    private final Thread flusher;
+    
+    // Guarded by this journal's monitor
+    private ByteBuffer pending;
+    private ByteBuffer spare;
+    private long nextSequence;
+    private long durableSequence;
+    private IOException failure;
+    private boolean closed;
+    
+    // Used only by the flusher thread once the journal is open
+    private FileChannel segment;
+    
+    /**
+     * Constructor that starts appending to an already validated segment
+     * 
+     * @param directory The journal directory
+     * @param segmentBytes The size at which a segment is rotated
+     * @param directoryOps The directory operations to use
+     * @param segment The segment to append to, positioned at its end
+     * @param nextSequence The sequence number of the next record
+     */
+    private PaymentJournal(Path directory, long segmentBytes, DirectoryOps directoryOps,
+            FileChannel segment, long nextSequence) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.directoryOps = directoryOps;
+        this.segment = segment;
+        this.nextSequence = nextSequence;
+        this.durableSequence = nextSequence - 1;
+        this.pending = ByteBuffer.allocate(INITIAL_BATCH_BYTES);
+        this.spare = ByteBuffer.allocate(INITIAL_BATCH_BYTES);
+        this.flusher = new Thread(this::flushLoop, "payment-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+    
+    /**
+     * Open a journal with the default 64 MB segment size, creating it if needed
+     * 
+     * @param directory The journal directory
+     * @return The opened journal
+     * @throws IOException If the journal cannot be opened or is corrupt
+     */
+    public static PaymentJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_BYTES);
+    }
+    
+    /**
+     * Open a journal, creating it if needed
+     * 
+     * @param directory The journal directory
+     * @param segmentBytes The size at which a segment is rotated
+     * @return The opened journal
+     * @throws IOException If the journal cannot be opened or is corrupt
+     * @throws IllegalArgumentException If the segment size is not positive
+     */
+    public static PaymentJournal open(Path directory, long segmentBytes) throws IOException {
+        return open(directory, segmentBytes, DirectoryOps.DEFAULT);
+    }
+    
+    /**
+     * Open a journal that syncs and deletes files through the given operations
+     * 
+     * @param directory The journal directory
+     * @param segmentBytes The size at which a segment is rotated
+     * @param directoryOps The directory operations to use
+     * @return The opened journal
+     * @throws IOException If the journal cannot be opened or is corrupt
+     * @throws IllegalArgumentException If the segment size is not positive
+     */
+    static PaymentJournal open(Path directory, long segmentBytes, DirectoryOps directoryOps) throws IOException {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be greater than zero");
+        }
+        Files.createDirectories(directory);
+        
+        List<Long> segments = listSequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        long nextSequence;
+        if (segments.isEmpty()) {
+            List<Long> snapshots = listSequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            nextSequence = snapshots.isEmpty() ? 1 : snapshots.get(snapshots.size() - 1) + 1;
+        } else {
+            // Find the end of the last segment, dropping a record torn by a crash
+            long first = segments.get(segments.size() - 1);
+            Path last = segmentPath(directory, first);
+            SegmentReader reader = new SegmentReader(Files.readAllBytes(last));
+            long lastSequence = first - 1;
+            while (reader.next()) {
+                lastSequence = reader.sequence;
+            }
+            if (reader.position < reader.data.length) {
+                try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+                    channel.truncate(reader.position);
+                    channel.force(true);
+                }
+            }
+            nextSequence = lastSequence + 1;
+        }
+        
+        FileChannel segment = openSegment(directory, directoryOps, segments.isEmpty() ? nextSequence
+                : segments.get(segments.size() - 1));
+        return new PaymentJournal(directory, segmentBytes, directoryOps, segment, nextSequence);
+    }
+    
+    /**
+     * Append a payment to the current batch without waiting for it to be durable
+     * 
+     * @param loanId The id of the loan the payment belongs to
+     * @param payment The payment
+     * @return The sequence number of the record
+     * @throws UncheckedIOException If the journal failed to write an earlier batch
+     * @throws IllegalStateException If the journal is closed
+     */
+    public long append(String loanId, Payment payment) {
+        byte[] id = encodeLoanId(loanId);
+        byte[] notes = payment.getNotes() == null ? null : payment.getNotes().getBytes(StandardCharsets.UTF_8);
+        int bodyBytes = MIN_RECORD_BODY_BYTES + id.length + (notes == null ? 0 : notes.length);
+        
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Payment journal is closed");
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Payment journal failed", failure);
+            }
+            if (pending.remaining() < RECORD_HEADER_BYTES + bodyBytes) {
+                pending = grow(pending, RECORD_HEADER_BYTES + bodyBytes);
+            }
+            
+            long sequence = nextSequence++;
+            int start = pending.position();
+            pending.position(start + RECORD_HEADER_BYTES);
+            pending.putLong(sequence);
+            pending.putLong(payment.getDate().toEpochDay());
+            pending.putDouble(payment.getAmount());
+            pending.putShort((short) id.length).put(id);
+            if (notes == null) {
+                pending.putInt(-1);
+            } else {
+                pending.putInt(notes.length).put(notes);
+            }
+            
+            ByteBuffer body = pending.duplicate();
+            body.position(start + RECORD_HEADER_BYTES).limit(pending.position());
+            checksum.reset();
+            checksum.update(body);
+            pending.putInt(start, bodyBytes);
+            pending.putInt(start + 4, (int) checksum.getValue());
+            
+            notifyAll();
+            return sequence;
+        }
+    }
+    
+    /**
+     * Wait until a record and every record before it have been written and fsynced
+     * 
+     * @param sequence The sequence number to wait for
+     * @throws IOException If the journal failed to write the record
+     */
+    public void awaitDurable(long sequence) throws IOException {
+        synchronized (this) {
+            boolean interrupted = false;
+            while (durableSequence < sequence && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (durableSequence < sequence) {
+                throw new IOException("Payment journal failed before record " + sequence + " was written", failure);
+            }
+        }
+    }
+    
+    /**
+     * Append a payment and wait for it to be durable
+     * 
+     * @param loanId The id of the loan the payment belongs to
+     * @param payment The payment
+     * @return The sequence number of the record
+     * @throws IOException If the journal failed to write the record
+     * @throws IllegalStateException If the journal is closed
+     */
+    public long record(String loanId, Payment payment) throws IOException {
+        long sequence = append(loanId, payment);
+        awaitDurable(sequence);
+        return sequence;
+    }
+    
+    /**
+     * Get the sequence number of the last appended record
+     * 
+     * @return The last sequence number, or 0 if nothing was ever appended
+     */
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+    
+    /**
+     * Get the sequence number up to which every record is durable
+     * 
+     * @return The durable sequence number
+     */
+    public synchronized long getDurableSequence() {
+        return durableSequence;
+    }
+    
+    /**
+     * Restore the payment histories of the given loans from the latest snapshot and
+     * the records written after it. Payments for loan ids not in the map are skipped.
+     * 
+     * @param loans The loans to restore, by loan id
+     * @return The number of records replayed after the snapshot
+     * @throws IOException If the journal cannot be read or is corrupt, or a loan in
+     *         ledger mode rejects a journaled payment, e.g. one dated before the
+     *         payment restored ahead of it
+     */
+    public int recover(Map<String, ? extends LoanAccount> loans) throws IOException {
+        Map<String, Long> restoredThrough = new HashMap<>();
+        long snapshotSequence = 0;
+        
+        List<Long> snapshots = listSequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (!snapshots.isEmpty()) {
+            snapshotSequence = snapshots.get(snapshots.size() - 1);
+            readSnapshot(snapshotPath(directory, snapshotSequence), loans, restoredThrough);
+        }
+        
+        List<Long> segments = listSequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        int replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            boolean lastSegment = i == segments.size() - 1;
+            if (!lastSegment && segments.get(i + 1) <= snapshotSequence + 1) {
+                // Every record in this segment is covered by the snapshot
+                continue;
+            }
+            
+            SegmentReader reader = new SegmentReader(Files.readAllBytes(segmentPath(directory, segments.get(i))));
+            while (reader.next()) {
+                LoanAccount loan = loans.get(reader.loanId);
+                if (reader.sequence <= snapshotSequence || loan == null
+                        || reader.sequence <= restoredThrough.getOrDefault(reader.loanId, 0L)) {
+                    continue;
+                }
+                if (!loan.restorePayment(new Payment(reader.amount, LocalDate.ofEpochDay(reader.epochDay),
+                        reader.notes), reader.sequence)) {
+                    throw ledgerRejected(reader.loanId, reader.sequence);
+                }
+                replayed++;
+            }
+            if (!lastSegment && reader.position < reader.data.length) {
+                throw new IOException("Payment journal segment " + segments.get(i) + " is corrupt");
+            }
+        }
+        return replayed;
+    }
+    
+    /**
+     * Save the payment history of every loan to a new snapshot and remove the
+     * segments and older snapshots it makes redundant. Pass every loan the journal
+     * holds payments for; loans left out are not restored from later snapshots.
+     * Waits for every record appended so far to be durable first.
+     * 
+     * @param loans The loans to snapshot, by loan id
+     * @throws IOException If the snapshot cannot be written or the journal failed
+     */
+    public void writeSnapshot(Map<String, ? extends LoanAccount> loans) throws IOException {
+        // Loans publish a payment only once its record is durable, so wait for every
+        // record up to here; each loan snapshot below then publishes and includes it
+        long snapshotSequence = getLastSequence();
+        awaitDurable(snapshotSequence);
+        Path target = snapshotPath(directory, snapshotSequence);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        
+        CheckedOutputStream checked = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32C());
+        try (DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(snapshotSequence);
+            out.writeInt(loans.size());
+            List<Payment> payments = new ArrayList<>();
+            for (Map.Entry<String, ? extends LoanAccount> entry : loans.entrySet()) {
+                payments.clear();
+                long loanSequence = entry.getValue().snapshotPayments(payments, snapshotSequence);
+                out.writeUTF(entry.getKey());
+                out.writeLong(loanSequence);
+                out.writeInt(payments.size());
+                for (Payment payment : payments) {
+                    out.writeLong(payment.getDate().toEpochDay());
+                    out.writeDouble(payment.getAmount());
+                    writeNotes(out, payment.getNotes());
+                }
+            }
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // The rename must be durable before anything it replaces is deleted, or a
+        // crash could leave neither the snapshot nor the records it covers
+        directoryOps.sync(directory);
+        
+        for (long older : listSequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (older < snapshotSequence) {
+                directoryOps.delete(snapshotPath(directory, older));
+            }
+        }
+        List<Long> segments = listSequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (segments.get(i + 1) <= snapshotSequence + 1) {
+                directoryOps.delete(segmentPath(directory, segments.get(i)));
+            }
+        }
+    }
+    
+    /**
+     * Write out every appended record, then stop the flusher and close the segment
+     * 
+     * @throws IOException If the last batch could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+    
+    /**
+     * Body of the flusher thread: swap out the pending batch, write and fsync it,
+     * then release the threads waiting on it
+     */
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long batchSequence;
+            synchronized (this) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // Only close stops the flusher
+                    }
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                batch = pending;
+                pending = spare;
+                spare = batch;
+                batchSequence = nextSequence - 1;
+            }
+            
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    segment.write(batch);
+                }
+                segment.force(false);
+                if (segment.size() >= segmentBytes) {
+                    segment.close();
+                    segment = openSegment(directory, directoryOps, batchSequence + 1);
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    failure = e;
+                    notifyAll();
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+            
+            synchronized (this) {
+                durableSequence = batchSequence;
+                notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * Replace a batch buffer with a larger one holding the same bytes
+     * 
+     * @param buffer The full buffer
+     * @param needed The number of extra bytes needed
+     * @return The larger buffer
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        ByteBuffer larger = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+    
+    /**
+     * Encode a loan id for a journal record
+     * 
+     * @param loanId The loan id
+     * @return The UTF-8 bytes of the id
+     * @throws IllegalArgumentException If the id is null or longer than 65535 bytes
+     */
+    static byte[] encodeLoanId(String loanId) {
+        if (loanId == null) {
+            throw new IllegalArgumentException("Loan id cannot be null");
+        }
+        byte[] id = loanId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > 0xFFFF) {
+            throw new IllegalArgumentException("Loan id cannot be longer than 65535 bytes");
+        }
+        return id;
+    }
+    
+    /**
+     * Read a snapshot file into the given loans
+     * 
+     * @param path The snapshot file
+     * @param loans The loans to restore, by loan id
+     * @param restoredThrough Filled with the last journal sequence restored for each loan
+     * @throws IOException If the snapshot cannot be read or fails its checksum, or a
+     *         loan's ledger rejects a payment
+     */
+    private static void readSnapshot(Path path, Map<String, ? extends LoanAccount> loans,
+            Map<String, Long> restoredThrough) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path)), new CRC32C());
+        Map<String, List<Payment>> restored = new HashMap<>();
+        
+        try (DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException(path + " is not a payment journal snapshot");
+            }
+            in.readLong();
+            int loanCount = in.readInt();
+            for (int i = 0; i < loanCount; i++) {
+                String loanId = in.readUTF();
+                long loanSequence = in.readLong();
+                int paymentCount = in.readInt();
+                List<Payment> payments = new ArrayList<>(paymentCount);
+                for (int p = 0; p < paymentCount; p++) {
+                    long epochDay = in.readLong();
+                    double amount = in.readDouble();
+                    payments.add(new Payment(amount, LocalDate.ofEpochDay(epochDay), readNotes(in)));
+                }
+                if (loans.containsKey(loanId)) {
+                    restored.put(loanId, payments);
+                    restoredThrough.put(loanId, loanSequence);
+                }
+            }
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Payment journal snapshot " + path + " failed its checksum");
+            }
+        }
+        
+        // Only touch the loans once the whole snapshot has been verified
+        for (Map.Entry<String, List<Payment>> entry : restored.entrySet()) {
+            LoanAccount loan = loans.get(entry.getKey());
+            long loanSequence = restoredThrough.get(entry.getKey());
+            for (Payment payment : entry.getValue()) {
+                if (!loan.restorePayment(payment, loanSequence)) {
+                    throw ledgerRejected(entry.getKey(), loanSequence);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Build the error for a payment a loan's ledger would not accept during recovery
+     * 
+     * @param loanId The loan id
+     * @param sequence The journal sequence number of the payment, or of the
+     *         snapshot's last payment for the loan
+     * @return The exception
+     */
+    private static IOException ledgerRejected(String loanId, long sequence) {
+        return new IOException("Ledger of loan " + loanId + " rejected journaled payment " + sequence
+                + "; enable ledger mode after recover");
+    }
+    
+    /**
+     * Write optional notes to a snapshot
+     * 
+     * @param out The snapshot stream
+     * @param notes The notes, or null
+     * @throws IOException If the write fails
+     */
+    private static void writeNotes(DataOutputStream out, String notes) throws IOException {
+        if (notes == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = notes.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Read optional notes from a snapshot
+     * 
+     * @param in The snapshot stream
+     * @return The notes, or null
+     * @throws IOException If the read fails
+     */
+    private static String readNotes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Open a segment for appending, creating it if needed. The directory is synced
+     * so that a new segment's entry survives a crash along with its records.
+     * 
+     * @param directory The journal directory
+     * @param directoryOps The directory operations to use
+     * @param firstSequence The sequence number of the segment's first record
+     * @return The channel, positioned at the end of the segment
+     * @throws IOException If the segment cannot be opened
+     */
+    private static FileChannel openSegment(Path directory, DirectoryOps directoryOps, long firstSequence)
+            throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(directory, firstSequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryOps.sync(directory);
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+    
+    private static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+    
+    private static Path snapshotPath(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+    }
+    
+    /**
+     * List the sequence numbers in the names of journal files of one kind
+     * 
+     * @param directory The journal directory
+     * @param prefix The file name prefix
+     * @param suffix The file name suffix
+     * @return The sequence numbers in ascending order
+     * @throws IOException If the directory cannot be listed
+     */
+    private static List<Long> listSequences(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    /**
+     * The directory operations whose order decides what a crash can lose. Tests
+     * supply their own to observe that order.
+     */
+    interface DirectoryOps {
+        DirectoryOps DEFAULT = new DirectoryOps() {
+            @Override
+            public void sync(Path directory) throws IOException {
+                try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                    channel.force(true);
+                }
+            }
+            
+            @Override
+            public void delete(Path file) throws IOException {
+                Files.deleteIfExists(file);
+            }
+        };
+        
+        /**
+         * Make the directory's entries durable
+         * 
+         * @param directory The directory to sync
+         * @throws IOException If the directory cannot be synced
+         */
+        void sync(Path directory) throws IOException;
+        
+        /**
+         * Delete a file if it exists
+         * 
+         * @param file The file to delete
+         * @throws IOException If the file cannot be deleted
+         */
+        void delete(Path file) throws IOException;
+    }
+    
+    /**
+     * Reads the valid records of a segment in order. Reading stops at the end of
+     * the data or at the first record that is incomplete or fails its checksum.
+     */
+    private static class SegmentReader {
+        private final byte[] data;
+        private final ByteBuffer buffer;
+        private final CRC32C checksum = new CRC32C();
+        private int position;
+        
+        // The record most recently read
+        private long sequence;
+        private long epochDay;
+        private double amount;
+        private String loanId;
+        private String notes;
+        
+        /**
+         * Constructor for a reader over a whole segment
+         * 
+         * @param data The segment contents
+         */
+        SegmentReader(byte[] data) {
+            this.data = data;
+            this.buffer = ByteBuffer.wrap(data);
+        }
+        
+        /**
+         * Read the next record
+         * 
+         * @return True if a valid record was read, false at the end of the valid data
+         */
+        boolean next() {
+            if (data.length - position < RECORD_HEADER_BYTES) {
+                return false;
+            }
+            int bodyBytes = buffer.getInt(position);
+            int bodyStart = position + RECORD_HEADER_BYTES;
+            if (bodyBytes < MIN_RECORD_BODY_BYTES || bodyBytes > data.length - bodyStart) {
+                return false;
+            }
+            checksum.reset();
+            checksum.update(data, bodyStart, bodyBytes);
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                return false;
+            }
+            
+            ByteBuffer body = ByteBuffer.wrap(data, bodyStart, bodyBytes);
+            sequence = body.getLong();
+            epochDay = body.getLong();
+            amount = body.getDouble();
+            int idLength = body.getShort() & 0xFFFF;
+            loanId = new String(data, body.position(), idLength, StandardCharsets.UTF_8);
+            body.position(body.position() + idLength);
+            int notesLength = body.getInt();
+            notes = notesLength < 0 ? null : new String(data, body.position(), notesLength, StandardCharsets.UTF_8);
+            
+            position = bodyStart + bodyBytes;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A running-balance ledger of the payments actually made on a loan. Interest
+ * accrues daily on the outstanding principal (actual/365, not compounded), and
+ * each payment settles accrued interest first and then reduces principal.
+ * 
+ * Posting a payment updates the running balance in constant time. Every
+ * checkpointInterval payments the ledger also saves its state, so a balance as of
+ * any past date is found with a binary search plus a replay of at most
+ * checkpointInterval payments, however long the history is.
+ * 
+ * Payments must be posted in date order. A ledger is not thread-safe.
+ * 
+ * @author Loan Organizer Team
+ */
+public class PaymentLedger {
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 64;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double DAYS_PER_YEAR = 365.0;
+    
+    private final double originalPrincipal;
+    private final double annualInterestRate;
+    private final double dailyRate;
+    private final long startEpochDay;
+    private final int checkpointInterval;
+    
+    // Posted payments
+    private double[] amounts;
+    private long[] epochDays;
+    private int paymentCount;
+    
+    // Checkpoint k holds the state after the first k * checkpointInterval payments
+    private double[] checkpointPrincipal;
+    private double[] checkpointInterest;
+    
+    // Running state after the last posted payment
+    private double principalBalance;
+    private double accruedInterest;
+    private long lastEpochDay;
+    private double totalInterestPaid;
+    
+    /**
+     * Constructor for a ledger with the default checkpoint interval
+     * 
+     * @param principal The amount borrowed
+     * @param annualInterestRate The annual interest rate (decimal)
+     * @param startDate The date interest starts to accrue
+     */
+    public PaymentLedger(double principal, double annualInterestRate, LocalDate startDate) {
+        this(principal, annualInterestRate, startDate, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+    
+    /**
+     * Constructor for a ledger
+     * 
+     * @param principal The amount borrowed
+     * @param annualInterestRate The annual interest rate (decimal)
+     * @param startDate The date interest starts to accrue
+     * @param checkpointInterval The number of payments between saved checkpoints
+     * @throws IllegalArgumentException If the checkpoint interval is not positive
+     */
+    public PaymentLedger(double principal, double annualInterestRate, LocalDate startDate, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be greater than zero");
+        }
+        this.originalPrincipal = principal;
+        this.annualInterestRate = annualInterestRate;
+        this.dailyRate = annualInterestRate / DAYS_PER_YEAR;
+        this.startEpochDay = startDate.toEpochDay();
+        this.checkpointInterval = checkpointInterval;
+        
+        this.amounts = new double[INITIAL_CAPACITY];
+        this.epochDays = new long[INITIAL_CAPACITY];
+        this.checkpointPrincipal = new double[INITIAL_CAPACITY];
+        this.checkpointInterest = new double[INITIAL_CAPACITY];
+        this.checkpointPrincipal[0] = principal;
+        
+        this.principalBalance = principal;
+        this.lastEpochDay = startEpochDay;
+    }
+    
+    /**
+     * Post a payment to the ledger
+     * 
+     * @param amount The payment amount
+     * @param date The date of the payment
+     * @return True if the payment was posted, false if it was rejected because the
+     *         amount is not positive or the date is before the start date or the
+     *         last posted payment
+     */
+    public boolean post(double amount, LocalDate date) {
+        if (!accepts(amount, date)) {
+            return false;
+        }
+        long epochDay = date.toEpochDay();
+        
+        if (paymentCount == amounts.length) {
+            amounts = Arrays.copyOf(amounts, paymentCount * 2);
+            epochDays = Arrays.copyOf(epochDays, paymentCount * 2);
+        }
+        amounts[paymentCount] = amount;
+        epochDays[paymentCount] = epochDay;
+        paymentCount++;
+        
+        accruedInterest += principalBalance * dailyRate * (epochDay - lastEpochDay);
+        lastEpochDay = epochDay;
+        double interestPaid = Math.min(amount, accruedInterest);
+        totalInterestPaid += interestPaid;
+        accruedInterest -= interestPaid;
+        principalBalance = Math.max(0.0, principalBalance - (amount - interestPaid));
+        
+        if (paymentCount % checkpointInterval == 0) {
+            int checkpoint = paymentCount / checkpointInterval;
+            if (checkpoint == checkpointPrincipal.length) {
+                checkpointPrincipal = Arrays.copyOf(checkpointPrincipal, checkpoint * 2);
+                checkpointInterest = Arrays.copyOf(checkpointInterest, checkpoint * 2);
+            }
+            checkpointPrincipal[checkpoint] = principalBalance;
+            checkpointInterest[checkpoint] = accruedInterest;
+        }
+        return true;
+    }
+    
+    /**
+     * Check whether a payment would be accepted by post, without posting it
+     * 
+     * @param amount The payment amount
+     * @param date The date of the payment
+     * @return True if post would accept the payment
+     */
+    boolean accepts(double amount, LocalDate date) {
+        return amount > 0 && date != null && date.toEpochDay() >= lastEpochDay;
+    }
+    
+    /**
+     * Get the outstanding principal after the last posted payment
+     * 
+     * @return The principal balance
+     */
+    public double getPrincipalBalance() {
+        return principalBalance;
+    }
+    
+    /**
+     * Get the interest accrued but not yet paid as of the last posted payment
+     * 
+     * @return The accrued interest
+     */
+    public double getAccruedInterest() {
+        return accruedInterest;
+    }
+    
+    /**
+     * Get the total interest settled by the posted payments
+     * 
+     * @return The interest paid
+     */
+    public double getTotalInterestPaid() {
+        return totalInterestPaid;
+    }
+    
+    /**
+     * Get the number of posted payments
+     * 
+     * @return The payment count
+     */
+    public int getPaymentCount() {
+        return paymentCount;
+    }
+    
+    /**
+     * Get the date of the last posted payment
+     * 
+     * @return The last payment date, or the start date if nothing has been posted
+     */
+    public LocalDate getLastPostingDate() {
+        return LocalDate.ofEpochDay(lastEpochDay);
+    }
+    
+    /**
+     * Get the annual interest rate the ledger accrues at
+     * 
+     * @return The annual interest rate
+     */
+    public double getAnnualInterestRate() {
+        return annualInterestRate;
+    }
+    
+    /**
+     * Get the outstanding principal at the end of a given date, counting every
+     * payment posted on or before it
+     * 
+     * @param asOfDate The date to get the balance for
+     * @return The principal balance
+     */
+    public double getPrincipalBalance(LocalDate asOfDate) {
+        long asOfDay = asOfDate.toEpochDay();
+        if (asOfDay < startEpochDay) {
+            return originalPrincipal;
+        }
+        return stateAfter(paymentsOnOrBefore(asOfDay))[0];
+    }
+    
+    /**
+     * Get the interest accrued but not yet paid at the end of a given date
+     * 
+     * @param asOfDate The date to get the accrued interest for
+     * @return The accrued interest
+     */
+    public double getAccruedInterest(LocalDate asOfDate) {
+        long asOfDay = asOfDate.toEpochDay();
+        if (asOfDay < startEpochDay) {
+            return 0.0;
+        }
+        int payments = paymentsOnOrBefore(asOfDay);
+        double[] state = stateAfter(payments);
+        long fromDay = payments == 0 ? startEpochDay : epochDays[payments - 1];
+        return state[1] + state[0] * dailyRate * (asOfDay - fromDay);
+    }
+    
+    /**
+     * Get the amount needed to pay the loan off at the end of a given date
+     * 
+     * @param asOfDate The payoff date
+     * @return The principal balance plus accrued interest
+     */
+    public double getPayoffAmount(LocalDate asOfDate) {
+        return getPrincipalBalance(asOfDate) + getAccruedInterest(asOfDate);
+    }
+    
+    /**
+     * Count the payments posted on or before a day
+     * 
+     * @param epochDay The day as a count from 1970-01-01
+     * @return The number of payments
+     */
+    private int paymentsOnOrBefore(long epochDay) {
+        int low = 0;
+        int high = paymentCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Rebuild the ledger state after a number of payments, starting from the
+     * nearest checkpoint
+     * 
+     * @param payments The number of payments to apply
+     * @return The principal balance and accrued interest, in that order
+     */
+    private double[] stateAfter(int payments) {
+        int checkpoint = payments / checkpointInterval;
+        int first = checkpoint * checkpointInterval;
+        double principal = checkpointPrincipal[checkpoint];
+        double interest = checkpointInterest[checkpoint];
+        long day = first == 0 ? startEpochDay : epochDays[first - 1];
+        
+        // The same arithmetic as post, so replayed balances match the running ones exactly
+        for (int i = first; i < payments; i++) {
+            interest += principal * dailyRate * (epochDays[i] - day);
+            day = epochDays[i];
+            double interestPaid = Math.min(amounts[i], interest);
+            interest -= interestPaid;
+            principal = Math.max(0.0, principal - (amounts[i] - interestPaid));
+        }
+        return new double[] {principal, interest};
+    }
+}
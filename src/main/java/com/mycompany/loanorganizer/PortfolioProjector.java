@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Projects a portfolio's cash flows by calendar month: principal, interest and
+ * outstanding balance summed across every loan. Loans are walked month by month
+ * straight into per-month totals, so no per-loan schedules are built. The loans
+ * are split across the fork-join common pool, each task filling its own totals
+ * before they are added together.
+ * 
+ * With a prepayment rate the figures are expected values. Every loan still on
+ * the book at the start of the projection prepays in full in any later month with
+ * the constant monthly probability derived from the annual rate (CPR), and the
+ * expected payoffs are reported as prepaid principal.
+ * 
+ * @author Loan Organizer Team
+ */
+public class PortfolioProjector {
+    // Loans a single task projects before it stops splitting
+    private static final int LOANS_PER_TASK = 1024;
+    
+    private final double monthlyPrepaymentRate;
+    
+    /**
+     * Constructor for a projector of scheduled payments only
+     */
+    public PortfolioProjector() {
+        this(0);
+    }
+    
+    /**
+     * Constructor for a projector with an expected prepayment rate
+     * 
+     * @param annualPrepaymentRate The fraction of loans prepaying per year (CPR)
+     * @throws IllegalArgumentException If the rate is outside [0, 1]
+     */
+    public PortfolioProjector(double annualPrepaymentRate) {
+        if (!(annualPrepaymentRate >= 0 && annualPrepaymentRate <= 1)) {
+            throw new IllegalArgumentException("Prepayment rate must be between 0 and 1");
+        }
+        this.monthlyPrepaymentRate = 1 - Math.pow(1 - annualPrepaymentRate, 1.0 / 12);
+    }
+    
+    /**
+     * Project a portfolio over a run of calendar months. Payments fall in the
+     * calendar month of their payment date; a loan's balance counts from the month
+     * it starts until it is paid off.
+     * 
+     * @param loans The loans to project
+     * @param firstMonth The first calendar month of the projection
+     * @param months The number of months to project
+     * @return The totals for each month
+     * @throws IllegalArgumentException If months is not positive
+     */
+    public Projection project(Collection<? extends LoanAccount> loans, YearMonth firstMonth, int months) {
+        if (months <= 0) {
+            throw new IllegalArgumentException("Number of months must be greater than zero");
+        }
+        
+        // Copy the loans into primitive arrays so the tasks never touch the loan objects
+        int size = loans.size();
+        double[] principals = new double[size];
+        double[] monthlyRates = new double[size];
+        double[] payments = new double[size];
+        int[] terms = new int[size];
+        int[] startMonths = new int[size];
+        int count = 0;
+        long first = monthIndex(firstMonth);
+        for (LoanAccount loan : loans) {
+            int term = loan.getTermInMonths();
+            long startMonth = monthIndex(YearMonth.from(loan.getStartDate())) - first;
+            // Skip loans paid off before the projection or starting after it
+            if (term <= 0 || startMonth + term < 0 || startMonth >= months) {
+                continue;
+            }
+            principals[count] = loan.getPrincipal();
+            monthlyRates[count] = loan.getAnnualInterestRate() / 12;
+            payments[count] = LoanCalculator.calculateMonthlyPayment(
+                    loan.getPrincipal(), loan.getAnnualInterestRate(), term);
+            terms[count] = term;
+            startMonths[count] = (int) startMonth;
+            count++;
+        }
+        
+        Totals totals = ForkJoinPool.commonPool().invoke(new ProjectionTask(
+                principals, monthlyRates, payments, terms, startMonths, months, 0, count));
+        return new Projection(firstMonth, totals);
+    }
+    
+    /**
+     * Add one loan's flows to the totals
+     * 
+     * @param principal The loan principal
+     * @param monthlyRate The monthly interest rate
+     * @param payment The scheduled monthly payment
+     * @param term The term in months
+     * @param startMonth The loan's start month relative to the first projected month
+     * @param totals The totals to add to
+     */
+    private void projectLoan(double principal, double monthlyRate, double payment, int term, int startMonth,
+            Totals totals) {
+        int months = totals.interest.length;
+        
+        // The month the loan starts holds its full principal; payments begin the month after
+        if (startMonth >= 0) {
+            totals.balance[startMonth] += principal;
+        }
+        
+        // Jump over payments made before the projection starts
+        int firstPayment = Math.max(1, -startMonth);
+        double balance = firstPayment == 1 ? principal
+                : LoanCalculator.calculateRemainingBalance(principal, monthlyRate * 12, term, firstPayment - 1);
+        int lastPayment = Math.min(term, months - 1 - startMonth);
+        
+        // Probability the loan is still outstanding; prepayment only applies within the projection
+        double survival = 1;
+        for (int k = firstPayment; k <= lastPayment; k++) {
+            int month = startMonth + k;
+            double interestPayment = balance * monthlyRate;
+            double principalPayment = payment - interestPayment;
+            balance -= principalPayment;
+            double prepayment = survival * monthlyPrepaymentRate * balance;
+            
+            totals.interest[month] += survival * interestPayment;
+            totals.principal[month] += survival * principalPayment;
+            totals.prepaidPrincipal[month] += prepayment;
+            survival *= 1 - monthlyPrepaymentRate;
+            totals.balance[month] += survival * balance;
+        }
+    }
+    
+    /**
+     * Convert a calendar month to a count of months since year 0
+     * 
+     * @param month The calendar month
+     * @return The month index
+     */
+    private static long monthIndex(YearMonth month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+    
+    /**
+     * Per-month sums over a set of loans
+     */
+    private static class Totals {
+        private final double[] principal;
+        private final double[] prepaidPrincipal;
+        private final double[] interest;
+        private final double[] balance;
+        
+        /**
+         * Constructor for empty totals
+         * 
+         * @param months The number of months
+         */
+        Totals(int months) {
+            this.principal = new double[months];
+            this.prepaidPrincipal = new double[months];
+            this.interest = new double[months];
+            this.balance = new double[months];
+        }
+        
+        /**
+         * Add another set of totals to this one
+         * 
+         * @param other The totals to add
+         */
+        void add(Totals other) {
+            for (int month = 0; month < interest.length; month++) {
+                principal[month] += other.principal[month];
+                prepaidPrincipal[month] += other.prepaidPrincipal[month];
+                interest[month] += other.interest[month];
+                balance[month] += other.balance[month];
+            }
+        }
+    }
+    
+    /**
+     * Fork-join task that projects loans [fromLoan, toLoan)
+     */
+    private class ProjectionTask extends RecursiveTask<Totals> {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] principals;
+        private final double[] monthlyRates;
+        private final double[] payments;
+        private final int[] terms;
+        private final int[] startMonths;
+        private final int months;
+        private final int fromLoan;
+        private final int toLoan;
+        
+        /**
+         * Constructor for a task over a range of loans
+         * 
+         * @param principals The loan principals
+         * @param monthlyRates The monthly interest rates
+         * @param payments The scheduled monthly payments
+         * @param terms The terms in months
+         * @param startMonths The start months relative to the first projected month
+         * @param months The number of months to project
+         * @param fromLoan The first loan, inclusive
+         * @param toLoan The last loan, exclusive
+         */
+        ProjectionTask(double[] principals, double[] monthlyRates, double[] payments, int[] terms,
+                int[] startMonths, int months, int fromLoan, int toLoan) {
+            this.principals = principals;
+            this.monthlyRates = monthlyRates;
+            this.payments = payments;
+            this.terms = terms;
+            this.startMonths = startMonths;
+            this.months = months;
+            this.fromLoan = fromLoan;
+            this.toLoan = toLoan;
+        }
+        
+        @Override
+        protected Totals compute() {
+            if (toLoan - fromLoan > LOANS_PER_TASK) {
+                int middle = (fromLoan + toLoan) >>> 1;
+                ProjectionTask left = new ProjectionTask(principals, monthlyRates, payments, terms, startMonths,
+                        months, fromLoan, middle);
+                ProjectionTask right = new ProjectionTask(principals, monthlyRates, payments, terms, startMonths,
+                        months, middle, toLoan);
+                right.fork();
+                Totals totals = left.compute();
+                totals.add(right.join());
+                return totals;
+            }
+            
+            Totals totals = new Totals(months);
+            for (int i = fromLoan; i < toLoan; i++) {
+                projectLoan(principals[i], monthlyRates[i], payments[i], terms[i], startMonths[i], totals);
+            }
+            return totals;
+        }
+    }
+    
+    /**
+     * Projected totals by calendar month. Months are numbered from 1, the first
+     * projected month.
+     */
+    public static class Projection {
+        private final YearMonth firstMonth;
+        private final Totals totals;
+        
+        /**
+         * Constructor for a projection
+         * 
+         * @param firstMonth The first projected month
+         * @param totals The per-month sums
+         */
+        private Projection(YearMonth firstMonth, Totals totals) {
+            this.firstMonth = firstMonth;
+            this.totals = totals;
+        }
+        
+        /**
+         * Get the number of months projected
+         * 
+         * @return The number of months
+         */
+        public int getMonths() {
+            return totals.interest.length;
+        }
+        
+        /**
+         * Get the calendar month for a month number
+         * 
+         * @param month The month number, from 1
+         * @return The calendar month
+         */
+        public YearMonth getYearMonth(int month) {
+            checkMonth(month);
+            return firstMonth.plusMonths(month - 1);
+        }
+        
+        /**
+         * Get the scheduled principal received in a month
+         * 
+         * @param month The month number, from 1
+         * @return The scheduled principal
+         */
+        public double getScheduledPrincipal(int month) {
+            checkMonth(month);
+            return totals.principal[month - 1];
+        }
+        
+        /**
+         * Get the expected principal prepaid in a month; zero without a prepayment rate
+         * 
+         * @param month The month number, from 1
+         * @return The prepaid principal
+         */
+        public double getPrepaidPrincipal(int month) {
+            checkMonth(month);
+            return totals.prepaidPrincipal[month - 1];
+        }
+        
+        /**
+         * Get all principal received in a month, scheduled and prepaid
+         * 
+         * @param month The month number, from 1
+         * @return The principal
+         */
+        public double getPrincipal(int month) {
+            checkMonth(month);
+            return totals.principal[month - 1] + totals.prepaidPrincipal[month - 1];
+        }
+        
+        /**
+         * Get the interest received in a month
+         * 
+         * @param month The month number, from 1
+         * @return The interest
+         */
+        public double getInterest(int month) {
+            checkMonth(month);
+            return totals.interest[month - 1];
+        }
+        
+        /**
+         * Get the balance outstanding at the end of a month
+         * 
+         * @param month The month number, from 1
+         * @return The balance
+         */
+        public double getBalance(int month) {
+            checkMonth(month);
+            return totals.balance[month - 1];
+        }
+        
+        /**
+         * Get the interest received over the whole projection
+         * 
+         * @return The total interest
+         */
+        public double getTotalInterest() {
+            double total = 0;
+            for (double interest : totals.interest) {
+                total += interest;
+            }
+            return total;
+        }
+        
+        /**
+         * Get the principal received over the whole projection, scheduled and prepaid
+         * 
+         * @return The total principal
+         */
+        public double getTotalPrincipal() {
+            double total = 0;
+            for (int month = 0; month < totals.interest.length; month++) {
+                total += totals.principal[month] + totals.prepaidPrincipal[month];
+            }
+            return total;
+        }
+        
+        /**
+         * Check that a month number is in range
+         * 
+         * @param month The month number
+         * @throws IllegalArgumentException If the month is outside the projection
+         */
+        private void checkMonth(int month) {
+            if (month < 1 || month > totals.interest.length) {
+                throw new IllegalArgumentException("Month must be between 1 and " + totals.interest.length);
+            }
+        }
+    }
+}
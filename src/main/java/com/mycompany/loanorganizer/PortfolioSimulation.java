@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulation of prepayment and default across a portfolio of loans.
+ * Each loan prepays or defaults in any month with constant monthly probabilities
+ * derived from annual rates (CPR and CDR). A prepaying loan pays off its balance;
+ * a defaulting loan stops paying and its balance is recovered less the loss
+ * severity, in the month of default.
+ * 
+ * Paths are split across the fork-join common pool. The random generator is split
+ * along a fixed task tree, so the same seed gives the same result on any number
+ * of threads. A loan's exit month is drawn directly from its geometric
+ * distribution, so each loan costs a few arithmetic operations per path whatever
+ * its term, and paths reuse primitive scratch arrays instead of allocating.
+ * 
+ * @author Loan Organizer Team
+ */
+public class PortfolioSimulation {
+    // Paths a single task simulates before it stops splitting
+    private static final int PATHS_PER_TASK = 8;
+    
+    // Two-sided 95% normal quantile for the confidence intervals
+    private static final double Z_95 = 1.959963984540054;
+    
+    private final double monthlyPrepaymentRate;
+    private final double monthlyDefaultRate;
+    private final double lossSeverity;
+    
+    /**
+     * Constructor for a simulation with the given behaviour assumptions
+     * 
+     * @param annualPrepaymentRate The fraction of loans prepaying per year (CPR)
+     * @param annualDefaultRate The fraction of loans defaulting per year (CDR)
+     * @param lossSeverity The fraction of a defaulted balance that is lost
+     * @throws IllegalArgumentException If a rate or the severity is outside [0, 1],
+     *         or the rates add up to more than 1
+     */
+    public PortfolioSimulation(double annualPrepaymentRate, double annualDefaultRate, double lossSeverity) {
+        if (!(annualPrepaymentRate >= 0 && annualPrepaymentRate <= 1)
+                || !(annualDefaultRate >= 0 && annualDefaultRate <= 1)) {
+            throw new IllegalArgumentException("Prepayment and default rates must be between 0 and 1");
+        }
+        if (!(lossSeverity >= 0 && lossSeverity <= 1)) {
+            throw new IllegalArgumentException("Loss severity must be between 0 and 1");
+        }
+        this.monthlyPrepaymentRate = 1 - Math.pow(1 - annualPrepaymentRate, 1.0 / 12);
+        this.monthlyDefaultRate = 1 - Math.pow(1 - annualDefaultRate, 1.0 / 12);
+        if (monthlyPrepaymentRate + monthlyDefaultRate > 1) {
+            throw new IllegalArgumentException("Prepayment and default rates cannot add up to more than 1");
+        }
+        this.lossSeverity = lossSeverity;
+    }
+    
+    /**
+     * Simulate the portfolio from a date onward. Each loan starts from its remaining
+     * balance and remaining term on that date; loans that have already matured are
+     * left out.
+     * 
+     * @param loans The loans to simulate
+     * @param asOfDate The date the simulation starts from; month 1 is a month later
+     * @param paths The number of paths to simulate
+     * @param seed The random seed
+     * @return The monthly cash flow and loss statistics
+     * @throws IllegalArgumentException If paths is not positive
+     */
+    public Result run(Collection<? extends LoanAccount> loans, LocalDate asOfDate, int paths, long seed) {
+        if (paths <= 0) {
+            throw new IllegalArgumentException("Number of paths must be greater than zero");
+        }
+        
+        // Copy each loan's position into primitive arrays shared by every path
+        Portfolio portfolio = new Portfolio(loans.size());
+        for (LoanAccount loan : loans) {
+            long elapsed = Math.max(0, ChronoUnit.MONTHS.between(loan.getStartDate(), asOfDate));
+            int remainingTerm = (int) (loan.getTermInMonths() - elapsed);
+            double balance = loan.calculateRemainingBalance(asOfDate);
+            if (remainingTerm > 0 && balance > 0) {
+                portfolio.add(balance, loan.getAnnualInterestRate() / 12,
+                        loan.calculateMonthlyPayment(loan.getTermInMonths()), remainingTerm);
+            }
+        }
+        
+        double[] pathLosses = new double[paths];
+        Totals totals = ForkJoinPool.commonPool().invoke(
+                new PathTask(portfolio, pathLosses, new SplittableRandom(seed), 0, paths));
+        return new Result(asOfDate, paths, totals, pathLosses);
+    }
+    
+    /**
+     * Simulate one path and add its cash flows and losses to the scratch arrays
+     * 
+     * @param portfolio The loans
+     * @param random The path's random generator
+     * @param cashDeltas Scratch array of month-to-month changes in scheduled payments
+     * @param cash Scratch array of cash received each month
+     * @param losses Scratch array of losses each month
+     * @return The path's total loss
+     */
+    private double simulatePath(Portfolio portfolio, SplittableRandom random, double[] cashDeltas,
+            double[] cash, double[] losses) {
+        Arrays.fill(cashDeltas, 0.0);
+        Arrays.fill(cash, 0.0);
+        Arrays.fill(losses, 0.0);
+        
+        double exitRate = monthlyPrepaymentRate + monthlyDefaultRate;
+        double logSurvival = Math.log1p(-exitRate);
+        double defaultShare = exitRate == 0 ? 0 : monthlyDefaultRate / exitRate;
+        double totalLoss = 0;
+        
+        for (int i = 0; i < portfolio.size; i++) {
+            int term = portfolio.terms[i];
+            double payment = portfolio.payments[i];
+            
+            // Month of prepayment or default, geometric in the monthly exit probability
+            int exitMonth = Integer.MAX_VALUE;
+            if (exitRate >= 1) {
+                exitMonth = 1;
+            } else if (exitRate > 0) {
+                double months = Math.floor(Math.log(1.0 - random.nextDouble()) / logSurvival) + 1;
+                exitMonth = months > term ? Integer.MAX_VALUE : (int) months;
+            }
+            
+            if (exitMonth > term) {
+                // Scheduled payments for the whole remaining term
+                cashDeltas[0] += payment;
+                cashDeltas[term] -= payment;
+                continue;
+            }
+            
+            // Scheduled payments before the exit month, then the balance left after them
+            cashDeltas[0] += payment;
+            cashDeltas[exitMonth - 1] -= payment;
+            double rate = portfolio.monthlyRates[i];
+            double balance = portfolio.balances[i];
+            int paid = exitMonth - 1;
+            if (rate == 0) {
+                balance -= payment * paid;
+            } else {
+                double growth = Math.pow(1 + rate, paid);
+                balance = balance * growth - payment * (growth - 1) / rate;
+            }
+            balance = Math.max(0.0, balance);
+            
+            if (random.nextDouble() < defaultShare) {
+                double loss = balance * lossSeverity;
+                cash[exitMonth - 1] += balance - loss;
+                losses[exitMonth - 1] += loss;
+                totalLoss += loss;
+            } else {
+                cash[exitMonth - 1] += balance * (1 + rate);
+            }
+        }
+        
+        double scheduled = 0;
+        for (int month = 0; month < cash.length; month++) {
+            scheduled += cashDeltas[month];
+            cash[month] += scheduled;
+        }
+        return totalLoss;
+    }
+    
+    /**
+     * The loans' starting positions in primitive arrays
+     */
+    private static class Portfolio {
+        private final double[] balances;
+        private final double[] monthlyRates;
+        private final double[] payments;
+        private final int[] terms;
+        private int size;
+        private int months;
+        
+        /**
+         * Constructor for an empty portfolio
+         * 
+         * @param capacity The maximum number of loans
+         */
+        Portfolio(int capacity) {
+            this.balances = new double[capacity];
+            this.monthlyRates = new double[capacity];
+            this.payments = new double[capacity];
+            this.terms = new int[capacity];
+        }
+        
+        /**
+         * Add a loan
+         * 
+         * @param balance The starting balance
+         * @param monthlyRate The monthly interest rate
+         * @param payment The scheduled monthly payment
+         * @param term The remaining term in months
+         */
+        void add(double balance, double monthlyRate, double payment, int term) {
+            balances[size] = balance;
+            monthlyRates[size] = monthlyRate;
+            payments[size] = payment;
+            terms[size] = term;
+            size++;
+            months = Math.max(months, term);
+        }
+    }
+    
+    /**
+     * Per-month sums and sums of squares over a set of paths
+     */
+    private static class Totals {
+        private final double[] cashSums;
+        private final double[] cashSquares;
+        private final double[] lossSums;
+        private final double[] lossSquares;
+        
+        /**
+         * Constructor for empty totals
+         * 
+         * @param months The number of months
+         */
+        Totals(int months) {
+            this.cashSums = new double[months];
+            this.cashSquares = new double[months];
+            this.lossSums = new double[months];
+            this.lossSquares = new double[months];
+        }
+        
+        /**
+         * Add another set of totals to this one
+         * 
+         * @param other The totals to add
+         */
+        void add(Totals other) {
+            for (int month = 0; month < cashSums.length; month++) {
+                cashSums[month] += other.cashSums[month];
+                cashSquares[month] += other.cashSquares[month];
+                lossSums[month] += other.lossSums[month];
+                lossSquares[month] += other.lossSquares[month];
+            }
+        }
+    }
+    
+    /**
+     * Fork-join task that simulates paths [fromPath, toPath)
+     */
+    private class PathTask extends RecursiveTask<Totals> {
+        private static final long serialVersionUID = 1L;
+        
+        private final Portfolio portfolio;
+        private final double[] pathLosses;
+        private final SplittableRandom random;
+        private final int fromPath;
+        private final int toPath;
+        
+        /**
+         * Constructor for a task over a range of paths
+         * 
+         * @param portfolio The loans
+         * @param pathLosses The array to fill with each path's total loss
+         * @param random The task's random generator
+         * @param fromPath The first path, inclusive
+         * @param toPath The last path, exclusive
+         */
+        PathTask(Portfolio portfolio, double[] pathLosses, SplittableRandom random, int fromPath, int toPath) {
+            this.portfolio = portfolio;
+            this.pathLosses = pathLosses;
+            this.random = random;
+            this.fromPath = fromPath;
+            this.toPath = toPath;
+        }
+        
+        @Override
+        protected Totals compute() {
+            if (toPath - fromPath > PATHS_PER_TASK) {
+                // Split before forking so each subtree's generator is fixed by the tree shape alone
+                int middle = (fromPath + toPath) >>> 1;
+                PathTask left = new PathTask(portfolio, pathLosses, random.split(), fromPath, middle);
+                PathTask right = new PathTask(portfolio, pathLosses, random.split(), middle, toPath);
+                right.fork();
+                Totals totals = left.compute();
+                totals.add(right.join());
+                return totals;
+            }
+            
+            int months = portfolio.months;
+            Totals totals = new Totals(months);
+            double[] cashDeltas = new double[months + 1];
+            double[] cash = new double[months];
+            double[] losses = new double[months];
+            for (int path = fromPath; path < toPath; path++) {
+                pathLosses[path] = simulatePath(portfolio, random, cashDeltas, cash, losses);
+                for (int month = 0; month < months; month++) {
+                    totals.cashSums[month] += cash[month];
+                    totals.cashSquares[month] += cash[month] * cash[month];
+                    totals.lossSums[month] += losses[month];
+                    totals.lossSquares[month] += losses[month] * losses[month];
+                }
+            }
+            return totals;
+        }
+    }
+    
+    /**
+     * Simulated cash flows and losses by month. Months are numbered from 1, the
+     * first month after the as-of date.
+     */
+    public static class Result {
+        private final LocalDate asOfDate;
+        private final int paths;
+        private final double[] expectedCashFlows;
+        private final double[] cashFlowMargins;
+        private final double[] expectedLosses;
+        private final double[] lossMargins;
+        private final double[] sortedPathLosses;
+        
+        /**
+         * Constructor for a result
+         * 
+         * @param asOfDate The date the simulation started from
+         * @param paths The number of paths
+         * @param totals The per-month sums over all paths
+         * @param pathLosses The total loss on each path
+         */
+        private Result(LocalDate asOfDate, int paths, Totals totals, double[] pathLosses) {
+            this.asOfDate = asOfDate;
+            this.paths = paths;
+            int months = totals.cashSums.length;
+            this.expectedCashFlows = new double[months];
+            this.cashFlowMargins = new double[months];
+            this.expectedLosses = new double[months];
+            this.lossMargins = new double[months];
+            for (int month = 0; month < months; month++) {
+                expectedCashFlows[month] = totals.cashSums[month] / paths;
+                cashFlowMargins[month] = margin(totals.cashSums[month], totals.cashSquares[month], paths);
+                expectedLosses[month] = totals.lossSums[month] / paths;
+                lossMargins[month] = margin(totals.lossSums[month], totals.lossSquares[month], paths);
+            }
+            this.sortedPathLosses = pathLosses;
+            Arrays.sort(sortedPathLosses);
+        }
+        
+        /**
+         * Half-width of the 95% confidence interval for a mean
+         * 
+         * @param sum The sum of the samples
+         * @param squares The sum of the squared samples
+         * @param count The number of samples
+         * @return The margin of error
+         */
+        private static double margin(double sum, double squares, int count) {
+            if (count < 2) {
+                return 0.0;
+            }
+            double variance = Math.max(0.0, (squares - sum * sum / count) / (count - 1));
+            return Z_95 * Math.sqrt(variance / count);
+        }
+        
+        /**
+         * Get the date the simulation started from
+         * 
+         * @return The as-of date
+         */
+        public LocalDate getAsOfDate() {
+            return asOfDate;
+        }
+        
+        /**
+         * Get the number of simulated paths
+         * 
+         * @return The number of paths
+         */
+        public int getPaths() {
+            return paths;
+        }
+        
+        /**
+         * Get the number of months covered, up to the longest remaining term
+         * 
+         * @return The number of months
+         */
+        public int getMonths() {
+            return expectedCashFlows.length;
+        }
+        
+        /**
+         * Get the expected cash received in a month: scheduled payments, payoffs and
+         * recoveries
+         * 
+         * @param month The month number, from 1
+         * @return The mean cash flow across paths
+         */
+        public double getExpectedCashFlow(int month) {
+            return expectedCashFlows[month - 1];
+        }
+        
+        /**
+         * Get the lower end of the 95% confidence interval for a month's expected cash flow
+         * 
+         * @param month The month number, from 1
+         * @return The lower bound
+         */
+        public double getCashFlowLowerBound(int month) {
+            return expectedCashFlows[month - 1] - cashFlowMargins[month - 1];
+        }
+        
+        /**
+         * Get the upper end of the 95% confidence interval for a month's expected cash flow
+         * 
+         * @param month The month number, from 1
+         * @return The upper bound
+         */
+        public double getCashFlowUpperBound(int month) {
+            return expectedCashFlows[month - 1] + cashFlowMargins[month - 1];
+        }
+        
+        /**
+         * Get the expected credit loss in a month
+         * 
+         * @param month The month number, from 1
+         * @return The mean loss across paths
+         */
+        public double getExpectedLoss(int month) {
+            return expectedLosses[month - 1];
+        }
+        
+        /**
+         * Get the lower end of the 95% confidence interval for a month's expected loss
+         * 
+         * @param month The month number, from 1
+         * @return The lower bound
+         */
+        public double getLossLowerBound(int month) {
+            return expectedLosses[month - 1] - lossMargins[month - 1];
+        }
+        
+        /**
+         * Get the upper end of the 95% confidence interval for a month's expected loss
+         * 
+         * @param month The month number, from 1
+         * @return The upper bound
+         */
+        public double getLossUpperBound(int month) {
+            return expectedLosses[month - 1] + lossMargins[month - 1];
+        }
+        
+        /**
+         * Get the expected total loss over the life of the portfolio
+         * 
+         * @return The mean of the path losses
+         */
+        public double getExpectedTotalLoss() {
+            double sum = 0;
+            for (double loss : sortedPathLosses) {
+                sum += loss;
+            }
+            return sum / paths;
+        }
+        
+        /**
+         * Get a percentile of the total loss distribution, e.g. 0.99 for the loss
+         * exceeded on only 1% of paths
+         * 
+         * @param quantile The quantile, between 0 and 1
+         * @return The total loss at that quantile (nearest rank)
+         * @throws IllegalArgumentException If the quantile is outside [0, 1]
+         */
+        public double getTotalLossPercentile(double quantile) {
+            if (!(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1");
+            }
+            int rank = (int) Math.ceil(quantile * paths);
+            return sortedPathLosses[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes payment sensitivity grids across a set of interest rates and terms.
+ * Each grid cell holds the monthly payment, total interest and total cost for one
+ * rate and term. The grid is filled in parallel on the fork-join common pool and
+ * never modifies the loans it is given.
+ * 
+ * @author Loan Organizer Team
+ */
+public class RateTermGrid {
+    // Number of grid rows a single task fills before it stops splitting
+    private static final int ROWS_PER_TASK = 4;
+    
+    private final double[] rates;
+    private final int[] terms;
+    
+    /**
+     * Constructor for a grid over the given rates and terms
+     * 
+     * @param rates The annual interest rates (rows of the grid)
+     * @param terms The terms in months (columns of the grid)
+     * @throws IllegalArgumentException If either vector is empty
+     */
+    public RateTermGrid(double[] rates, int[] terms) {
+        if (rates.length == 0 || terms.length == 0) {
+            throw new IllegalArgumentException("A grid needs at least one rate and one term");
+        }
+        this.rates = rates.clone();
+        this.terms = terms.clone();
+    }
+    
+    /**
+     * Calculate the grid for a single principal
+     * 
+     * @param principal The loan principal
+     * @return The filled grid
+     */
+    public Result calculate(double principal) {
+        return scale(calculatePaymentFactors(), principal);
+    }
+    
+    /**
+     * Calculate one grid per loan, using each loan's principal. The loans'
+     * own rates and terms are not used and are never changed.
+     * 
+     * @param loans The loans to calculate grids for
+     * @return The filled grids, in the same order as the loans
+     */
+    public List<Result> calculate(List<? extends LoanAccount> loans) {
+        // The payment factor depends only on rate and term, so it is shared by every loan
+        double[] factors = calculatePaymentFactors();
+        
+        double[] principals = new double[loans.size()];
+        for (int i = 0; i < principals.length; i++) {
+            principals[i] = loans.get(i).getPrincipal();
+        }
+        
+        Result[] results = new Result[principals.length];
+        ForkJoinPool.commonPool().invoke(new LoanTask(factors, principals, results, 0, principals.length));
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Fill the payment-per-dollar factor for every grid cell in parallel
+     * 
+     * @return The factors in row-major (rate, term) order
+     */
+    private double[] calculatePaymentFactors() {
+        double[] factors = new double[rates.length * terms.length];
+        ForkJoinPool.commonPool().invoke(new FactorTask(factors, 0, rates.length));
+        return factors;
+    }
+    
+    /**
+     * Build a result for one principal from the shared factors
+     * 
+     * @param factors The payment factors in row-major order
+     * @param principal The loan principal
+     * @return The filled grid
+     */
+    private Result scale(double[] factors, double principal) {
+        int cells = factors.length;
+        double[] payments = new double[cells];
+        double[] totalCosts = new double[cells];
+        double[] totalInterests = new double[cells];
+        
+        for (int cell = 0; cell < cells; cell++) {
+            int term = terms[cell % terms.length];
+            // Interest-free cells divide by the term, matching calculateMonthlyPayment exactly
+            payments[cell] = LoanCalculator.applyPaymentFactor(principal, rates[cell / terms.length], term,
+                    factors[cell]);
+            totalCosts[cell] = payments[cell] * term;
+            totalInterests[cell] = totalCosts[cell] - principal;
+        }
+        
+        return new Result(principal, rates, terms, payments, totalInterests, totalCosts);
+    }
+    
+    /**
+     * Fork-join task that fills the factors for a range of grid rows
+     */
+    private class FactorTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] factors;
+        private final int fromRow;
+        private final int toRow;
+        
+        /**
+         * Constructor for a task over rows [fromRow, toRow)
+         * 
+         * @param factors The array to fill
+         * @param fromRow The first row, inclusive
+         * @param toRow The last row, exclusive
+         */
+        FactorTask(double[] factors, int fromRow, int toRow) {
+            this.factors = factors;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                for (int row = fromRow; row < toRow; row++) {
+                    int offset = row * terms.length;
+                    for (int column = 0; column < terms.length; column++) {
+                        // Goes through LoanCalculator so an installed AnnuityFactorTable is used
+                        factors[offset + column] = LoanCalculator.calculateMonthlyPayment(1.0, rates[row], terms[column]);
+                    }
+                }
+                return;
+            }
+            
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new FactorTask(factors, fromRow, middle), new FactorTask(factors, middle, toRow));
+        }
+    }
+    
+    /**
+     * Fork-join task that builds the results for a range of loans
+     */
+    private class LoanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] factors;
+        private final double[] principals;
+        private final Result[] results;
+        private final int fromLoan;
+        private final int toLoan;
+        
+        /**
+         * Constructor for a task over loans [fromLoan, toLoan)
+         * 
+         * @param factors The shared payment factors
+         * @param principals The loan principals
+         * @param results The array to fill
+         * @param fromLoan The first loan, inclusive
+         * @param toLoan The last loan, exclusive
+         */
+        LoanTask(double[] factors, double[] principals, Result[] results, int fromLoan, int toLoan) {
+            this.factors = factors;
+            this.principals = principals;
+            this.results = results;
+            this.fromLoan = fromLoan;
+            this.toLoan = toLoan;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toLoan - fromLoan <= 1) {
+                for (int loan = fromLoan; loan < toLoan; loan++) {
+                    results[loan] = scale(factors, principals[loan]);
+                }
+                return;
+            }
+            
+            int middle = (fromLoan + toLoan) >>> 1;
+            invokeAll(new LoanTask(factors, principals, results, fromLoan, middle),
+                    new LoanTask(factors, principals, results, middle, toLoan));
+        }
+    }
+    
+    /**
+     * A filled rate/term grid for one principal. Rows are rates and columns are
+     * terms, in the order they were given to the RateTermGrid.
+     */
+    public static class Result {
+        private final double principal;
+        private final double[] rates;
+        private final int[] terms;
+        private final double[] monthlyPayments;
+        private final double[] totalInterests;
+        private final double[] totalCosts;
+        
+        /**
+         * Constructor for a result
+         * 
+         * @param principal The loan principal
+         * @param rates The grid rates
+         * @param terms The grid terms
+         * @param monthlyPayments The monthly payments in row-major order
+         * @param totalInterests The total interest amounts in row-major order
+         * @param totalCosts The total costs in row-major order
+         */
+        private Result(double principal, double[] rates, int[] terms, double[] monthlyPayments,
+                double[] totalInterests, double[] totalCosts) {
+            this.principal = principal;
+            this.rates = rates;
+            this.terms = terms;
+            this.monthlyPayments = monthlyPayments;
+            this.totalInterests = totalInterests;
+            this.totalCosts = totalCosts;
+        }
+        
+        /**
+         * Get the principal the grid was calculated for
+         * 
+         * @return The principal
+         */
+        public double getPrincipal() {
+            return principal;
+        }
+        
+        /**
+         * Get the number of rates (rows) in the grid
+         * 
+         * @return The number of rates
+         */
+        public int getRateCount() {
+            return rates.length;
+        }
+        
+        /**
+         * Get the number of terms (columns) in the grid
+         * 
+         * @return The number of terms
+         */
+        public int getTermCount() {
+            return terms.length;
+        }
+        
+        /**
+         * Get the rate of a grid row
+         * 
+         * @param rateIndex The row index
+         * @return The annual interest rate
+         */
+        public double getRate(int rateIndex) {
+            return rates[rateIndex];
+        }
+        
+        /**
+         * Get the term of a grid column
+         * 
+         * @param termIndex The column index
+         * @return The term in months
+         */
+        public int getTerm(int termIndex) {
+            return terms[termIndex];
+        }
+        
+        /**
+         * Get the monthly payment for a rate and term
+         * 
+         * @param rateIndex The row index
+         * @param termIndex The column index
+         * @return The monthly payment
+         */
+        public double getMonthlyPayment(int rateIndex, int termIndex) {
+            return monthlyPayments[rateIndex * terms.length + termIndex];
+        }
+        
+        /**
+         * Get the total interest for a rate and term
+         * 
+         * @param rateIndex The row index
+         * @param termIndex The column index
+         * @return The total interest
+         */
+        public double getTotalInterest(int rateIndex, int termIndex) {
+            return totalInterests[rateIndex * terms.length + termIndex];
+        }
+        
+        /**
+         * Get the total cost for a rate and term
+         * 
+         * @param rateIndex The row index
+         * @param termIndex The column index
+         * @return The total cost
+         */
+        public double getTotalCost(int rateIndex, int termIndex) {
+            return totalCosts[rateIndex * terms.length + termIndex];
+        }
+    }
+}
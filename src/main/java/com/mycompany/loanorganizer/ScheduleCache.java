@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A bounded least-recently-used cache of amortization schedules, keyed by
+ * principal, rate, term and start date. Install one with
+ * LoanCalculator.setScheduleCache and the schedule and table methods of
+ * LoanCalculator and LoanAccount serve repeated quotes from it.
+ * 
+ * Cached schedules are AmortizationTables shared between callers, so schedules
+ * returned while a cache is installed are read-only. The cache holds at most
+ * maxEntries schedules and maxRows rows in total; the least recently used
+ * schedules are evicted to stay within both limits. It is safe to use from
+ * several threads.
+ * 
+ * A hit updates the recency order, so every lookup takes a lock. With one stripe,
+ * the default, all lookups share that lock and concurrent hits run one at a time,
+ * which limits a busy multi-threaded caller such as LoanQuoteServer. Give the
+ * cache several stripes to split it by key hash into independent LRU caches, each
+ * with its own lock and an equal share of both limits. Lookups for different
+ * stripes then never contend, at the cost of evicting the least recently used
+ * schedule of a stripe rather than of the whole cache.
+ * 
+ * @author Loan Organizer Team
+ */
+public class ScheduleCache {
+    private final Stripe[] stripes;
+    
+    /**
+     * Constructor for an empty cache with a single stripe
+     * 
+     * @param maxEntries The maximum number of schedules to keep
+     * @param maxRows The maximum total number of schedule rows to keep
+     * @throws IllegalArgumentException If either limit is not positive
+     */
+    public ScheduleCache(int maxEntries, long maxRows) {
+        this(maxEntries, maxRows, 1);
+    }
+    
+    /**
+     * Constructor for an empty cache split into stripes by key hash
+     * 
+     * @param maxEntries The maximum number of schedules to keep
+     * @param maxRows The maximum total number of schedule rows to keep
+     * @param stripeCount The number of stripes, e.g. the number of processors
+     * @throws IllegalArgumentException If a limit is not positive, or there are
+     *         more stripes than schedules or rows allowed
+     */
+    public ScheduleCache(int maxEntries, long maxRows, int stripeCount) {
+        if (maxEntries <= 0 || maxRows <= 0) {
+            throw new IllegalArgumentException("Cache limits must be greater than zero");
+        }
+        if (stripeCount <= 0 || stripeCount > maxEntries || stripeCount > maxRows) {
+            throw new IllegalArgumentException("Stripe count must be between 1 and both cache limits");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Spread the remainders so the stripe limits add up to the cache limits
+            this.stripes[i] = new Stripe(maxEntries / stripeCount + (i < maxEntries % stripeCount ? 1 : 0),
+                    maxRows / stripeCount + (i < maxRows % stripeCount ? 1 : 0));
+        }
+    }
+    
+    /**
+     * Get a schedule, generating and caching it on a miss. Two threads missing on
+     * the same key may both generate the schedule; the tables they get are equal.
+     * 
+     * @param principal The loan principal
+     * @param annualInterestRate The annual interest rate
+     * @param termInMonths The term of the loan in months
+     * @param startDate The start date of the loan
+     * @param finalPaymentAdjusted True for LoanCalculator schedules, whose last payment
+     *        clears the balance exactly; false for LoanAccount schedules
+     * @return The schedule
+     */
+    AmortizationTable get(double principal, double annualInterestRate, int termInMonths, LocalDate startDate,
+            boolean finalPaymentAdjusted) {
+        Key key = new Key(principal, annualInterestRate, termInMonths, startDate.toEpochDay(), finalPaymentAdjusted);
+        int hash = key.hashCode();
+        Stripe stripe = stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+        synchronized (stripe) {
+            AmortizationTable table = stripe.tables.get(key);
+            if (table != null) {
+                stripe.hits++;
+                return table;
+            }
+            stripe.misses++;
+        }
+        
+        // Generate outside the lock so a slow miss does not hold up hits
+        AmortizationTable table = finalPaymentAdjusted
+                ? LoanCalculator.buildAmortizationTable(principal, annualInterestRate, termInMonths, startDate)
+                : LoanAccount.buildAmortizationTable(principal, annualInterestRate, termInMonths, startDate);
+        if (table.size() > stripe.maxRows) {
+            return table;
+        }
+        
+        synchronized (stripe) {
+            AmortizationTable existing = stripe.tables.putIfAbsent(key, table);
+            if (existing != null) {
+                return existing;
+            }
+            stripe.rows += table.size();
+            Iterator<AmortizationTable> eldest = stripe.tables.values().iterator();
+            while (stripe.tables.size() > stripe.maxEntries || stripe.rows > stripe.maxRows) {
+                stripe.rows -= eldest.next().size();
+                eldest.remove();
+                stripe.evictions++;
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * Remove every schedule. The statistics are kept.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.tables.clear();
+                stripe.rows = 0;
+            }
+        }
+    }
+    
+    /**
+     * Get the number of stripes the cache is split into
+     * 
+     * @return The stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+    
+    /**
+     * Get the number of cached schedules
+     * 
+     * @return The number of schedules
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.tables.size();
+            }
+        }
+        return size;
+    }
+    
+    /**
+     * Get the total number of rows in the cached schedules
+     * 
+     * @return The number of rows
+     */
+    public long getRowCount() {
+        long rows = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                rows += stripe.rows;
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Get the number of lookups served from the cache
+     * 
+     * @return The hit count
+     */
+    public long getHitCount() {
+        long hits = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                hits += stripe.hits;
+            }
+        }
+        return hits;
+    }
+    
+    /**
+     * Get the number of lookups that had to generate a schedule
+     * 
+     * @return The miss count
+     */
+    public long getMissCount() {
+        long misses = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                misses += stripe.misses;
+            }
+        }
+        return misses;
+    }
+    
+    /**
+     * Get the number of schedules evicted to stay within the limits
+     * 
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        long evictions = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evictions += stripe.evictions;
+            }
+        }
+        return evictions;
+    }
+    
+    /**
+     * Get the fraction of lookups served from the cache
+     * 
+     * @return The hit rate, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ScheduleCache[%d schedules, %d rows, %d hits, %d misses, %d evictions]",
+                size(), getRowCount(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+    
+    /**
+     * One independently locked LRU cache holding the keys that hash to it. Fields
+     * are guarded by the stripe's monitor.
+     */
+    private static final class Stripe {
+        private final int maxEntries;
+        private final long maxRows;
+        
+        // Access-ordered, so iteration starts at the least recently used entry
+        private final LinkedHashMap<Key, AmortizationTable> tables = new LinkedHashMap<>(16, 0.75f, true);
+        private long rows;
+        private long hits;
+        private long misses;
+        private long evictions;
+        
+        /**
+         * Constructor for an empty stripe
+         * 
+         * @param maxEntries The maximum number of schedules in this stripe
+         * @param maxRows The maximum total number of rows in this stripe
+         */
+        Stripe(int maxEntries, long maxRows) {
+            this.maxEntries = maxEntries;
+            this.maxRows = maxRows;
+        }
+    }
+    
+    /**
+     * The parameters a schedule depends on
+     */
+    private static final class Key {
+        private final long principalBits;
+        private final long rateBits;
+        private final int termInMonths;
+        private final long startEpochDay;
+        private final boolean finalPaymentAdjusted;
+        
+        /**
+         * Constructor for a key
+         * 
+         * @param principal The loan principal
+         * @param annualInterestRate The annual interest rate
+         * @param termInMonths The term in months
+         * @param startEpochDay The start date as a day count from 1970-01-01
+         * @param finalPaymentAdjusted Which kind of schedule
+         */
+        Key(double principal, double annualInterestRate, int termInMonths, long startEpochDay,
+                boolean finalPaymentAdjusted) {
+            this.principalBits = Double.doubleToLongBits(principal);
+            this.rateBits = Double.doubleToLongBits(annualInterestRate);
+            this.termInMonths = termInMonths;
+            this.startEpochDay = startEpochDay;
+            this.finalPaymentAdjusted = finalPaymentAdjusted;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return principalBits == key.principalBits && rateBits == key.rateBits
+                    && termInMonths == key.termInMonths && startEpochDay == key.startEpochDay
+                    && finalPaymentAdjusted == key.finalPaymentAdjusted;
+        }
+        
+        @Override
+        public int hashCode() {
+            long hash = principalBits;
+            hash = hash * 31 + rateBits;
+            hash = hash * 31 + termInMonths;
+            hash = hash * 31 + startEpochDay;
+            hash = hash * 2 + (finalPaymentAdjusted ? 1 : 0);
+            return Long.hashCode(hash);
+        }
+    }
+}
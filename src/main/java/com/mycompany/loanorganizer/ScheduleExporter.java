@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes amortization schedules for one loan or a whole portfolio straight to a
+ * WritableByteChannel. Each row is computed, encoded into a reusable direct
+ * buffer and written out when the buffer fills, so no PaymentDetails objects or
+ * schedule lists are created and a dump of any size runs in constant memory.
+ * Rows match LoanAccount.generateAmortizationSchedule.
+ * 
+ * Every row names its loan by position in the portfolio, starting at 0. The CSV
+ * format has a header line and then one line per row:
+ * <pre>
+ *   loan,month,paymentDate,payment,principal,interest,remainingBalance
+ *   0,1,2025-02-01,1234.56,1000.00,234.56,49000.00
+ * </pre>
+ * Dates are yyyy-MM-dd and amounts are rounded to cents. The binary format has no
+ * header; each row is a big-endian int length (always 44) followed by that many
+ * bytes: int loan, int month, int payment date as epoch day, then double payment,
+ * principal, interest and remaining balance at full precision.
+ * 
+ * An exporter keeps its buffer between calls and must not be shared between
+ * threads. Channels are written in blocking fashion.
+ * 
+ * @author Loan Organizer Team
+ */
+public class ScheduleExporter {
+    /**
+     * The header line of the CSV format
+     */
+    public static final String CSV_HEADER = "loan,month,paymentDate,payment,principal,interest,remainingBalance";
+    
+    /**
+     * The length of a binary row after its length prefix
+     */
+    public static final int BINARY_ROW_BYTES = 3 * Integer.BYTES + 4 * Double.BYTES;
+    
+    /**
+     * Row encodings
+     */
+    public enum Format {
+        /** Comma-separated text with a header line */
+        CSV,
+        /** Length-prefixed binary rows */
+        BINARY
+    }
+    
+    private static final int DEFAULT_BUFFER_BYTES = 256 * 1024;
+    
+    // Longest CSV line: amounts too large for LoanFormatter's fast path print every integer digit
+    private static final int MAX_CSV_ROW_CHARS = 2048;
+    
+    private final Format format;
+    private final ByteBuffer buffer;
+    private final CharBuffer line = CharBuffer.allocate(MAX_CSV_ROW_CHARS);
+    
+    /**
+     * Constructor for an exporter with a 256 KB buffer
+     * 
+     * @param format The row encoding
+     */
+    public ScheduleExporter(Format format) {
+        this(format, DEFAULT_BUFFER_BYTES);
+    }
+    
+    /**
+     * Constructor for an exporter with a given buffer size
+     * 
+     * @param format The row encoding
+     * @param bufferBytes The size of the direct buffer, at least 4096 bytes
+     * @throws IllegalArgumentException If the buffer is too small
+     */
+    public ScheduleExporter(Format format, int bufferBytes) {
+        if (bufferBytes < 4096) {
+            throw new IllegalArgumentException("Buffer must be at least 4096 bytes");
+        }
+        this.format = format;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+    }
+    
+    /**
+     * Write one loan's schedule as loan 0
+     * 
+     * @param out The channel to write to
+     * @param loan The loan
+     * @return The number of rows written
+     * @throws IOException If the channel cannot be written
+     */
+    public long write(WritableByteChannel out, LoanAccount loan) throws IOException {
+        buffer.clear();
+        writeHeader();
+        long rows = writeLoan(out, 0, loan);
+        flush(out);
+        return rows;
+    }
+    
+    /**
+     * Write the schedules of a portfolio one loan after another, numbering the
+     * loans in iteration order
+     * 
+     * @param out The channel to write to
+     * @param loans The loans
+     * @return The number of rows written
+     * @throws IOException If the channel cannot be written
+     */
+    public long writePortfolio(WritableByteChannel out, Iterable<? extends LoanAccount> loans) throws IOException {
+        buffer.clear();
+        writeHeader();
+        long rows = 0;
+        int loanNumber = 0;
+        for (LoanAccount loan : loans) {
+            rows += writeLoan(out, loanNumber++, loan);
+        }
+        flush(out);
+        return rows;
+    }
+    
+    /**
+     * Put the CSV header into the buffer
+     */
+    private void writeHeader() {
+        if (format == Format.CSV) {
+            for (int i = 0; i < CSV_HEADER.length(); i++) {
+                buffer.put((byte) CSV_HEADER.charAt(i));
+            }
+            buffer.put((byte) '\n');
+        }
+    }
+    
+    /**
+     * Compute and write every row of one loan's schedule. The arithmetic is that
+     * of AmortizationSpliterator for a LoanAccount schedule.
+     * 
+     * @param out The channel to write to when the buffer fills
+     * @param loanNumber The loan's position in the portfolio
+     * @param loan The loan
+     * @return The number of rows written
+     * @throws IOException If the channel cannot be written
+     */
+    private long writeLoan(WritableByteChannel out, int loanNumber, LoanAccount loan) throws IOException {
+        double principal = loan.getPrincipal();
+        double annualInterestRate = loan.getAnnualInterestRate();
+        int termInMonths = loan.getTermInMonths();
+        int startYear = loan.getStartDate().getYear();
+        int startMonth = loan.getStartDate().getMonthValue();
+        int startDay = loan.getStartDate().getDayOfMonth();
+        
+        double monthlyPayment = LoanCalculator.calculateMonthlyPayment(principal, annualInterestRate, termInMonths);
+        double monthlyRate = annualInterestRate / 12;
+        double remainingBalance = principal;
+        
+        for (int month = 1; month <= termInMonths; month++) {
+            double interestPayment = remainingBalance * monthlyRate;
+            double principalPayment = monthlyPayment - interestPayment;
+            remainingBalance -= principalPayment;
+            
+            long date = AmortizationTable.datePlusMonths(startYear, startMonth, startDay, month);
+            int year = AmortizationTable.packedYear(date);
+            int monthOfYear = AmortizationTable.packedMonth(date);
+            int day = AmortizationTable.packedDay(date);
+            
+            if (format == Format.CSV) {
+                putCsvRow(out, loanNumber, month, year, monthOfYear, day,
+                        monthlyPayment, principalPayment, interestPayment, remainingBalance);
+            } else {
+                if (buffer.remaining() < Integer.BYTES + BINARY_ROW_BYTES) {
+                    flush(out);
+                }
+                buffer.putInt(BINARY_ROW_BYTES)
+                        .putInt(loanNumber)
+                        .putInt(month)
+                        .putInt((int) AmortizationTable.epochDay(year, monthOfYear, day))
+                        .putDouble(monthlyPayment)
+                        .putDouble(principalPayment)
+                        .putDouble(interestPayment)
+                        .putDouble(remainingBalance);
+            }
+        }
+        return Math.max(0, termInMonths);
+    }
+    
+    /**
+     * Format one CSV line and copy it into the buffer
+     * 
+     * @param out The channel to write to when the buffer fills
+     * @param loanNumber The loan's position in the portfolio
+     * @param month The payment number
+     * @param year The payment year
+     * @param monthOfYear The payment month (1-12)
+     * @param day The payment day of month
+     * @param payment The payment amount
+     * @param principalPayment The principal part
+     * @param interestPayment The interest part
+     * @param remainingBalance The balance after the payment
+     * @throws IOException If the channel cannot be written
+     */
+    private void putCsvRow(WritableByteChannel out, int loanNumber, int month, int year, int monthOfYear, int day,
+            double payment, double principalPayment, double interestPayment, double remainingBalance)
+            throws IOException {
+        LoanFormatter formatter = LoanFormatter.US;
+        line.clear();
+        formatter.appendNumber(line, loanNumber, 0, false).append(',');
+        formatter.appendNumber(line, month, 0, false).append(',');
+        formatter.appendNumber(line, year, 0, false).append('-');
+        putTwoDigits(monthOfYear);
+        line.append('-');
+        putTwoDigits(day);
+        formatter.appendNumber(line.append(','), payment, 2, false);
+        formatter.appendNumber(line.append(','), principalPayment, 2, false);
+        formatter.appendNumber(line.append(','), interestPayment, 2, false);
+        // Round-off left after the last payment would otherwise print as -0.00
+        formatter.appendNumber(line.append(','), Math.abs(remainingBalance) < 0.005 ? 0 : remainingBalance, 2, false);
+        line.append('\n');
+        line.flip();
+        
+        if (buffer.remaining() < line.remaining()) {
+            flush(out);
+        }
+        while (line.hasRemaining()) {
+            buffer.put((byte) line.get());
+        }
+    }
+    
+    /**
+     * Append a number from 0 to 99 to the line as two digits
+     * 
+     * @param value The number
+     */
+    private void putTwoDigits(int value) {
+        line.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+    
+    /**
+     * Write out everything in the buffer and clear it
+     * 
+     * @param out The channel to write to
+     * @throws IOException If the channel cannot be written
+     */
+    private void flush(WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
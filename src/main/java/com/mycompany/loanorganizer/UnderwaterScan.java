@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The underwater and recovery months of every loan in an auto portfolio, found
+ * in parallel on the fork-join common pool. Each loan is solved in closed form as
+ * in AutoLoan.findUnderwaterMonth, and results are kept in int arrays indexed like
+ * the input list, so a scan of millions of loans creates no per-loan objects.
+ * 
+ * @author Loan Organizer Team
+ */
+public class UnderwaterScan {
+    // Loans a single task scans before it stops splitting
+    private static final int LOANS_PER_TASK = 4096;
+    
+    private final int[] underwaterMonths;
+    private final int[] recoveryMonths;
+    private final int underwaterCount;
+    
+    /**
+     * Constructor for the results of a scan
+     * 
+     * @param underwaterMonths The first underwater month of each loan, or -1
+     * @param recoveryMonths The recovery month of each loan, or -1
+     */
+    private UnderwaterScan(int[] underwaterMonths, int[] recoveryMonths) {
+        this.underwaterMonths = underwaterMonths;
+        this.recoveryMonths = recoveryMonths;
+        int count = 0;
+        for (int month : underwaterMonths) {
+            if (month >= 0) {
+                count++;
+            }
+        }
+        this.underwaterCount = count;
+    }
+    
+    /**
+     * Scan a portfolio of auto loans
+     * 
+     * @param loans The loans to scan
+     * @return The underwater and recovery months of each loan
+     */
+    public static UnderwaterScan scan(List<? extends AutoLoan> loans) {
+        // Copy the loan terms into primitive arrays so the tasks never touch the loan objects
+        int size = loans.size();
+        double[] principals = new double[size];
+        double[] rates = new double[size];
+        int[] terms = new int[size];
+        double[] vehicleValues = new double[size];
+        boolean[] newVehicles = new boolean[size];
+        int index = 0;
+        for (AutoLoan loan : loans) {
+            principals[index] = loan.getPrincipal();
+            rates[index] = loan.getAnnualInterestRate();
+            terms[index] = loan.getTermInMonths();
+            vehicleValues[index] = loan.getVehicleValue();
+            newVehicles[index] = loan.isNew();
+            index++;
+        }
+        
+        int[] underwaterMonths = new int[size];
+        int[] recoveryMonths = new int[size];
+        ForkJoinPool.commonPool().invoke(new ScanTask(principals, rates, terms, vehicleValues, newVehicles,
+                underwaterMonths, recoveryMonths, 0, size));
+        return new UnderwaterScan(underwaterMonths, recoveryMonths);
+    }
+    
+    /**
+     * Get the number of loans scanned
+     * 
+     * @return The number of loans
+     */
+    public int size() {
+        return underwaterMonths.length;
+    }
+    
+    /**
+     * Get the number of loans that are underwater at some point
+     * 
+     * @return The number of loans with an underwater month
+     */
+    public int getUnderwaterCount() {
+        return underwaterCount;
+    }
+    
+    /**
+     * Get the first month a loan is underwater, counted from its start
+     * 
+     * @param index The loan's position in the scanned list
+     * @return The first underwater month, or -1 if the loan is never underwater
+     */
+    public int getUnderwaterMonth(int index) {
+        return underwaterMonths[index];
+    }
+    
+    /**
+     * Get the month from which a loan stays above water, counted from its start
+     * 
+     * @param index The loan's position in the scanned list
+     * @return The recovery month, or -1 if the loan is never underwater
+     */
+    public int getRecoveryMonth(int index) {
+        return recoveryMonths[index];
+    }
+    
+    /**
+     * Check whether a loan is underwater at some point
+     * 
+     * @param index The loan's position in the scanned list
+     * @return True if the loan has an underwater month
+     */
+    public boolean isEverUnderwater(int index) {
+        return underwaterMonths[index] >= 0;
+    }
+    
+    /**
+     * Fork-join task that scans loans [fromLoan, toLoan)
+     */
+    private static class ScanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] principals;
+        private final double[] rates;
+        private final int[] terms;
+        private final double[] vehicleValues;
+        private final boolean[] newVehicles;
+        private final int[] underwaterMonths;
+        private final int[] recoveryMonths;
+        private final int fromLoan;
+        private final int toLoan;
+        
+        /**
+         * Constructor for a task over a range of loans
+         * 
+         * @param principals The loan principals
+         * @param rates The annual interest rates
+         * @param terms The terms in months
+         * @param vehicleValues The vehicle values when the loans started
+         * @param newVehicles Whether each vehicle was new
+         * @param underwaterMonths The array to fill with first underwater months
+         * @param recoveryMonths The array to fill with recovery months
+         * @param fromLoan The first loan, inclusive
+         * @param toLoan The last loan, exclusive
+         */
+        ScanTask(double[] principals, double[] rates, int[] terms, double[] vehicleValues, boolean[] newVehicles,
+                int[] underwaterMonths, int[] recoveryMonths, int fromLoan, int toLoan) {
+            this.principals = principals;
+            this.rates = rates;
+            this.terms = terms;
+            this.vehicleValues = vehicleValues;
+            this.newVehicles = newVehicles;
+            this.underwaterMonths = underwaterMonths;
+            this.recoveryMonths = recoveryMonths;
+            this.fromLoan = fromLoan;
+            this.toLoan = toLoan;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toLoan - fromLoan > LOANS_PER_TASK) {
+                int middle = (fromLoan + toLoan) >>> 1;
+                invokeAll(new ScanTask(principals, rates, terms, vehicleValues, newVehicles,
+                        underwaterMonths, recoveryMonths, fromLoan, middle),
+                        new ScanTask(principals, rates, terms, vehicleValues, newVehicles,
+                        underwaterMonths, recoveryMonths, middle, toLoan));
+                return;
+            }
+            
+            for (int i = fromLoan; i < toLoan; i++) {
+                long range = AutoLoan.findUnderwaterRange(principals[i], rates[i], terms[i], vehicleValues[i],
+                        newVehicles[i]);
+                underwaterMonths[i] = AutoLoan.underwaterMonth(range);
+                recoveryMonths[i] = AutoLoan.recoveryMonth(range);
+            }
+        }
+    }
+}
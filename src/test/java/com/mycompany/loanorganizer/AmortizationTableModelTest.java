@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.util.List;
+import javax.swing.JLabel;
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+
+/**
+ * Unit tests for the AmortizationTableModel class
+ * 
+ * @author Loan Organizer Team
+ */
+public class AmortizationTableModelTest {
+    private static final double DELTA = 1e-6;
+    private static final LocalDate START = LocalDate.of(2024, 1, 31);
+    
+    @Test
+    public void testRowsMatchSchedule() {
+        LoanAccount loan = new LoanAccount("Mortgage", "Mortgage", 350000, 0.0675, 600, START);
+        List<PaymentDetails> schedule = loan.generateAmortizationSchedule();
+        
+        AmortizationTableModel model = new AmortizationTableModel();
+        model.setLoan(350000, 0.0675, 600, START);
+        assertEquals(600, model.getRowCount());
+        assertEquals(6, model.getColumnCount());
+        assertEquals("Remaining Balance", model.getColumnName(AmortizationTableModel.REMAINING_BALANCE));
+        
+        // Read rows out of order, the way a scrolled table asks for them
+        for (int row : new int[] {599, 0, 300, 1, 598, 42}) {
+            PaymentDetails expected = schedule.get(row);
+            assertEquals(expected.getMonth(), model.getValueAt(row, AmortizationTableModel.MONTH));
+            assertEquals(expected.getPaymentDate(), model.getValueAt(row, AmortizationTableModel.PAYMENT_DATE));
+            assertEquals(expected.getMonthlyPayment(),
+                    (Double) model.getValueAt(row, AmortizationTableModel.PAYMENT), DELTA);
+            assertEquals(expected.getPrincipalPayment(),
+                    (Double) model.getValueAt(row, AmortizationTableModel.PRINCIPAL), DELTA);
+            assertEquals(expected.getInterestPayment(),
+                    (Double) model.getValueAt(row, AmortizationTableModel.INTEREST), DELTA);
+            assertEquals(expected.getRemainingBalance(),
+                    (Double) model.getValueAt(row, AmortizationTableModel.REMAINING_BALANCE), DELTA);
+        }
+    }
+    
+    @Test
+    public void testInterestFreeLoan() {
+        AmortizationTableModel model = new AmortizationTableModel();
+        model.setLoan(1200, 0.0, 12, START);
+        assertEquals(100.0, (Double) model.getValueAt(0, AmortizationTableModel.PRINCIPAL), DELTA);
+        assertEquals(0.0, (Double) model.getValueAt(11, AmortizationTableModel.REMAINING_BALANCE), DELTA);
+    }
+    
+    @Test
+    public void testSetLoanNotifiesTable() {
+        AmortizationTableModel model = new AmortizationTableModel();
+        int[] events = new int[1];
+        model.addTableModelListener(e -> {
+            assertEquals(TableModelEvent.UPDATE, e.getType());
+            events[0]++;
+        });
+        
+        model.setLoan(10000, 0.05, 36, START);
+        model.clear();
+        assertEquals(2, events[0]);
+        assertEquals(0, model.getRowCount());
+    }
+    
+    @Test
+    public void testRenderers() {
+        JTable table = new JTable();
+        JLabel currency = (JLabel) new AmortizationTableModel.CurrencyRenderer()
+                .getTableCellRendererComponent(table, 1234.5, false, false, 0, 2);
+        assertEquals("$1,234.50", currency.getText());
+        
+        JLabel residue = (JLabel) new AmortizationTableModel.CurrencyRenderer()
+                .getTableCellRendererComponent(table, -1e-9, false, false, 0, 5);
+        assertEquals("$0.00", residue.getText());
+        
+        JLabel date = (JLabel) new AmortizationTableModel.DateRenderer()
+                .getTableCellRendererComponent(table, START, false, false, 0, 1);
+        assertEquals("01/31/2024", date.getText());
+    }
+}
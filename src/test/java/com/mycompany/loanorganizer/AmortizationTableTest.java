@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Unit tests for the AmortizationTable class
+ * 
+ * @author Loan Organizer Team
+ */
+public class AmortizationTableTest {
+    private static final double DELTA = 1e-9;
+    
+    @Test
+    public void testCalculatorTableMatchesSchedule() {
+        LocalDate startDate = LocalDate.of(2025, 1, 31);
+        List<PaymentDetails> schedule = LoanCalculator.generateAmortizationSchedule(
+            250000, 0.045, 360, startDate);
+        AmortizationTable table = LoanCalculator.generateAmortizationTable(
+            250000, 0.045, 360, startDate);
+        
+        assertEquals(schedule.size(), table.size());
+        for (int i = 0; i < table.size(); i++) {
+            PaymentDetails expected = schedule.get(i);
+            assertEquals(expected.getMonth(), table.getMonth(i));
+            assertEquals(expected.getPaymentDate(), table.getPaymentDate(i));
+            assertEquals(expected.getMonthlyPayment(), table.getMonthlyPayment(i), DELTA);
+            assertEquals(expected.getPrincipalPayment(), table.getPrincipalPayment(i), DELTA);
+            assertEquals(expected.getInterestPayment(), table.getInterestPayment(i), DELTA);
+            assertEquals(expected.getRemainingBalance(), table.getRemainingBalance(i), DELTA);
+        }
+    }
+    
+    @Test
+    public void testLoanAccountTableMatchesSchedule() {
+        LoanAccount loan = new LoanAccount("Test Loan", "Personal", 10000, 0.05, 60,
+                LocalDate.of(2024, 2, 29));
+        List<PaymentDetails> schedule = loan.generateAmortizationSchedule();
+        AmortizationTable table = loan.generateAmortizationTable();
+        
+        assertEquals(60, table.size());
+        for (int i = 0; i < table.size(); i++) {
+            assertEquals(schedule.get(i).getPaymentDate(), table.getPaymentDate(i));
+            assertEquals(schedule.get(i).getRemainingBalance(), table.getRemainingBalance(i), DELTA);
+        }
+        assertEquals(loan.calculateTotalInterest(), table.getTotalInterest(), 0.01);
+    }
+    
+    @Test
+    public void testRowView() {
+        AmortizationTable table = LoanCalculator.generateAmortizationTable(
+            10000, 0.05, 36, LocalDate.of(2025, 6, 7));
+        
+        AmortizationTable.Row row = table.row();
+        assertSame(row, row.at(0));
+        assertEquals(1, row.getMonth());
+        assertEquals(41.67, row.getInterestPayment(), 0.01);
+        assertEquals(LocalDate.of(2025, 7, 7), row.getPaymentDate());
+        
+        row.at(35);
+        assertEquals(36, row.getMonth());
+        assertEquals(0.0, row.getRemainingBalance(), 0.01);
+    }
+    
+    @Test
+    public void testListView() {
+        AmortizationTable table = LoanCalculator.generateAmortizationTable(
+            10000, 0.05, 36, LocalDate.of(2025, 6, 7));
+        List<PaymentDetails> list = table.asList();
+        
+        assertEquals(36, list.size());
+        assertEquals(299.71, list.get(0).getMonthlyPayment(), 0.01);
+        assertEquals(table.getRemainingBalance(10), list.get(10).getRemainingBalance(), DELTA);
+    }
+    
+    @Test
+    public void testEpochDayPlusMonths() {
+        LocalDate[] starts = {
+            LocalDate.of(2025, 1, 31), LocalDate.of(2024, 2, 29),
+            LocalDate.of(1999, 12, 15), LocalDate.of(2100, 3, 30), LocalDate.of(-5, 11, 30)
+        };
+        for (LocalDate start : starts) {
+            for (int months = 0; months <= 600; months++) {
+                LocalDate expected = start.plusMonths(months);
+                assertEquals(expected.toEpochDay(),
+                        AmortizationTable.epochDayPlusMonths(
+                            start.getYear(), start.getMonthValue(), start.getDayOfMonth(), months));
+                
+                long date = AmortizationTable.datePlusMonths(
+                        start.getYear(), start.getMonthValue(), start.getDayOfMonth(), months);
+                assertEquals(expected.getYear(), AmortizationTable.packedYear(date));
+                assertEquals(expected.getMonthValue(), AmortizationTable.packedMonth(date));
+                assertEquals(expected.getDayOfMonth(), AmortizationTable.packedDay(date));
+            }
+        }
+    }
+}
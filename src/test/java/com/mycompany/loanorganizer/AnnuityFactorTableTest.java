@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for the AnnuityFactorTable class
+ * 
+ * @author Loan Organizer Team
+ */
+public class AnnuityFactorTableTest {
+    private static final double DELTA = 0.01;
+    
+    @After
+    public void tearDown() {
+        LoanCalculator.setAnnuityFactorTable(null);
+    }
+    
+    @Test
+    public void testGridDimensions() {
+        AnnuityFactorTable table = new AnnuityFactorTable(0, 2000, 25, 600);
+        assertEquals(81, table.getRateCount());
+        assertEquals(600, table.getMaxTermInMonths());
+    }
+    
+    @Test
+    public void testLookupsMatchExactFormula() {
+        AnnuityFactorTable table = new AnnuityFactorTable(100, 1500, 1, 600);
+        double[] rates = {0.01, 0.045, 0.0525, 0.0399, 0.15, 0.0451234, 0.20};
+        int[] terms = {1, 36, 60, 360, 600, 601};
+        
+        for (double rate : rates) {
+            for (int term : terms) {
+                double exact = LoanCalculator.calculatePaymentFactor(rate, term);
+                assertEquals(exact, table.getPaymentFactor(rate, term), 0.0);
+            }
+        }
+    }
+    
+    @Test
+    public void testZeroRate() {
+        AnnuityFactorTable table = new AnnuityFactorTable(0, 1000, 25, 360);
+        assertEquals(277.78, table.calculateMonthlyPayment(10000, 0, 36), DELTA);
+        assertEquals(12000, table.calculateAffordableLoanAmount(1000, 0, 12), DELTA);
+    }
+    
+    @Test
+    public void testZeroRateMatchesCalculatorExactly() {
+        AnnuityFactorTable table = new AnnuityFactorTable(0, 1000, 25, 360);
+        for (int term = 1; term <= 360; term++) {
+            for (int i = 0; i < 10; i++) {
+                double principal = 1000 + i * 1234.57;
+                assertEquals(principal / term, table.calculateMonthlyPayment(principal, 0, term), 0.0);
+                assertEquals(principal * term, table.calculateAffordableLoanAmount(principal, 0, term), 0.0);
+            }
+        }
+        
+        LoanCalculator.setAnnuityFactorTable(table);
+        double[] out = new double[1];
+        LoanCalculator.calculateMonthlyPayments(new double[] {10000}, new double[] {0}, new int[] {36}, out);
+        assertEquals(10000.0 / 36, out[0], 0.0);
+        assertEquals(10000.0 / 36, LoanCalculator.calculateMonthlyPayment(10000, 0, 36), 0.0);
+    }
+    
+    @Test
+    public void testInstalledTableIsUsedByCalculatorAndLoans() {
+        double paymentWithoutTable = LoanCalculator.calculateMonthlyPayment(10000, 0.05, 36);
+        double affordableWithoutTable = LoanCalculator.calculateAffordableLoanAmount(300, 0.05, 36);
+        LoanAccount loan = new LoanAccount("Test Loan", "Personal", 10000, 0.05, 60);
+        double loanPaymentWithoutTable = loan.calculateMonthlyPayment(60);
+        
+        LoanCalculator.setAnnuityFactorTable(new AnnuityFactorTable(0, 2000, 1, 600));
+        assertNotNull(LoanCalculator.getAnnuityFactorTable());
+        
+        assertEquals(paymentWithoutTable, LoanCalculator.calculateMonthlyPayment(10000, 0.05, 36), 1e-9);
+        assertEquals(affordableWithoutTable, LoanCalculator.calculateAffordableLoanAmount(300, 0.05, 36), 1e-9);
+        assertEquals(loanPaymentWithoutTable, loan.calculateMonthlyPayment(60), 1e-9);
+        
+        double[] out = new double[1];
+        LoanCalculator.calculateMonthlyPayments(new double[] {10000}, new double[] {0.05}, new int[] {36}, out);
+        assertEquals(paymentWithoutTable, out[0], 1e-9);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidStep() {
+        new AnnuityFactorTable(0, 1000, 0, 360);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+
+/**
+ * Unit tests for the CentsLoanCalculator class
+ * 
+ * @author Loan Organizer Team
+ */
+public class CentsLoanCalculatorTest {
+    
+    @Test
+    public void testRoundHalfEven() {
+        assertEquals(2, CentsLoanCalculator.roundHalfEven(5, 2));   // 2.5 -> 2
+        assertEquals(4, CentsLoanCalculator.roundHalfEven(7, 2));   // 3.5 -> 4
+        assertEquals(3, CentsLoanCalculator.roundHalfEven(13, 4));  // 3.25 -> 3
+        assertEquals(4, CentsLoanCalculator.roundHalfEven(15, 4));  // 3.75 -> 4
+        assertEquals(0, CentsLoanCalculator.roundHalfEven(0, 7));
+    }
+    
+    @Test
+    public void testCentsConversion() {
+        assertEquals(123456, CentsLoanCalculator.toCents(1234.56));
+        assertEquals(1234.56, CentsLoanCalculator.toDollars(123456), 0.0);
+    }
+    
+    @Test
+    public void testMonthlyPayment() {
+        // $10,000 at 5% for 3 years is $299.71
+        assertEquals(29971, CentsLoanCalculator.calculateMonthlyPaymentCents(1000000, 0.05, 36));
+        
+        // Interest-free loans split the principal evenly
+        assertEquals(27778, CentsLoanCalculator.calculateMonthlyPaymentCents(1000000, 0, 36));
+    }
+    
+    @Test
+    public void testScheduleIsPennyExact() {
+        long[] principals = {1000000, 25000000, 2500000, 99};
+        double[] rates = {0.05, 0.045, 0.0399, 0.18};
+        int[] terms = {36, 360, 600, 12};
+        
+        for (int i = 0; i < principals.length; i++) {
+            CentsAmortizationTable table = CentsLoanCalculator.generateAmortizationTable(
+                principals[i], rates[i], terms[i], LocalDate.of(2025, 1, 31));
+            
+            assertEquals(terms[i], table.size());
+            long principalPaid = 0;
+            long balance = principals[i];
+            for (int row = 0; row < table.size(); row++) {
+                assertEquals(table.getMonthlyPaymentCents(row),
+                        table.getPrincipalPaymentCents(row) + table.getInterestPaymentCents(row));
+                balance -= table.getPrincipalPaymentCents(row);
+                assertEquals(balance, table.getRemainingBalanceCents(row));
+                principalPaid += table.getPrincipalPaymentCents(row);
+            }
+            assertEquals(principals[i], principalPaid);
+            assertEquals(0, table.getRemainingBalanceCents(table.size() - 1));
+            assertEquals(table.getTotalInterestCents(),
+                    CentsLoanCalculator.calculateTotalInterestCents(principals[i], rates[i], terms[i]));
+        }
+    }
+    
+    @Test
+    public void testScheduleTracksDoubleSchedule() {
+        CentsAmortizationTable cents = CentsLoanCalculator.generateAmortizationTable(
+            25000000, 0.045, 360, LocalDate.of(2025, 1, 1));
+        AmortizationTable dollars = LoanCalculator.generateAmortizationTable(
+            250000, 0.045, 360, LocalDate.of(2025, 1, 1));
+        
+        // First month interest: 250,000 * 0.045 / 12 = 937.50
+        assertEquals(93750, cents.getInterestPaymentCents(0));
+        assertEquals(dollars.getPaymentDate(359), cents.getPaymentDate(359));
+        
+        // Per-period rounding keeps the cents schedule within a few dollars of the double one
+        assertEquals(dollars.getTotalInterest(), CentsLoanCalculator.toDollars(cents.getTotalInterestCents()), 5.0);
+        
+        AmortizationTable converted = cents.toAmortizationTable();
+        assertEquals(937.50, converted.getInterestPayment(0), 0.0);
+        assertEquals(0.0, converted.getRemainingBalance(359), 0.0);
+    }
+}
@@ -5,7 +5,15 @@
 package com.mycompany.loanorganizer;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -77,6 +85,23 @@ public class LoanAccountTest {
         assertEquals(0.0, lastPayment.getRemainingBalance(), 0.01);
     }
     
+    @Test
+    public void testAmortizationStream() {
+        List<PaymentDetails> schedule = testLoan.generateAmortizationSchedule();
+        List<PaymentDetails> streamed = testLoan.amortizationStream().collect(Collectors.toList());
+        
+        assertEquals(schedule.size(), streamed.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            assertEquals(schedule.get(i).getPaymentDate(), streamed.get(i).getPaymentDate());
+            assertEquals(schedule.get(i).getPrincipalPayment(), streamed.get(i).getPrincipalPayment(), 1e-9);
+            assertEquals(schedule.get(i).getRemainingBalance(), streamed.get(i).getRemainingBalance(), 1e-9);
+        }
+        
+        double parallelInterest = testLoan.amortizationStream().parallel()
+                .mapToDouble(PaymentDetails::getInterestPayment).sum();
+        assertEquals(testLoan.calculateTotalInterest(), parallelInterest, DELTA);
+    }
+    
     @Test
     public void testRecordPayment() {
         // Record a payment
@@ -124,6 +149,141 @@ public class LoanAccountTest {
         assertEquals(0.0, balanceAfterMaturity, DELTA);
     }
     
+    @Test
+    public void testCalculateRemainingBalances() {
+        LocalDate start = testLoan.getStartDate();
+        List<LocalDate> dates = Arrays.asList(
+                start.minusMonths(1), start.plusMonths(12), start.plusMonths(59), start.plusMonths(100));
+        
+        double[] balances = testLoan.calculateRemainingBalances(dates);
+        
+        assertEquals(4, balances.length);
+        for (int i = 0; i < balances.length; i++) {
+            assertEquals(testLoan.calculateRemainingBalance(dates.get(i)), balances[i], DELTA);
+        }
+        assertEquals(10000.0, balances[0], DELTA);
+        assertEquals(0.0, balances[3], DELTA);
+        
+        // One payment left: the balance is roughly one monthly payment less its interest
+        assertEquals(188.71 / (1 + 0.05 / 12), balances[2], DELTA);
+    }
+    
+    @Test
+    public void testCalculateRemainingBalancesMatchSingleDates() {
+        LocalDate start = LocalDate.of(2024, 1, 31);
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = -40; day <= 400 * 31; day += 13) {
+            dates.add(start.plusDays(day));
+        }
+        LoanAccount mortgage = new LoanAccount("Mortgage", "Mortgage", 300000, 0.065, 360, start);
+        LoanAccount interestFree = new LoanAccount("Promo", "Personal", 6000, 0.0, 24, start);
+        
+        for (LoanAccount loan : new LoanAccount[] {mortgage, interestFree}) {
+            double[] balances = loan.calculateRemainingBalances(dates);
+            for (int i = 0; i < balances.length; i++) {
+                assertEquals(loan.calculateRemainingBalance(dates.get(i)), balances[i], 0.0);
+            }
+            
+            assertTrue(loan.recordPayment(500.0, start.plusDays(20), null));
+            loan.enableLedger();
+            balances = loan.calculateRemainingBalances(dates);
+            for (int i = 0; i < balances.length; i++) {
+                assertEquals(loan.calculateRemainingBalance(dates.get(i)), balances[i], 0.0);
+            }
+        }
+    }
+    
+    @Test
+    public void testLedgerMode() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LoanAccount loan = new LoanAccount("Ledger Loan", "Personal", 10000, 0.0365, 60, start);
+        
+        // Payments recorded before ledger mode are replayed in date order
+        assertTrue(loan.recordPayment(100.0, start.plusDays(40), "Second"));
+        assertTrue(loan.recordPayment(100.0, start.plusDays(10), "First"));
+        
+        PaymentLedger ledger = loan.enableLedger();
+        assertSame(ledger, loan.enableLedger());
+        assertEquals(2, ledger.getPaymentCount());
+        
+        // 10 days at 0.01% a day is $10 of interest, so $90 goes to principal
+        assertEquals(9910.0, loan.calculateRemainingBalance(start.plusDays(10)), DELTA);
+        assertEquals(9910.0 - (100.0 - 9910.0 * 0.0001 * 30), loan.calculateRemainingBalance(start.plusDays(40)), DELTA);
+        
+        // Backdated payments are rejected in ledger mode
+        assertFalse(loan.recordPayment(100.0, start.plusDays(20), "Late entry"));
+        assertEquals(2, loan.getPaymentHistory().size());
+        
+        assertTrue(loan.recordPayment(5000.0, start.plusDays(50), "Lump sum"));
+        assertEquals(ledger.getPrincipalBalance(), loan.calculateRemainingBalance(start.plusDays(50)), DELTA);
+        assertEquals(10000.0, loan.calculateRemainingBalance(start.minusDays(1)), DELTA);
+    }
+    
+    @Test
+    public void testLedgerModeRejectsPaymentBeforeStart() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LoanAccount loan = new LoanAccount("Ledger Loan", "Personal", 10000, 0.0365, 60, start);
+        assertTrue(loan.recordPayment(100.0, start.minusDays(5), "Deposit"));
+        
+        try {
+            loan.enableLedger();
+            fail("Expected a payment the ledger cannot hold to be rejected");
+        } catch (IllegalStateException e) {
+            assertNull(loan.getLedger());
+            assertEquals(1, loan.getPaymentCount());
+        }
+    }
+    
+    @Test
+    public void testConcurrentPayments() throws InterruptedException {
+        int threads = 8;
+        int paymentsPerThread = 2000;
+        LoanAccount[] loans = {
+            new LoanAccount("Loan A", "Personal", 10000, 0.05, 60),
+            new LoanAccount("Loan B", "Personal", 20000, 0.06, 60)
+        };
+        
+        // A reader keeps taking snapshots while the writers post
+        AtomicBoolean posting = new AtomicBoolean(true);
+        AtomicBoolean snapshotsConsistent = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            while (posting.get()) {
+                List<Payment> snapshot = loans[0].getPaymentHistory();
+                if (snapshot.size() < lastSize || snapshot.contains(null)) {
+                    snapshotsConsistent.set(false);
+                }
+                lastSize = snapshot.size();
+            }
+        });
+        reader.start();
+        
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            writers.execute(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < paymentsPerThread; i++) {
+                    loans[i % 2].recordPayment(1.0, LocalDate.now(), "Concurrent payment");
+                }
+            });
+        }
+        ready.countDown();
+        writers.shutdown();
+        assertTrue(writers.awaitTermination(30, TimeUnit.SECONDS));
+        posting.set(false);
+        reader.join();
+        
+        assertTrue(snapshotsConsistent.get());
+        assertEquals(threads * paymentsPerThread / 2, loans[0].getPaymentCount());
+        assertEquals(threads * paymentsPerThread / 2, loans[1].getPaymentHistory().size());
+    }
+    
     @Test
     public void testCalculateSavingsWithExtraPayments() {
         // Test savings with $50 extra per month
@@ -138,4 +298,68 @@ public class LoanAccountTest {
         assertTrue(savings > 200.0);
         assertTrue(savings < 400.0);
     }
+    
+    @Test
+    public void testExtraPaymentSavingsMatchSimulation() {
+        LoanAccount mortgage = new LoanAccount("Mortgage", "Mortgage", 300000, 0.065, 360, LocalDate.of(2024, 1, 1));
+        LoanAccount interestFree = new LoanAccount("Promo", "Personal", 6000, 0.0, 24, LocalDate.of(2024, 1, 1));
+        double[] extras = {-20, 0, 0.01, 25, 50, 100, 333.33, 1000, 5000, 400000};
+        
+        for (LoanAccount loan : new LoanAccount[] {testLoan, mortgage, interestFree}) {
+            List<ExtraPaymentSavings> results = loan.calculateExtraPaymentSavings(extras);
+            assertEquals(extras.length, results.size());
+            for (int i = 0; i < extras.length; i++) {
+                double[] expected = simulateExtraPayments(loan, extras[i]);
+                ExtraPaymentSavings result = results.get(i);
+                assertEquals(extras[i], result.getExtraPayment(), DELTA);
+                assertEquals(expected[0], result.getInterestSaved(), DELTA);
+                assertEquals((int) expected[1], result.getPayoffMonths());
+                assertEquals(loan.getTermInMonths() - (int) expected[1], result.getMonthsSaved());
+                assertEquals(loan.getStartDate().plusMonths((int) expected[1]), result.getPayoffDate());
+            }
+        }
+        
+        ExtraPaymentSavings single = mortgage.calculateExtraPaymentSavings(200);
+        assertEquals(single.getInterestSaved(), mortgage.calculateSavingsWithExtraPayments(200), DELTA);
+        assertTrue(single.getMonthsSaved() > 60);
+    }
+    
+    @Test
+    public void testNegativeExtraPaymentOnInterestFreeLoanRunsFullTerm() {
+        // The standard payment is 250, so these leave nothing or less than nothing to pay
+        LoanAccount interestFree = new LoanAccount("Promo", "Personal", 6000, 0.0, 24, LocalDate.of(2024, 1, 1));
+        for (ExtraPaymentSavings result : interestFree.calculateExtraPaymentSavings(new double[] {-250, -300, -1e9})) {
+            assertEquals(24, result.getPayoffMonths());
+            assertEquals(0, result.getMonthsSaved());
+            assertEquals(0.0, result.getInterestSaved(), DELTA);
+            assertEquals(LocalDate.of(2026, 1, 1), result.getPayoffDate());
+        }
+    }
+    
+    /**
+     * Month-by-month reference for the extra payment savings
+     * 
+     * @return The interest saved and the number of payments made
+     */
+    private static double[] simulateExtraPayments(LoanAccount loan, double extraPayment) {
+        int term = loan.getTermInMonths();
+        double monthlyPayment = loan.calculateMonthlyPayment(term);
+        double payment = monthlyPayment + extraPayment;
+        double monthlyRate = loan.getAnnualInterestRate() / 12;
+        double balance = loan.getPrincipal();
+        double interest = 0;
+        int months = 0;
+        while (balance > 0 && months < term) {
+            double interestPayment = balance * monthlyRate;
+            if (payment - interestPayment >= balance) {
+                interest += interestPayment;
+                balance = 0;
+            } else {
+                balance -= payment - interestPayment;
+                interest += interestPayment;
+            }
+            months++;
+        }
+        return new double[] {monthlyPayment * term - loan.getPrincipal() - interest, months};
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Unit tests for the LoanBookStore class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanBookStoreTest {
+    
+    private static final double DELTA = 0.001;
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testAddAndView() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("loans.book");
+        LocalDate start = LocalDate.of(2024, 1, 15);
+        
+        LoanAccount personal = new LoanAccount("Personal", "Personal", 10000, 0.05, 36, start);
+        AutoLoan auto = new AutoLoan("Car", 25000, 0.045, 60, "Toyota", "Camry", 2023,
+                "4T1BF1FK5CU123456", 28000, true);
+        auto.setStartDate(start);
+        MortgageLoan mortgage = new MortgageLoan("Home", 300000, 0.0375, 360,
+                "123 Main St, Anytown, USA", 375000, 75000, true, 350);
+        mortgage.setStartDate(start);
+        mortgage.setActive(false);
+        
+        try (LoanBookStore store = LoanBookStore.create(path, 10, 1024)) {
+            assertEquals(0, store.add(personal));
+            assertEquals(1, store.add(auto));
+            assertEquals(2, store.add(mortgage));
+            assertEquals(3, store.size());
+            
+            LoanBookStore.LoanView view = store.view();
+            
+            view.at(0);
+            assertFalse(view.isAutoLoan());
+            assertFalse(view.isMortgageLoan());
+            assertEquals("Personal", view.getLoanName());
+            assertEquals(10000, view.getPrincipal(), DELTA);
+            assertEquals(0.05, view.getAnnualInterestRate(), DELTA);
+            assertEquals(36, view.getTermInMonths());
+            assertEquals(start, view.getStartDate());
+            assertEquals(personal.getMaturityDate(), view.getMaturityDate());
+            assertTrue(view.isActive());
+            assertNull(view.getVin());
+            assertEquals(personal.calculateMonthlyPayment(36), view.calculateMonthlyPayment(36), DELTA);
+            assertEquals(personal.calculateTotalInterest(), view.calculateTotalInterest(), DELTA);
+            LocalDate asOf = start.plusMonths(12);
+            assertEquals(personal.calculateRemainingBalance(asOf), view.calculateRemainingBalance(asOf), DELTA);
+            
+            view.at(1);
+            assertTrue(view.isAutoLoan());
+            assertEquals("Car", view.getLoanName());
+            assertEquals("Auto", view.getLoanType());
+            assertEquals("Toyota", view.getVehicleMake());
+            assertEquals("Camry", view.getVehicleModel());
+            assertEquals("4T1BF1FK5CU123456", view.getVin());
+            assertEquals(2023, view.getVehicleYear());
+            assertEquals(28000, view.getVehicleValue(), DELTA);
+            assertTrue(view.isNew());
+            assertNull(view.getPropertyAddress());
+            
+            view.at(2);
+            assertTrue(view.isMortgageLoan());
+            assertEquals("123 Main St, Anytown, USA", view.getPropertyAddress());
+            assertEquals(375000, view.getPropertyValue(), DELTA);
+            assertEquals(75000, view.getDownPayment(), DELTA);
+            assertTrue(view.isEscrowIncluded());
+            assertEquals(350, view.getEscrowAmount(), DELTA);
+            assertFalse(view.isActive());
+            assertEquals(0, view.getVehicleValue(), DELTA);
+        }
+    }
+    
+    @Test
+    public void testReopen() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("loans.book");
+        
+        try (LoanBookStore store = LoanBookStore.create(path, 4, 256)) {
+            store.add(new AutoLoan("Café Loan", 18000, 0.06, 48, "Škoda", "Octavia", 2022, null, 20000, false));
+        }
+        
+        try (LoanBookStore store = LoanBookStore.open(path)) {
+            assertEquals(1, store.size());
+            assertEquals(4, store.getRecordCapacity());
+            
+            LoanAccount loan = store.view().at(0).toLoanAccount();
+            assertTrue(loan instanceof AutoLoan);
+            AutoLoan auto = (AutoLoan) loan;
+            assertEquals("Café Loan", auto.getLoanName());
+            assertEquals("Škoda", auto.getVehicleMake());
+            assertNull(auto.getVin());
+            assertEquals(18000, auto.getPrincipal(), DELTA);
+            assertEquals(48, auto.getTermInMonths());
+            assertFalse(auto.isNew());
+            
+            // New loans are appended after the existing ones
+            assertEquals(1, store.add(new LoanAccount("Second", "Personal", 5000, 0.07, 24)));
+            assertEquals("Second", store.view().at(1).getLoanName());
+            assertEquals("Café Loan", store.view().at(0).getLoanName());
+        }
+    }
+    
+    @Test
+    public void testCapacity() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("loans.book");
+        
+        try (LoanBookStore store = LoanBookStore.create(path, 1, 64)) {
+            store.add(new LoanAccount("First", "Personal", 5000, 0.07, 24));
+            try {
+                store.add(new LoanAccount("Second", "Personal", 5000, 0.07, 24));
+                fail("Expected IllegalStateException for a full store");
+            } catch (IllegalStateException e) {
+                assertTrue(e.getMessage().contains("full"));
+            }
+            
+            try {
+                store.view().at(1);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException e) {
+                // Expected
+            }
+        }
+        
+        try (LoanBookStore store = LoanBookStore.create(path.resolveSibling("small.book"), 2, 16)) {
+            try {
+                store.add(new LoanAccount("A name longer than the string region", "Personal", 5000, 0.07, 24));
+                fail("Expected IllegalStateException for a full string region");
+            } catch (IllegalStateException e) {
+                assertEquals(0, store.size());
+            }
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("not-a-book.txt");
+        Files.write(path, new byte[128]);
+        LoanBookStore.open(path);
+    }
+    
+    @Test
+    public void testOpenRejectsTruncatedFiles() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("loans.book");
+        try (LoanBookStore store = LoanBookStore.create(path, 4, 256)) {
+            store.add(new LoanAccount("First", "Personal", 5000, 0.07, 24));
+        }
+        long size = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 1);
+        }
+        
+        try {
+            LoanBookStore.open(path);
+            fail("Expected IOException for a file shorter than its header says");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("corrupt"));
+        }
+        // The file must not have been grown back by mapping it
+        assertEquals(size - 1, Files.size(path));
+    }
+    
+    @Test
+    public void testViewIsALoan() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("loans.book");
+        LoanAccount account = new LoanAccount("Personal", "Personal", 10000, 0.05, 36, LocalDate.of(2024, 1, 15));
+        
+        try (LoanBookStore store = LoanBookStore.create(path, 1, 64)) {
+            store.add(account);
+            Loan view = store.view().at(0);
+            LocalDate asOf = LocalDate.of(2025, 3, 1);
+            for (Loan loan : new Loan[] {account, view}) {
+                assertEquals("Personal", loan.getLoanName());
+                assertEquals(36, loan.getTermInMonths());
+                assertEquals(account.getMaturityDate(), loan.getMaturityDate());
+                assertEquals(account.calculateTotalInterest(), loan.calculateTotalInterest(), DELTA);
+                assertEquals(account.calculateRemainingBalance(asOf), loan.calculateRemainingBalance(asOf), DELTA);
+            }
+        }
+    }
+}
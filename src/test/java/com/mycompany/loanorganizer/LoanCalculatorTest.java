@@ -8,6 +8,7 @@ import static org.junit.Assert.*;
 import org.junit.Test;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Unit tests for the LoanCalculator utility class
@@ -46,6 +47,53 @@ public class LoanCalculatorTest {
         assertEquals(789.56, totalInterest, 1.0);
     }
     
+    @Test
+    public void testBatchCalculations() {
+        double[] principals = {10000, 250000, 12000, 5000};
+        double[] rates = {0.05, 0.045, 0, 0.01};
+        int[] terms = {36, 360, 12, 72};
+        double[] out = new double[4];
+        
+        LoanCalculator.calculateMonthlyPayments(principals, rates, terms, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(LoanCalculator.calculateMonthlyPayment(principals[i], rates[i], terms[i]), out[i], 1e-9);
+        }
+        assertEquals(1000.0, out[2], DELTA);
+        
+        LoanCalculator.calculateTotalLoanCosts(principals, rates, terms, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(LoanCalculator.calculateTotalLoanCost(principals[i], rates[i], terms[i]), out[i], 1e-6);
+        }
+        
+        LoanCalculator.calculateTotalInterests(principals, rates, terms, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(LoanCalculator.calculateTotalInterest(principals[i], rates[i], terms[i]), out[i], 1e-6);
+        }
+    }
+    
+    @Test
+    public void testBatchMatchesScalarForInterestFreeLoans() {
+        double[] principals = new double[600];
+        double[] rates = new double[600];
+        int[] terms = new int[600];
+        for (int i = 0; i < principals.length; i++) {
+            principals[i] = 1000 + i * 37.13;
+            terms[i] = i + 1;
+        }
+        double[] out = new double[600];
+        
+        LoanCalculator.calculateMonthlyPayments(principals, rates, terms, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(LoanCalculator.calculateMonthlyPayment(principals[i], 0, terms[i]), out[i], 0.0);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchCalculationsRejectMismatchedArrays() {
+        LoanCalculator.calculateMonthlyPayments(
+            new double[2], new double[2], new int[3], new double[2]);
+    }
+    
     @Test
     public void testGenerateAmortizationSchedule() {
         List<PaymentDetails> schedule = LoanCalculator.generateAmortizationSchedule(
@@ -66,6 +114,61 @@ public class LoanCalculatorTest {
         assertEquals(0.0, lastPayment.getRemainingBalance(), DELTA);
     }
     
+    @Test
+    public void testAmortizationStream() {
+        LocalDate startDate = LocalDate.of(2025, 1, 31);
+        List<PaymentDetails> schedule = LoanCalculator.generateAmortizationSchedule(
+            250000, 0.045, 360, startDate);
+        
+        List<PaymentDetails> sequential = LoanCalculator.amortizationStream(250000, 0.045, 360, startDate)
+            .collect(Collectors.toList());
+        List<PaymentDetails> parallel = LoanCalculator.amortizationStream(250000, 0.045, 360, startDate)
+            .parallel()
+            .collect(Collectors.toList());
+        
+        assertEquals(360, sequential.size());
+        assertEquals(360, parallel.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            PaymentDetails expected = schedule.get(i);
+            assertEquals(expected.getMonth(), sequential.get(i).getMonth());
+            assertEquals(expected.getPaymentDate(), sequential.get(i).getPaymentDate());
+            assertEquals(expected.getRemainingBalance(), sequential.get(i).getRemainingBalance(), 1e-9);
+            
+            // Parallel chunks start from the closed-form balance
+            assertEquals(expected.getMonth(), parallel.get(i).getMonth());
+            assertEquals(expected.getRemainingBalance(), parallel.get(i).getRemainingBalance(), 1e-6);
+        }
+        
+        // Early termination only computes the rows that are read
+        List<PaymentDetails> firstThree = LoanCalculator.amortizationStream(10000, 0.05, 36, startDate)
+            .limit(3)
+            .collect(Collectors.toList());
+        assertEquals(3, firstThree.size());
+        assertEquals(41.67, firstThree.get(0).getInterestPayment(), 0.01);
+    }
+    
+    @Test
+    public void testCalculateRemainingBalanceMatchesSchedule() {
+        int[] terms = {12, 60, 360, 600};
+        for (int term : terms) {
+            List<PaymentDetails> schedule = LoanCalculator.generateAmortizationSchedule(
+                250000, 0.045, term, LocalDate.of(2025, 1, 1));
+            
+            for (int month = 1; month < term; month++) {
+                double expected = schedule.get(month - 1).getRemainingBalance();
+                double actual = LoanCalculator.calculateRemainingBalance(250000, 0.045, term, month);
+                assertEquals(expected, actual, 1e-6);
+            }
+        }
+        
+        // Before the first payment and after the last payment
+        assertEquals(10000, LoanCalculator.calculateRemainingBalance(10000, 0.05, 36, 0), DELTA);
+        assertEquals(0.0, LoanCalculator.calculateRemainingBalance(10000, 0.05, 36, 36), DELTA);
+        
+        // Interest-free loans pay down linearly
+        assertEquals(5000, LoanCalculator.calculateRemainingBalance(12000, 0, 12, 7), DELTA);
+    }
+    
     @Test
     public void testCalculateMonthsUntilPayoff() {
         // $10,000 loan at 5% with $299.71 monthly payment should take 36 months
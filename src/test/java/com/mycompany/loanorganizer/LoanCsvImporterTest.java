@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Unit tests for the LoanCsvImporter class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanCsvImporterTest {
+    private static final double DELTA = 1e-9;
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testReadsEachLoanType() throws IOException {
+        Path file = write(LoanCsvImporter.HEADER + "\n"
+                + "Personal,Vacation,5000,0.0899,24,2024-03-15,,,,,,,,,,,\n"
+                + "Auto,Car Loan,25000.50,0.0599,60,2025-01-01,Toyota,Camry,2024,VIN123,30000,true,,,,,\r\n"
+                + "Mortgage,\"Home, Sweet \"\"Home\"\"\",300000,0.045,360,2023-06-30,,,,,,,"
+                + "\"1 Main St, Springfield\",400000,80000,true,450.25\n"
+                + "\n"
+                + "Student,Tuition,12000,-0.0,120");
+        
+        List<LoanAccount> loans = new LoanCsvImporter().readLoans(file);
+        assertEquals(4, loans.size());
+        
+        LoanAccount personal = loans.get(0);
+        assertEquals("Vacation", personal.getLoanName());
+        assertEquals("Personal", personal.getLoanType());
+        assertEquals(5000, personal.getPrincipal(), DELTA);
+        assertEquals(0.0899, personal.getAnnualInterestRate(), 0);
+        assertEquals(24, personal.getTermInMonths());
+        assertEquals(LocalDate.of(2024, 3, 15), personal.getStartDate());
+        
+        AutoLoan auto = (AutoLoan) loans.get(1);
+        assertEquals(25000.50, auto.getPrincipal(), 0);
+        assertEquals("Camry", auto.getVehicleModel());
+        assertEquals(2024, auto.getVehicleYear());
+        assertEquals("VIN123", auto.getVin());
+        assertEquals(30000, auto.getVehicleValue(), DELTA);
+        assertTrue(auto.isNew());
+        assertEquals(LocalDate.of(2025, 1, 1), auto.getStartDate());
+        
+        MortgageLoan mortgage = (MortgageLoan) loans.get(2);
+        assertEquals("Home, Sweet \"Home\"", mortgage.getLoanName());
+        assertEquals("1 Main St, Springfield", mortgage.getPropertyAddress());
+        assertEquals(80000, mortgage.getDownPayment(), DELTA);
+        assertTrue(mortgage.isEscrowIncluded());
+        assertEquals(450.25, mortgage.getEscrowAmount(), 0);
+        
+        // Missing trailing columns are empty and an empty start date means today
+        LoanAccount student = loans.get(3);
+        assertEquals("Student", student.getLoanType());
+        assertEquals(LocalDate.now(), student.getStartDate());
+    }
+    
+    @Test
+    public void testNumbersMatchParseDouble() throws IOException {
+        String[] numbers = {"0.0599", "123456.789", "1e3", "0.1", "99999999.99", "12345678901234567890.5",
+            "0.000000000000000000000001", "-42.125", ".5"};
+        StringBuilder csv = new StringBuilder(LoanCsvImporter.HEADER).append('\n');
+        for (String number : numbers) {
+            csv.append("Personal,Loan,").append(number).append(",0.05,12,2025-01-01\n");
+        }
+        
+        List<LoanAccount> loans = new LoanCsvImporter().readLoans(write(csv.toString()));
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(numbers[i], Double.parseDouble(numbers[i]), loans.get(i).getPrincipal(), 0);
+        }
+    }
+    
+    @Test
+    public void testSmallChunksKeepOrder() throws IOException {
+        StringBuilder csv = new StringBuilder(LoanCsvImporter.HEADER).append('\n');
+        for (int i = 0; i < 5000; i++) {
+            csv.append("Personal,Loan ").append(i).append(',').append(1000 + i).append(".25,0.05,")
+                    .append(12 + i % 300).append(",2025-01-01\n");
+        }
+        
+        // Chunks of 200 bytes split most lines across chunk boundaries
+        List<LoanAccount> loans = new LoanCsvImporter(200).readLoans(write(csv.toString()));
+        assertEquals(5000, loans.size());
+        for (int i = 0; i < loans.size(); i++) {
+            assertEquals("Loan " + i, loans.get(i).getLoanName());
+            assertEquals(1000 + i + 0.25, loans.get(i).getPrincipal(), 0);
+            assertEquals(12 + i % 300, loans.get(i).getTermInMonths());
+        }
+    }
+    
+    @Test
+    public void testImportIntoStore() throws IOException {
+        Path file = write(LoanCsvImporter.HEADER + "\n"
+                + "Auto,Car Loan,25000,0.0599,60,2025-01-01,Toyota,Camry,2024,VIN123,30000,false\n"
+                + "Mortgage,Home,300000,0.045,360,2023-06-30,,,,,,,1 Main St,400000,80000,false,0\n");
+        
+        try (LoanBookStore store = LoanBookStore.create(folder.newFile("book.dat").toPath(), 10, 4096)) {
+            assertEquals(2, new LoanCsvImporter().importInto(file, store));
+            LoanBookStore.LoanView view = store.view();
+            assertTrue(view.at(0).isAutoLoan());
+            assertEquals("VIN123", view.getVin());
+            assertTrue(view.at(1).isMortgageLoan());
+            assertEquals("1 Main St", view.getPropertyAddress());
+        }
+    }
+    
+    @Test
+    public void testMalformedRows() throws IOException {
+        String[] rows = {
+            "Personal,Loan,12x,0.05,12,2025-01-01",
+            "Personal,Loan,1000,0.05,twelve,2025-01-01",
+            "Personal,Loan,1000,0.05,12,2025-02-30",
+            "Auto,Car,1000,0.05,12,2025-01-01,Make,Model,2024,VIN,5000,yes",
+            "Personal,\"Loan,1000,0.05,12,2025-01-01",
+            "Personal,Loan,1000,0.05,12,2025-01-01,,,,,,,,,,,,extra"
+        };
+        // The bad row follows the header line and one good 38-byte row
+        String position = "at byte " + (LoanCsvImporter.HEADER.length() + 1 + 38) + ":";
+        for (String row : rows) {
+            Path file = write(LoanCsvImporter.HEADER + "\nPersonal,Fine,1000,0.05,12,2025-01-01\n" + row + "\n");
+            try {
+                new LoanCsvImporter().readLoans(file);
+                fail("Expected an IOException for " + row);
+            } catch (IOException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(position));
+            }
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void testLineLongerThanChunk() throws IOException {
+        new LoanCsvImporter(16).readLoans(write(LoanCsvImporter.HEADER + "\n"));
+    }
+    
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertTrue(new LoanCsvImporter().readLoans(write("")).isEmpty());
+    }
+    
+    private Path write(String csv) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
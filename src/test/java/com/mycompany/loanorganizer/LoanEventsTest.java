@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for the LoanEvents class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanEventsTest {
+    private static final double DELTA = 0.001;
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testEventsAreRecorded() throws Exception {
+        LoanAccount loan = new LoanAccount("Event Loan", "Auto", 20000, 0.06, 48, LocalDate.of(2024, 1, 1));
+        
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.mycompany.loanorganizer.AmortizationSchedule");
+            recording.enable("com.mycompany.loanorganizer.RemainingBalance").withThreshold(Duration.ZERO);
+            recording.enable("com.mycompany.loanorganizer.PaymentPosting");
+            recording.start();
+            
+            loan.generateAmortizationSchedule();
+            loan.calculateRemainingBalance(LocalDate.of(2025, 1, 1));
+            assertTrue(loan.recordPayment(500.0, LocalDate.of(2024, 2, 1), null));
+            assertFalse(loan.recordPayment(-1.0, LocalDate.of(2024, 3, 1), null));
+            
+            recording.stop();
+            Path file = folder.getRoot().toPath().resolve("loan.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+        
+        RecordedEvent schedule = single(events, "com.mycompany.loanorganizer.AmortizationSchedule");
+        assertEquals("Auto", schedule.getString("loanType"));
+        assertEquals(48, schedule.getInt("termInMonths"));
+        assertEquals(48, schedule.getInt("rows"));
+        assertNull(schedule.getStackTrace());
+        
+        RecordedEvent balance = single(events, "com.mycompany.loanorganizer.RemainingBalance");
+        assertEquals(12, balance.getInt("rows"));
+        
+        List<RecordedEvent> payments = named(events, "com.mycompany.loanorganizer.PaymentPosting");
+        assertEquals(2, payments.size());
+        RecordedEvent accepted = payments.get(0).getBoolean("accepted") ? payments.get(0) : payments.get(1);
+        RecordedEvent rejected = accepted == payments.get(0) ? payments.get(1) : payments.get(0);
+        assertEquals(500.0, accepted.getDouble("amount"), DELTA);
+        assertEquals(1, accepted.getInt("rows"));
+        assertFalse(rejected.getBoolean("accepted"));
+        assertEquals("Auto", rejected.getString("loanType"));
+    }
+    
+    @Test
+    public void testNothingRecordedWhenDisabled() throws Exception {
+        LoanAccount loan = new LoanAccount("Event Loan", "Personal", 10000, 0.05, 36);
+        
+        try (Recording recording = new Recording()) {
+            recording.disable("com.mycompany.loanorganizer.AmortizationSchedule");
+            recording.start();
+            loan.generateAmortizationSchedule();
+            recording.stop();
+            Path file = folder.getRoot().toPath().resolve("empty.jfr");
+            recording.dump(file);
+            assertTrue(named(RecordingFile.readAllEvents(file), "com.mycompany.loanorganizer.AmortizationSchedule")
+                    .isEmpty());
+        }
+    }
+    
+    @Test
+    public void testFastBalancesAreBelowThreshold() throws Exception {
+        LoanAccount loan = new LoanAccount("Event Loan", "Personal", 10000, 0.05, 36, LocalDate.of(2024, 1, 1));
+        // Load the classes involved first, so the recorded call is not slowed by it
+        loan.calculateRemainingBalance(LocalDate.of(2025, 1, 1));
+        
+        try (Recording recording = new Recording()) {
+            recording.enable("com.mycompany.loanorganizer.RemainingBalance");
+            recording.start();
+            loan.calculateRemainingBalance(LocalDate.of(2025, 1, 1));
+            recording.stop();
+            Path file = folder.getRoot().toPath().resolve("threshold.jfr");
+            recording.dump(file);
+            assertTrue(named(RecordingFile.readAllEvents(file), "com.mycompany.loanorganizer.RemainingBalance")
+                    .isEmpty());
+        }
+    }
+    
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+    
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matches = named(events, name);
+        assertEquals(1, matches.size());
+        return matches.get(0);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the LoanFormatter class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanFormatterTest {
+    
+    @Test
+    public void testCurrency() {
+        assertEquals("$1,234.56", LoanFormatter.US.appendCurrency(new StringBuilder(), 1234.56).toString());
+        assertEquals("$1234.56", LoanFormatter.US.appendCurrency(new StringBuilder(), 1234.56, false).toString());
+        assertEquals("$1,000,000.00", LoanFormatter.US.appendCurrency(new StringBuilder(), 999999.999).toString());
+        assertEquals("$0.00", LoanFormatter.US.appendCurrency(new StringBuilder(), 0).toString());
+        assertEquals("$-1,234.57", LoanFormatter.US.appendCurrency(new StringBuilder(), -1234.567).toString());
+    }
+    
+    @Test
+    public void testRoundsLikeStringFormat() {
+        // Decimal halves that are stored just below the half still round up, as String.format does
+        double[] values = {1.005, 0.125, 2.675, 1.115, 0.285, 1234.565, 0.0049999999999999, -0.001, -0.0};
+        for (double value : values) {
+            assertEquals(String.format(Locale.US, "%,.2f", value),
+                    LoanFormatter.US.appendNumber(new StringBuilder(), value, 2, true).toString());
+        }
+        
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200000; i++) {
+            double value = i % 2 == 0 ? random.nextDouble(-1e9, 1e9) : random.nextLong(-1000000000, 1000000000) / 1000.0;
+            int decimals = random.nextInt(5);
+            assertEquals(String.format(Locale.US, "%,." + decimals + "f", value),
+                    LoanFormatter.US.appendNumber(new StringBuilder(), value, decimals, true).toString());
+        }
+    }
+    
+    @Test
+    public void testOutOfRangeValuesFallBack() {
+        assertEquals(String.format(Locale.US, "%,.2f", 1e20),
+                LoanFormatter.US.appendNumber(new StringBuilder(), 1e20, 2, true).toString());
+        assertEquals("$NaN", LoanFormatter.US.appendCurrency(new StringBuilder(), Double.NaN).toString());
+        assertEquals("Infinity%", LoanFormatter.US.appendPercent(new StringBuilder(), Double.POSITIVE_INFINITY)
+                .toString());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDecimals() {
+        LoanFormatter.US.appendNumber(new StringBuilder(), 1, 7, false);
+    }
+    
+    @Test
+    public void testPercentAndDate() {
+        assertEquals("5.25%", LoanFormatter.US.appendPercent(new StringBuilder(), 0.0525).toString());
+        assertEquals("0.00%", LoanFormatter.US.appendPercent(new StringBuilder(), 0).toString());
+        assertEquals("06/07/2025", LoanFormatter.US.appendDate(new StringBuilder(), LocalDate.of(2025, 6, 7)).toString());
+        assertEquals("12/31/0999", LoanFormatter.US.appendDate(new StringBuilder(), LocalDate.of(999, 12, 31)).toString());
+    }
+    
+    @Test
+    public void testLocaleSeparators() {
+        LoanFormatter germany = new LoanFormatter(Locale.GERMANY, "€");
+        assertEquals("€1.234.567,89", germany.appendCurrency(new StringBuilder(), 1234567.891).toString());
+        assertEquals(String.format(Locale.GERMANY, "%,.2f", 9876.545),
+                germany.appendNumber(new StringBuilder(), 9876.545, 2, true).toString());
+    }
+    
+    @Test
+    public void testCharBuffer() {
+        CharBuffer buffer = CharBuffer.allocate(64);
+        LoanFormatter.US.appendCurrency(buffer, 1234.56).put(' ');
+        LoanFormatter.US.appendPercent(buffer, 0.0525).put(' ');
+        LoanFormatter.US.appendDate(buffer, LocalDate.of(2025, 6, 7));
+        buffer.flip();
+        assertEquals("$1,234.56 5.25% 06/07/2025", buffer.toString());
+    }
+    
+    @Test(expected = BufferOverflowException.class)
+    public void testCharBufferOverflow() {
+        LoanFormatter.US.appendCurrency(CharBuffer.allocate(4), 1234.56);
+    }
+    
+    @Test
+    public void testLegacyFormattersUseFormatter() {
+        assertEquals("$1,234.56", LoanCalculator.formatCurrency(1234.56));
+        assertEquals("5.25%", LoanCalculator.formatPercent(0.0525));
+        assertEquals("$1234.57", LoanAccount.formatCurrency(1234.565));
+        assertEquals("Payment: $450.00 on 2025-06-07 - June",
+                new Payment(450, LocalDate.of(2025, 6, 7), "June").toString());
+    }
+}
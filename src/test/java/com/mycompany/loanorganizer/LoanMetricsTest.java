@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Unit tests for the LoanMetrics class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanMetricsTest {
+    
+    @After
+    public void tearDown() {
+        LoanMetrics.setEnabled(false);
+        LoanMetrics.reset();
+    }
+    
+    @Test
+    public void testBuckets() {
+        // Small values get exact buckets
+        for (long value = 0; value < 16; value++) {
+            assertEquals(value, LoanMetrics.Timer.bucketUpperBound(LoanMetrics.Timer.bucketIndex(value)));
+        }
+        
+        // Larger values land in a bucket no more than 1/16 wider than the value
+        for (long value = 16; value < 1L << 40; value = value * 3 + 1) {
+            long upper = LoanMetrics.Timer.bucketUpperBound(LoanMetrics.Timer.bucketIndex(value));
+            assertTrue(upper >= value);
+            assertTrue(upper - value <= value / 16);
+        }
+        
+        // Huge values share the top bucket instead of overflowing
+        assertEquals(LoanMetrics.Timer.bucketIndex(1L << 41), LoanMetrics.Timer.bucketIndex(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void testPercentiles() {
+        LoanMetrics.Timer timer = LoanMetrics.timer("LoanMetricsTest.percentiles");
+        for (long nanos = 1; nanos <= 10000; nanos++) {
+            timer.recordNanos(nanos);
+        }
+        
+        assertEquals(10000, timer.getCount());
+        assertEquals(5000, timer.getMeanNanos());
+        assertEquals(10000, timer.getMaxNanos());
+        assertEquals(5000, timer.getP50Nanos(), 5000 / 16.0);
+        assertEquals(9900, timer.getP99Nanos(), 9900 / 16.0);
+        assertEquals(9990, timer.getP999Nanos(), 9990 / 16.0);
+        assertTrue(timer.getP999Nanos() <= timer.getMaxNanos());
+        
+        timer.reset();
+        assertEquals(0, timer.getCount());
+        assertEquals(0, timer.getP50Nanos());
+    }
+    
+    @Test
+    public void testConcurrentRecordersAddUpAcrossStripes() throws InterruptedException {
+        LoanMetrics.Timer timer = LoanMetrics.timer("LoanMetricsTest.concurrent");
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (long nanos = 1; nanos <= 10000; nanos++) {
+                    timer.recordNanos(nanos);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(80000, timer.getCount());
+        assertEquals(10000, timer.getMaxNanos());
+        assertEquals(5000, timer.getP50Nanos(), 5000 / 16.0);
+        assertEquals(9900, timer.getP99Nanos(), 9900 / 16.0);
+        
+        timer.reset();
+        assertEquals(0, timer.getP99Nanos());
+    }
+    
+    @Test
+    public void testDisabledRecordsNothing() {
+        LoanMetrics.setEnabled(false);
+        assertEquals(0, LoanMetrics.start());
+        
+        LoanMetrics.Timer timer = LoanMetrics.timer("LoanCalculator.calculateMonthlyPayment");
+        long before = timer.getCount();
+        LoanCalculator.calculateMonthlyPayment(10000, 0.05, 36);
+        assertEquals(before, timer.getCount());
+    }
+    
+    @Test
+    public void testInstrumentedCalls() {
+        LoanMetrics.setEnabled(true);
+        LoanMetrics.reset();
+        
+        LoanCalculator.calculateTotalInterest(10000, 0.05, 36);
+        LoanAccount loan = new LoanAccount("Metrics Loan", "Personal", 10000, 0.05, 36);
+        loan.generateAmortizationTable();
+        loan.calculateSavingsWithExtraPayments(50);
+        
+        assertEquals(1, LoanMetrics.timer("LoanCalculator.calculateTotalInterest").getCount());
+        assertEquals(1, LoanMetrics.timer("LoanCalculator.calculateTotalLoanCost").getCount());
+        assertTrue(LoanMetrics.timer("LoanCalculator.calculateMonthlyPayment").getCount() >= 3);
+        assertEquals(1, LoanMetrics.timer("LoanAccount.generateAmortizationTable").getCount());
+        assertEquals(1, LoanMetrics.timer("LoanAccount.calculateSavingsWithExtraPayments").getCount());
+        
+        String dump = LoanMetrics.dump();
+        assertTrue(dump.contains("LoanAccount.generateAmortizationTable"));
+        assertTrue(dump.contains("p999 ns"));
+        assertFalse(dump.contains("LoanCalculator.calculateAffordableLoanAmount"));
+    }
+    
+    @Test
+    public void testMBeans() throws Exception {
+        LoanMetrics.setEnabled(true);
+        LoanMetrics.registerMBeans();
+        LoanMetrics.registerMBeans();
+        LoanCalculator.calculateMonthlyPayment(10000, 0.05, 36);
+        
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.mycompany.loanorganizer:type=LoanMetrics,name="
+                + ObjectName.quote("LoanCalculator.calculateMonthlyPayment"));
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "Count") >= 1);
+        assertNotNull(server.getAttribute(name, "P99Nanos"));
+        
+        // Timers created after registration are published too
+        LoanMetrics.timer("LoanMetricsTest.late");
+        assertTrue(server.isRegistered(new ObjectName("com.mycompany.loanorganizer:type=LoanMetrics,name="
+                + ObjectName.quote("LoanMetricsTest.late"))));
+    }
+}
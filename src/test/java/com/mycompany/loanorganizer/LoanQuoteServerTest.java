@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the LoanQuoteServer class
+ * 
+ * @author Loan Organizer Team
+ */
+public class LoanQuoteServerTest {
+    private LoanQuoteServer server;
+    
+    @Before
+    public void setUp() throws IOException {
+        server = LoanQuoteServer.start(0);
+    }
+    
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+    
+    @Test
+    public void testPayment() throws IOException {
+        String body = get("/quote/payment?principal=10000&rate=0.05&term=36", 200);
+        double expected = LoanCalculator.calculateMonthlyPayment(10000, 0.05, 36);
+        assertTrue(body, body.contains("\"monthlyPayment\":" + expected));
+        assertTrue(body, body.startsWith("{\"principal\":10000.0,\"rate\":0.05,\"term\":36"));
+    }
+    
+    @Test
+    public void testOtherOperations() throws IOException {
+        String interest = get("/quote/total-interest?principal=10000&rate=0.05&term=36", 200);
+        assertTrue(interest, interest.contains("\"totalInterest\":"
+                + LoanCalculator.calculateTotalInterest(10000, 0.05, 36)));
+        
+        String payoff = get("/quote/payoff-months?principal=10000&rate=0.05&payment=299.71", 200);
+        assertTrue(payoff, payoff.contains("\"months\":36"));
+        
+        // A payment that never covers the interest has no payoff month
+        String never = get("/quote/payoff-months?principal=10000&rate=0.05&payment=10", 200);
+        assertTrue(never, never.contains("\"months\":null"));
+        
+        String affordable = get("/quote/affordable?payment=500&rate=0.06&term=60", 200);
+        assertTrue(affordable, affordable.contains("\"affordableAmount\":"
+                + LoanCalculator.calculateAffordableLoanAmount(500, 0.06, 60)));
+    }
+    
+    @Test
+    public void testSchedule() throws IOException {
+        String body = get("/quote/schedule?principal=1200&rate=0&term=12&start=2025-01-31", 200);
+        assertTrue(body, body.contains("{\"month\":1,\"date\":\"2025-02-28\",\"payment\":100.0"));
+        assertTrue(body, body.contains("{\"month\":12,\"date\":\"2026-01-31\""));
+        assertTrue(body, body.endsWith("\"balance\":0.0}]}"));
+    }
+    
+    @Test
+    public void testErrors() throws IOException {
+        String missing = get("/quote/payment?principal=10000&rate=0.05", 400);
+        assertEquals("{\"error\":\"Missing parameter: term\"}", missing);
+        
+        get("/quote/payment?principal=abc&rate=0.05&term=36", 400);
+        get("/quote/payment?principal=10000&rate=5&term=36", 400);
+        get("/quote/payment?principal=10000&rate=0.05&term=0", 400);
+        get("/quote/schedule?principal=10000&rate=0.05&term=36&start=tomorrow", 400);
+        get("/quote/unknown", 404);
+    }
+    
+    @Test
+    public void testErrorWithoutMessage() {
+        assertEquals("{\"error\":\"java.lang.IllegalArgumentException\"}",
+                LoanQuoteServer.error(new IllegalArgumentException()));
+        assertEquals("{\"error\":\"Bad rate\"}", LoanQuoteServer.error(new IllegalArgumentException("Bad rate")));
+    }
+    
+    @Test
+    public void testRejectedTaskRunsOnCallerMarkedRejected() throws InterruptedException {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Executor executor = LoanQuoteServer.rejectingExecutor(pool);
+            // Occupy the only thread and the only queue slot
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            
+            Thread caller = Thread.currentThread();
+            boolean[] ranRejected = new boolean[1];
+            executor.execute(() -> ranRejected[0] = Thread.currentThread() == caller && LoanQuoteServer.isRejected());
+            assertTrue(ranRejected[0]);
+            assertFalse(LoanQuoteServer.isRejected());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+    
+    @Test
+    public void testParseQuery() {
+        Map<String, String> params = LoanQuoteServer.parseQuery("a=1&b=x%20y&c");
+        assertEquals("1", params.get("a"));
+        assertEquals("x y", params.get("b"));
+        assertEquals("", params.get("c"));
+        assertTrue(LoanQuoteServer.parseQuery(null).isEmpty());
+    }
+    
+    private String get(String path, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://localhost:" + server.getPort() + path).openConnection();
+        assertEquals(expectedStatus, connection.getResponseCode());
+        assertEquals("application/json; charset=utf-8", connection.getContentType());
+        InputStream stream = expectedStatus == 200 ? connection.getInputStream() : connection.getErrorStream();
+        try (InputStream in = stream) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
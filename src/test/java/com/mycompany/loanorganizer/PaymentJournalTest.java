@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the PaymentJournal class
+ * 
+ * @author Loan Organizer Team
+ */
+public class PaymentJournalTest {
+    private static final double DELTA = 0.001;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testRecordAndRecover() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(2);
+            attach(journal, loans);
+            assertTrue(loans.get("loan-0").recordPayment(100.0, START.plusMonths(1), "First"));
+            assertTrue(loans.get("loan-1").recordPayment(200.0, START.plusMonths(1), null));
+            assertTrue(loans.get("loan-0").recordPayment(150.0, START.plusMonths(2), "Second"));
+            assertEquals(3, journal.getLastSequence());
+            assertEquals(3, journal.getDurableSequence());
+        }
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(2);
+            assertEquals(3, journal.recover(loans));
+            
+            List<Payment> payments = loans.get("loan-0").getPaymentHistory();
+            assertEquals(2, payments.size());
+            assertEquals(100.0, payments.get(0).getAmount(), DELTA);
+            assertEquals(START.plusMonths(1), payments.get(0).getDate());
+            assertEquals("First", payments.get(0).getNotes());
+            assertEquals("Second", payments.get(1).getNotes());
+            assertNull(loans.get("loan-1").getPaymentHistory().get(0).getNotes());
+            
+            // Sequence numbers carry on after a restart
+            attach(journal, loans);
+            loans.get("loan-1").recordPayment(50.0, START.plusMonths(2), "After restart");
+            assertEquals(4, journal.getLastSequence());
+        }
+    }
+    
+    @Test
+    public void testSnapshotReplaysOnlyTail() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory, 256)) {
+            Map<String, LoanAccount> loans = newLoans(3);
+            attach(journal, loans);
+            for (int i = 0; i < 30; i++) {
+                loans.get("loan-" + (i % 3)).recordPayment(10.0 + i, START.plusDays(i), "Payment " + i);
+            }
+            assertTrue(countFiles(directory, "segment-") > 1);
+            
+            journal.writeSnapshot(loans);
+            
+            // Only the active segment is left, plus the snapshot
+            assertEquals(1, countFiles(directory, "segment-"));
+            assertEquals(1, countFiles(directory, "snapshot-"));
+            
+            for (int i = 30; i < 35; i++) {
+                loans.get("loan-" + (i % 3)).recordPayment(10.0 + i, START.plusDays(i), "Payment " + i);
+            }
+        }
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory, 256)) {
+            Map<String, LoanAccount> loans = newLoans(3);
+            assertEquals(5, journal.recover(loans));
+            
+            int total = 0;
+            for (LoanAccount loan : loans.values()) {
+                total += loan.getPaymentCount();
+            }
+            assertEquals(35, total);
+            
+            List<Payment> payments = loans.get("loan-1").getPaymentHistory();
+            for (int i = 0; i < payments.size(); i++) {
+                assertEquals(11.0 + 3 * i, payments.get(i).getAmount(), DELTA);
+                assertEquals("Payment " + (1 + 3 * i), payments.get(i).getNotes());
+            }
+        }
+    }
+    
+    @Test
+    public void testSnapshotIsSyncedBeforeDeletes() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PaymentJournal.DirectoryOps recording = new PaymentJournal.DirectoryOps() {
+            @Override
+            public void sync(Path synced) throws IOException {
+                events.add("sync " + countFiles(synced, "snapshot-"));
+                PaymentJournal.DirectoryOps.DEFAULT.sync(synced);
+            }
+            
+            @Override
+            public void delete(Path file) throws IOException {
+                events.add("delete " + file.getFileName());
+                PaymentJournal.DirectoryOps.DEFAULT.delete(file);
+            }
+        };
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory, 256, recording)) {
+            Map<String, LoanAccount> loans = newLoans(3);
+            attach(journal, loans);
+            for (int i = 0; i < 30; i++) {
+                loans.get("loan-" + (i % 3)).recordPayment(10.0 + i, START.plusDays(i), "Payment " + i);
+            }
+            int segments = countFiles(directory, "segment-");
+            assertTrue(segments > 1);
+            // Every segment was synced into the directory when it was created
+            assertEquals(segments, events.size());
+            
+            events.clear();
+            journal.writeSnapshot(loans);
+            
+            // The renamed snapshot is synced before the segments it covers are deleted
+            assertEquals("sync 1", events.get(0));
+            assertEquals(segments, events.size());
+            for (String event : events.subList(1, events.size())) {
+                assertTrue(event, event.startsWith("delete segment-"));
+            }
+        }
+    }
+    
+    @Test
+    public void testTornTailIsDiscarded() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(1);
+            attach(journal, loans);
+            loans.get("loan-0").recordPayment(100.0, START, "Complete");
+        }
+        
+        // Simulate a crash part way through writing the next record
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .findFirst().get();
+        }
+        long validLength = Files.size(segment);
+        Files.write(segment, new byte[] {40, 0, 0, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            assertEquals(validLength, Files.size(segment));
+            Map<String, LoanAccount> loans = newLoans(1);
+            assertEquals(1, journal.recover(loans));
+            
+            attach(journal, loans);
+            loans.get("loan-0").recordPayment(200.0, START.plusMonths(1), "After crash");
+        }
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(1);
+            assertEquals(2, journal.recover(loans));
+            assertEquals(200.0, loans.get("loan-0").getPaymentHistory().get(1).getAmount(), DELTA);
+        }
+    }
+    
+    @Test
+    public void testConcurrentPostingSharesFsyncs() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        int threads = 8;
+        int paymentsPerThread = 250;
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory, 16 * 1024)) {
+            Map<String, LoanAccount> loans = newLoans(threads);
+            attach(journal, loans);
+            
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                LoanAccount loan = loans.get("loan-" + t);
+                executor.execute(() -> {
+                    for (int i = 0; i < paymentsPerThread; i++) {
+                        loan.recordPayment(1.0 + i, START.plusDays(i), null);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+            assertEquals(threads * paymentsPerThread, journal.getDurableSequence());
+        }
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory, 16 * 1024)) {
+            Map<String, LoanAccount> loans = newLoans(threads);
+            assertEquals(threads * paymentsPerThread, journal.recover(loans));
+            for (LoanAccount loan : loans.values()) {
+                List<Payment> payments = loan.getPaymentHistory();
+                assertEquals(paymentsPerThread, payments.size());
+                for (int i = 0; i < payments.size(); i++) {
+                    assertEquals(1.0 + i, payments.get(i).getAmount(), DELTA);
+                }
+            }
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testAppendAfterClose() throws IOException {
+        PaymentJournal journal = PaymentJournal.open(folder.getRoot().toPath().resolve("journal"));
+        journal.close();
+        journal.append("loan-0", new Payment(100.0, START, null));
+    }
+    
+    @Test
+    public void testRecoverRejectsPaymentsTheLedgerCannotHold() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(1);
+            attach(journal, loans);
+            assertTrue(loans.get("loan-0").recordPayment(100.0, START.plusMonths(2), null));
+            assertTrue(loans.get("loan-0").recordPayment(100.0, START.plusMonths(1), null));
+        }
+        
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(1);
+            loans.get("loan-0").enableLedger();
+            try {
+                journal.recover(loans);
+                fail("Expected the backdated payment to be rejected");
+            } catch (IOException e) {
+                assertEquals(1, loans.get("loan-0").getPaymentCount());
+                assertEquals(1, loans.get("loan-0").getLedger().getPaymentCount());
+            }
+        }
+        
+        // Enabling ledger mode after recovery posts the payments in date order
+        try (PaymentJournal journal = PaymentJournal.open(directory)) {
+            Map<String, LoanAccount> loans = newLoans(1);
+            assertEquals(2, journal.recover(loans));
+            assertEquals(2, loans.get("loan-0").enableLedger().getPaymentCount());
+        }
+    }
+    
+    @Test
+    public void testFailedJournalLeavesHistoryUnchanged() throws IOException {
+        Path directory = folder.getRoot().toPath().resolve("journal");
+        PaymentJournal journal = PaymentJournal.open(directory, 1);
+        LoanAccount loan = new LoanAccount("Loan", "Personal", 10000, 0.05, 60, START);
+        loan.enableLedger();
+        loan.attachJournal(journal, "loan-0");
+        
+        // Rotating past the one-byte segment fails once the directory is gone
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+        
+        try {
+            loan.recordPayment(100.0, START.plusMonths(1), null);
+            fail("Expected the failed write to be reported");
+        } catch (UncheckedIOException e) {
+            assertEquals(0, loan.getPaymentCount());
+            assertEquals(0, loan.getLedger().getPaymentCount());
+        }
+        try {
+            loan.recordPayment(100.0, START.plusMonths(2), null);
+            fail("Expected the failed journal to reject the payment");
+        } catch (UncheckedIOException e) {
+            assertEquals(0, loan.getPaymentCount());
+        }
+        try {
+            journal.close();
+            fail("Expected close to report the failure");
+        } catch (IOException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+    
+    private static Map<String, LoanAccount> newLoans(int count) {
+        Map<String, LoanAccount> loans = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            loans.put("loan-" + i, new LoanAccount("Loan " + i, "Personal", 10000, 0.05, 60, START));
+        }
+        return loans;
+    }
+    
+    private static void attach(PaymentJournal journal, Map<String, LoanAccount> loans) {
+        for (Map.Entry<String, LoanAccount> entry : loans.entrySet()) {
+            entry.getValue().attachJournal(journal, entry.getKey());
+        }
+    }
+    
+    private static int countFiles(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> matches = files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .collect(Collectors.toList());
+            return matches.size();
+        }
+    }
+}
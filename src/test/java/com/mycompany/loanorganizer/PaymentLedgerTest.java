@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+
+/**
+ * Unit tests for the PaymentLedger class
+ * 
+ * @author Loan Organizer Team
+ */
+public class PaymentLedgerTest {
+    private static final double DELTA = 0.0001;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    
+    @Test
+    public void testPost() {
+        // 3.65% a year is exactly 0.01% a day
+        PaymentLedger ledger = new PaymentLedger(10000, 0.0365, START);
+        
+        assertTrue(ledger.post(100.0, START.plusDays(10)));
+        assertEquals(9910.0, ledger.getPrincipalBalance(), DELTA);
+        assertEquals(0.0, ledger.getAccruedInterest(), DELTA);
+        assertEquals(10.0, ledger.getTotalInterestPaid(), DELTA);
+        assertEquals(START.plusDays(10), ledger.getLastPostingDate());
+        
+        // A payment smaller than the accrued interest leaves interest owing
+        assertTrue(ledger.post(5.0, START.plusDays(20)));
+        assertEquals(9910.0, ledger.getPrincipalBalance(), DELTA);
+        assertEquals(9.91 - 5.0, ledger.getAccruedInterest(), DELTA);
+        
+        assertEquals(2, ledger.getPaymentCount());
+    }
+    
+    @Test
+    public void testRejectedPayments() {
+        PaymentLedger ledger = new PaymentLedger(10000, 0.05, START);
+        
+        assertFalse(ledger.post(0.0, START.plusDays(1)));
+        assertFalse(ledger.post(100.0, START.minusDays(1)));
+        assertFalse(ledger.post(100.0, null));
+        assertTrue(ledger.post(100.0, START.plusDays(30)));
+        assertFalse(ledger.post(100.0, START.plusDays(29)));
+        assertTrue(ledger.post(100.0, START.plusDays(30)));
+        assertEquals(2, ledger.getPaymentCount());
+    }
+    
+    @Test
+    public void testOverpaymentClearsBalance() {
+        PaymentLedger ledger = new PaymentLedger(1000, 0.05, START);
+        assertTrue(ledger.post(5000.0, START.plusDays(30)));
+        assertEquals(0.0, ledger.getPrincipalBalance(), 0.0);
+        assertEquals(0.0, ledger.getPayoffAmount(START.plusDays(400)), 0.0);
+    }
+    
+    @Test
+    public void testAsOfQueries() {
+        PaymentLedger ledger = new PaymentLedger(10000, 0.0365, START);
+        ledger.post(100.0, START.plusDays(10));
+        ledger.post(100.0, START.plusDays(40));
+        
+        assertEquals(10000.0, ledger.getPrincipalBalance(START.minusDays(1)), DELTA);
+        assertEquals(0.0, ledger.getAccruedInterest(START.minusDays(1)), DELTA);
+        assertEquals(10000.0, ledger.getPrincipalBalance(START.plusDays(9)), DELTA);
+        assertEquals(9.0, ledger.getAccruedInterest(START.plusDays(9)), DELTA);
+        
+        // The balance on a payment date includes that day's payment
+        assertEquals(9910.0, ledger.getPrincipalBalance(START.plusDays(10)), DELTA);
+        assertEquals(9910.0, ledger.getPrincipalBalance(START.plusDays(39)), DELTA);
+        assertEquals(9910.0 * 0.0001 * 5, ledger.getAccruedInterest(START.plusDays(15)), DELTA);
+        assertEquals(9910.0 + 9910.0 * 0.0001 * 5, ledger.getPayoffAmount(START.plusDays(15)), DELTA);
+        
+        assertEquals(ledger.getPrincipalBalance(), ledger.getPrincipalBalance(START.plusDays(365)), 0.0);
+    }
+    
+    @Test
+    public void testCheckpointsMatchFullReplay() {
+        // A ledger that checkpoints every 4 payments against one that never does
+        PaymentLedger checkpointed = new PaymentLedger(250000, 0.0625, START, 4);
+        PaymentLedger replayed = new PaymentLedger(250000, 0.0625, START, Integer.MAX_VALUE);
+        
+        for (int month = 1; month <= 150; month++) {
+            double amount = month % 12 == 0 ? 5000.0 : 1539.29;
+            assertTrue(checkpointed.post(amount, START.plusMonths(month)));
+            assertTrue(replayed.post(amount, START.plusMonths(month)));
+        }
+        
+        assertEquals(replayed.getPrincipalBalance(), checkpointed.getPrincipalBalance(), 0.0);
+        for (int day = 0; day < 150 * 31; day += 7) {
+            LocalDate asOf = START.plusDays(day);
+            assertEquals(replayed.getPrincipalBalance(asOf), checkpointed.getPrincipalBalance(asOf), 0.0);
+            assertEquals(replayed.getAccruedInterest(asOf), checkpointed.getAccruedInterest(asOf), 0.0);
+        }
+        
+        // The latest as-of balance matches the running balance
+        assertEquals(checkpointed.getPrincipalBalance(),
+                checkpointed.getPrincipalBalance(checkpointed.getLastPostingDate()), 0.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCheckpointInterval() {
+        new PaymentLedger(10000, 0.05, START, 0);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for the PortfolioProjector class
+ * 
+ * @author Loan Organizer Team
+ */
+public class PortfolioProjectorTest {
+    private static final double DELTA = 1e-6;
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2025, 1);
+    
+    private List<LoanAccount> portfolio() {
+        return Arrays.asList(
+                // Started before the projection, paid off during it
+                new LoanAccount("Car", "Auto", 25000, 0.0599, 60, LocalDate.of(2021, 6, 15)),
+                // Started before the projection, still running after it
+                new LoanAccount("Home", "Mortgage", 300000, 0.045, 360, LocalDate.of(2020, 3, 1)),
+                // Starts during the projection
+                new LoanAccount("Boat", "Personal", 15000, 0.0799, 48, LocalDate.of(2025, 7, 31)),
+                new LoanAccount("Interest free", "Personal", 1200, 0, 12, LocalDate.of(2025, 2, 28)),
+                // Paid off before and starting after the projection
+                new LoanAccount("Old", "Personal", 5000, 0.05, 12, LocalDate.of(2019, 1, 1)),
+                new LoanAccount("Future", "Personal", 5000, 0.05, 12, LocalDate.of(2030, 1, 1)));
+    }
+    
+    @Test
+    public void testMatchesSummedSchedules() {
+        int months = 72;
+        double[] principal = new double[months];
+        double[] interest = new double[months];
+        double[] balance = new double[months];
+        for (LoanAccount loan : portfolio()) {
+            int startMonth = monthsFromFirst(YearMonth.from(loan.getStartDate()));
+            if (startMonth >= 0 && startMonth < months) {
+                balance[startMonth] += loan.getPrincipal();
+            }
+            for (PaymentDetails row : loan.generateAmortizationSchedule()) {
+                int month = monthsFromFirst(YearMonth.from(row.getPaymentDate()));
+                if (month >= 0 && month < months) {
+                    principal[month] += row.getPrincipalPayment();
+                    interest[month] += row.getInterestPayment();
+                    balance[month] += row.getRemainingBalance();
+                }
+            }
+        }
+        
+        PortfolioProjector.Projection projection = new PortfolioProjector().project(portfolio(), FIRST_MONTH, months);
+        assertEquals(months, projection.getMonths());
+        assertEquals(YearMonth.of(2030, 12), projection.getYearMonth(72));
+        for (int month = 1; month <= months; month++) {
+            assertEquals(principal[month - 1], projection.getPrincipal(month), DELTA);
+            assertEquals(principal[month - 1], projection.getScheduledPrincipal(month), DELTA);
+            assertEquals(0, projection.getPrepaidPrincipal(month), 0);
+            assertEquals(interest[month - 1], projection.getInterest(month), DELTA);
+            assertEquals(balance[month - 1], projection.getBalance(month), DELTA);
+        }
+    }
+    
+    @Test
+    public void testPrepaymentConservesPrincipal() {
+        List<LoanAccount> loans = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Personal", 10000 + i, 0.03 + i % 40 * 0.001, 12 + i % 120,
+                    LocalDate.of(2025, 1 + i % 12, 1 + i % 28)));
+        }
+        double originated = 0;
+        for (LoanAccount loan : loans) {
+            originated += loan.getPrincipal();
+        }
+        
+        PortfolioProjector.Projection scheduled = new PortfolioProjector().project(loans, FIRST_MONTH, 240);
+        PortfolioProjector.Projection expected = new PortfolioProjector(0.10).project(loans, FIRST_MONTH, 240);
+        
+        // Every loan runs off within the projection, so all principal comes back either way
+        assertEquals(originated, scheduled.getTotalPrincipal(), 1e-3);
+        assertEquals(originated, expected.getTotalPrincipal(), 1e-3);
+        assertTrue(expected.getTotalInterest() < scheduled.getTotalInterest());
+        assertTrue(expected.getPrepaidPrincipal(24) > 0);
+        
+        // The balance falls by each month's principal once origination is over
+        for (int month = 13; month <= 240; month++) {
+            assertEquals(expected.getBalance(month - 1) - expected.getPrincipal(month), expected.getBalance(month),
+                    1e-3);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMonths() {
+        new PortfolioProjector().project(portfolio(), FIRST_MONTH, 0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrepaymentRate() {
+        new PortfolioProjector(1.5);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testMonthOutOfRange() {
+        new PortfolioProjector().project(portfolio(), FIRST_MONTH, 12).getInterest(13);
+    }
+    
+    private static int monthsFromFirst(YearMonth month) {
+        return (int) FIRST_MONTH.until(month, ChronoUnit.MONTHS);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for the PortfolioSimulation class
+ * 
+ * @author Loan Organizer Team
+ */
+public class PortfolioSimulationTest {
+    private static final double DELTA = 0.01;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    
+    @Test
+    public void testNoPrepaymentOrDefault() {
+        LoanAccount loan = new LoanAccount("Car", "Auto", 20000, 0.06, 48, START);
+        PortfolioSimulation simulation = new PortfolioSimulation(0, 0, 0.4);
+        PortfolioSimulation.Result result = simulation.run(Arrays.asList(loan, loan), START, 50, 1L);
+        
+        double payment = loan.calculateMonthlyPayment(48);
+        assertEquals(48, result.getMonths());
+        for (int month = 1; month <= 48; month++) {
+            assertEquals(2 * payment, result.getExpectedCashFlow(month), DELTA);
+            assertEquals(2 * payment, result.getCashFlowLowerBound(month), DELTA);
+            assertEquals(2 * payment, result.getCashFlowUpperBound(month), DELTA);
+            assertEquals(0.0, result.getExpectedLoss(month), DELTA);
+        }
+        assertEquals(0.0, result.getTotalLossPercentile(1.0), DELTA);
+    }
+    
+    @Test
+    public void testStartsFromRemainingPosition() {
+        LoanAccount loan = new LoanAccount("Car", "Auto", 20000, 0.06, 48, START);
+        LoanAccount matured = new LoanAccount("Old", "Personal", 5000, 0.05, 12, START.minusYears(3));
+        LocalDate asOf = START.plusMonths(12);
+        
+        PortfolioSimulation.Result result = new PortfolioSimulation(0, 0, 0)
+                .run(Arrays.asList(loan, matured), asOf, 10, 1L);
+        assertEquals(asOf, result.getAsOfDate());
+        assertEquals(36, result.getMonths());
+        assertEquals(loan.calculateMonthlyPayment(48), result.getExpectedCashFlow(36), DELTA);
+    }
+    
+    @Test
+    public void testInterestFreeCashIsConserved() {
+        // With no interest and no loss severity, every path collects exactly the principal
+        List<LoanAccount> loans = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Personal", 1000 + 100 * i, 0.0, 12 + i, START));
+        }
+        PortfolioSimulation.Result result = new PortfolioSimulation(0.2, 0.1, 0.0).run(loans, START, 200, 7L);
+        
+        double collected = 0;
+        for (int month = 1; month <= result.getMonths(); month++) {
+            collected += result.getExpectedCashFlow(month);
+        }
+        assertEquals(50 * 1000 + 100 * (49 * 50 / 2), collected, DELTA);
+        assertEquals(0.0, result.getExpectedTotalLoss(), DELTA);
+    }
+    
+    @Test
+    public void testLossesMatchDefaultRate() {
+        List<LoanAccount> loans = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Personal", 10000, 0.05, 60, START));
+        }
+        double annualDefaultRate = 0.06;
+        double severity = 0.5;
+        PortfolioSimulation.Result result = new PortfolioSimulation(0.1, annualDefaultRate, severity)
+                .run(loans, START, 4000, 42L);
+        
+        // Month 1: every loan is still open, so the expected loss is known exactly
+        double monthlyDefaultRate = 1 - Math.pow(1 - annualDefaultRate, 1.0 / 12);
+        double expected = 100 * 10000 * monthlyDefaultRate * severity;
+        double margin = result.getLossUpperBound(1) - result.getExpectedLoss(1);
+        assertTrue(margin > 0);
+        assertEquals(expected, result.getExpectedLoss(1), 3 * margin);
+        assertTrue(result.getLossLowerBound(1) < result.getLossUpperBound(1));
+        
+        // The loss distribution is ordered and brackets its mean
+        assertTrue(result.getTotalLossPercentile(0.01) <= result.getTotalLossPercentile(0.5));
+        assertTrue(result.getTotalLossPercentile(0.5) <= result.getTotalLossPercentile(0.99));
+        assertTrue(result.getTotalLossPercentile(0.0) <= result.getExpectedTotalLoss());
+        assertTrue(result.getTotalLossPercentile(1.0) >= result.getExpectedTotalLoss());
+    }
+    
+    @Test
+    public void testSameSeedSameResult() {
+        List<LoanAccount> loans = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            loans.add(new LoanAccount("Loan " + i, "Mortgage", 200000, 0.04 + i * 0.001, 360, START));
+        }
+        PortfolioSimulation simulation = new PortfolioSimulation(0.08, 0.02, 0.35);
+        PortfolioSimulation.Result first = simulation.run(loans, START, 500, 99L);
+        PortfolioSimulation.Result second = simulation.run(loans, START, 500, 99L);
+        PortfolioSimulation.Result other = simulation.run(loans, START, 500, 100L);
+        
+        for (int month = 1; month <= first.getMonths(); month++) {
+            assertEquals(first.getExpectedCashFlow(month), second.getExpectedCashFlow(month), 0.0);
+            assertEquals(first.getExpectedLoss(month), second.getExpectedLoss(month), 0.0);
+        }
+        assertEquals(first.getTotalLossPercentile(0.95), second.getTotalLossPercentile(0.95), 0.0);
+        assertNotEquals(first.getExpectedTotalLoss(), other.getExpectedTotalLoss(), 0.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSeverity() {
+        new PortfolioSimulation(0.1, 0.02, 1.5);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPaths() {
+        new PortfolioSimulation(0.1, 0.02, 0.4).run(new ArrayList<LoanAccount>(), START, 0, 1L);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for the RateTermGrid class
+ * 
+ * @author Loan Organizer Team
+ */
+public class RateTermGridTest {
+    private static final double DELTA = 1e-6;
+    
+    @Test
+    public void testCalculateForPrincipal() {
+        double[] rates = new double[100];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = 0.0025 * i;
+        }
+        int[] terms = new int[50];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = 12 * (i + 1);
+        }
+        
+        RateTermGrid.Result result = new RateTermGrid(rates, terms).calculate(25000);
+        
+        assertEquals(100, result.getRateCount());
+        assertEquals(50, result.getTermCount());
+        assertEquals(25000, result.getPrincipal(), DELTA);
+        for (int r = 0; r < rates.length; r++) {
+            for (int t = 0; t < terms.length; t++) {
+                assertEquals(rates[r], result.getRate(r), 0.0);
+                assertEquals(terms[t], result.getTerm(t));
+                assertEquals(LoanCalculator.calculateMonthlyPayment(25000, rates[r], terms[t]),
+                        result.getMonthlyPayment(r, t), DELTA);
+                assertEquals(LoanCalculator.calculateTotalInterest(25000, rates[r], terms[t]),
+                        result.getTotalInterest(r, t), DELTA);
+                assertEquals(LoanCalculator.calculateTotalLoanCost(25000, rates[r], terms[t]),
+                        result.getTotalCost(r, t), DELTA);
+            }
+        }
+    }
+    
+    @Test
+    public void testCalculateForLoansDoesNotMutateLoans() {
+        LoanAccount loan1 = new LoanAccount("Car Loan", "Auto", 5000, 0.07, 36);
+        LoanAccount loan2 = new LoanAccount("Home Loan", "Mortgage", 31000, 0.03, 60);
+        
+        RateTermGrid grid = new RateTermGrid(new double[] {0.01, 0.05}, new int[] {36, 60, 72});
+        List<RateTermGrid.Result> results = grid.calculate(Arrays.asList(loan1, loan2));
+        
+        assertEquals(2, results.size());
+        assertEquals(5000, results.get(0).getPrincipal(), DELTA);
+        assertEquals(31000, results.get(1).getPrincipal(), DELTA);
+        assertEquals(LoanCalculator.calculateMonthlyPayment(31000, 0.05, 72),
+                results.get(1).getMonthlyPayment(1, 2), DELTA);
+        
+        assertEquals(0.07, loan1.getAnnualInterestRate(), 0.0);
+        assertEquals(0.03, loan2.getAnnualInterestRate(), 0.0);
+        assertEquals(36, loan1.getTermInMonths());
+    }
+    
+    @Test
+    public void testPaymentsMatchCalculatorExactly() {
+        double[] rates = {0.0, 0.045};
+        int[] terms = {7, 36, 49, 360};
+        RateTermGrid grid = new RateTermGrid(rates, terms);
+        
+        for (double principal : new double[] {10000, 25000.01, 333333.33}) {
+            RateTermGrid.Result result = grid.calculate(principal);
+            for (int r = 0; r < rates.length; r++) {
+                for (int t = 0; t < terms.length; t++) {
+                    // Interest-free cells divide by the term rather than multiply by 1 / term
+                    assertEquals(LoanCalculator.calculateMonthlyPayment(principal, rates[r], terms[t]),
+                            result.getMonthlyPayment(r, t), 0.0);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testInputVectorsAreCopied() {
+        double[] rates = {0.05};
+        int[] terms = {36};
+        RateTermGrid grid = new RateTermGrid(rates, terms);
+        rates[0] = 0.10;
+        terms[0] = 12;
+        
+        RateTermGrid.Result result = grid.calculate(10000);
+        assertEquals(299.71, result.getMonthlyPayment(0, 0), 0.01);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEmptyRates() {
+        new RateTermGrid(new double[0], new int[] {36});
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Unit tests for the ScheduleCache class
+ * 
+ * @author Loan Organizer Team
+ */
+public class ScheduleCacheTest {
+    private static final double DELTA = 1e-9;
+    private static final LocalDate START = LocalDate.of(2024, 1, 31);
+    
+    @After
+    public void tearDown() {
+        LoanCalculator.setScheduleCache(null);
+    }
+    
+    @Test
+    public void testCachedSchedulesMatchGenerated() {
+        List<PaymentDetails> calculatorSchedule = LoanCalculator.generateAmortizationSchedule(25000, 0.0599, 60, START);
+        LoanAccount loan = new LoanAccount("Car", "Auto", 25000, 0.0599, 60, START);
+        List<PaymentDetails> accountSchedule = loan.generateAmortizationSchedule();
+        
+        LoanCalculator.setScheduleCache(new ScheduleCache(100, 100000));
+        assertSameRows(calculatorSchedule, LoanCalculator.generateAmortizationSchedule(25000, 0.0599, 60, START));
+        assertSameRows(calculatorSchedule, LoanCalculator.generateAmortizationTable(25000, 0.0599, 60, START).asList());
+        assertSameRows(accountSchedule, loan.generateAmortizationSchedule());
+        assertSameRows(accountSchedule, loan.generateAmortizationTable().asList());
+    }
+    
+    @Test
+    public void testHitsAndSharedResults() {
+        ScheduleCache cache = new ScheduleCache(100, 100000);
+        LoanCalculator.setScheduleCache(cache);
+        
+        AmortizationTable first = LoanCalculator.generateAmortizationTable(25000, 0.0599, 60, START);
+        AmortizationTable second = LoanCalculator.generateAmortizationTable(25000, 0.0599, 60, START);
+        assertSame(first, second);
+        LoanCalculator.generateAmortizationSchedule(25000, 0.0599, 60, START);
+        
+        // A LoanAccount schedule is a different entry, as its last row is not adjusted
+        LoanAccount loan = new LoanAccount("Car", "Auto", 25000, 0.0599, 60, START);
+        assertNotSame(first, loan.generateAmortizationTable());
+        assertSame(loan.generateAmortizationTable(), loan.generateAmortizationTable());
+        
+        assertEquals(2, cache.size());
+        assertEquals(120, cache.getRowCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(4.0 / 6, cache.getHitRate(), DELTA);
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCachedScheduleIsReadOnly() {
+        LoanCalculator.setScheduleCache(new ScheduleCache(100, 100000));
+        List<PaymentDetails> schedule = LoanCalculator.generateAmortizationSchedule(25000, 0.0599, 60, START);
+        schedule.remove(0);
+    }
+    
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        ScheduleCache cache = new ScheduleCache(2, 100000);
+        LoanCalculator.setScheduleCache(cache);
+        
+        AmortizationTable twelve = LoanCalculator.generateAmortizationTable(10000, 0.05, 12, START);
+        LoanCalculator.generateAmortizationTable(10000, 0.05, 24, START);
+        assertSame(twelve, LoanCalculator.generateAmortizationTable(10000, 0.05, 12, START));
+        LoanCalculator.generateAmortizationTable(10000, 0.05, 36, START);
+        
+        // The 24-month schedule was the least recently used
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(twelve, LoanCalculator.generateAmortizationTable(10000, 0.05, 12, START));
+        assertEquals(3, cache.getMissCount());
+    }
+    
+    @Test
+    public void testEvictsByRowCount() {
+        ScheduleCache cache = new ScheduleCache(100, 400);
+        LoanCalculator.setScheduleCache(cache);
+        
+        LoanCalculator.generateAmortizationTable(300000, 0.065, 360, START);
+        LoanCalculator.generateAmortizationTable(25000, 0.0599, 60, START);
+        assertEquals(420 - 360, cache.getRowCount());
+        assertEquals(1, cache.size());
+        
+        // A schedule bigger than the whole cache is returned but not kept
+        assertEquals(480, LoanCalculator.generateAmortizationTable(400000, 0.07, 480, START).size());
+        assertEquals(1, cache.size());
+        assertTrue(cache.getRowCount() <= 400);
+    }
+    
+    @Test
+    public void testStripedCacheStaysWithinLimits() throws InterruptedException {
+        ScheduleCache cache = new ScheduleCache(10, 2000, 4);
+        assertEquals(4, cache.getStripeCount());
+        LoanCalculator.setScheduleCache(cache);
+        
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    int term = 12 + i % 30;
+                    AmortizationTable table = LoanCalculator.generateAmortizationTable(10000, 0.05, term, START);
+                    assertEquals(term, table.size());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(800, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getRowCount() <= 2000);
+        // Two threads missing on the same key both count a miss but insert once
+        assertTrue(cache.getEvictionCount() <= cache.getMissCount() - cache.size());
+        
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getRowCount());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testMoreStripesThanEntries() {
+        new ScheduleCache(2, 100, 3);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLimits() {
+        new ScheduleCache(0, 100);
+    }
+    
+    private static void assertSameRows(List<PaymentDetails> expected, List<PaymentDetails> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getMonth(), actual.get(i).getMonth());
+            assertEquals(expected.get(i).getPaymentDate(), actual.get(i).getPaymentDate());
+            assertEquals(expected.get(i).getMonthlyPayment(), actual.get(i).getMonthlyPayment(), DELTA);
+            assertEquals(expected.get(i).getPrincipalPayment(), actual.get(i).getPrincipalPayment(), DELTA);
+            assertEquals(expected.get(i).getInterestPayment(), actual.get(i).getInterestPayment(), DELTA);
+            assertEquals(expected.get(i).getRemainingBalance(), actual.get(i).getRemainingBalance(), DELTA);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for the ScheduleExporter class
+ * 
+ * @author Loan Organizer Team
+ */
+public class ScheduleExporterTest {
+    private static final LocalDate START = LocalDate.of(2024, 1, 31);
+    
+    @Test
+    public void testCsvMatchesSchedule() throws IOException {
+        LoanAccount loan = new LoanAccount("Car", "Auto", 25000, 0.0599, 60, START);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        
+        long rows = new ScheduleExporter(ScheduleExporter.Format.CSV).write(Channels.newChannel(bytes), loan);
+        assertEquals(60, rows);
+        
+        String[] lines = new String(bytes.toByteArray(), StandardCharsets.US_ASCII).split("\n");
+        assertEquals(61, lines.length);
+        assertEquals(ScheduleExporter.CSV_HEADER, lines[0]);
+        List<PaymentDetails> schedule = loan.generateAmortizationSchedule();
+        for (int i = 0; i < schedule.size(); i++) {
+            PaymentDetails row = schedule.get(i);
+            double balance = Math.abs(row.getRemainingBalance()) < 0.005 ? 0 : row.getRemainingBalance();
+            String expected = String.format("0,%d,%s,%.2f,%.2f,%.2f,%.2f", row.getMonth(), row.getPaymentDate(),
+                    row.getMonthlyPayment(), row.getPrincipalPayment(), row.getInterestPayment(), balance);
+            assertEquals(expected, lines[i + 1]);
+        }
+        // Month-end start dates clamp to shorter months
+        assertTrue(lines[1].startsWith("0,1,2024-02-29,"));
+    }
+    
+    @Test
+    public void testBinaryPortfolio() throws IOException {
+        List<LoanAccount> loans = Arrays.asList(
+                new LoanAccount("Car", "Auto", 25000, 0.0599, 60, START),
+                new LoanAccount("Zero", "Personal", 1200, 0, 12, START),
+                new MortgageLoan("Home", 300000, 0.045, 360, "1 Main St", 400000, 80000, false, 0, START));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        
+        // A small buffer forces many flushes mid-portfolio
+        long rows = new ScheduleExporter(ScheduleExporter.Format.BINARY, 4096)
+                .writePortfolio(Channels.newChannel(bytes), loans);
+        assertEquals(432, rows);
+        
+        ByteBuffer in = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(432 * (4 + ScheduleExporter.BINARY_ROW_BYTES), in.remaining());
+        for (int loan = 0; loan < loans.size(); loan++) {
+            for (PaymentDetails row : loans.get(loan).generateAmortizationSchedule()) {
+                assertEquals(ScheduleExporter.BINARY_ROW_BYTES, in.getInt());
+                assertEquals(loan, in.getInt());
+                assertEquals(row.getMonth(), in.getInt());
+                assertEquals(row.getPaymentDate().toEpochDay(), in.getInt());
+                assertEquals(row.getMonthlyPayment(), in.getDouble(), 0);
+                assertEquals(row.getPrincipalPayment(), in.getDouble(), 0);
+                assertEquals(row.getInterestPayment(), in.getDouble(), 0);
+                assertEquals(row.getRemainingBalance(), in.getDouble(), 0);
+            }
+        }
+        assertFalse(in.hasRemaining());
+    }
+    
+    @Test
+    public void testEmptyPortfolio() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertEquals(0, new ScheduleExporter(ScheduleExporter.Format.CSV)
+                .writePortfolio(Channels.newChannel(bytes), Arrays.<LoanAccount>asList()));
+        assertEquals(ScheduleExporter.CSV_HEADER + "\n", bytes.toString("US-ASCII"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testBufferTooSmall() {
+        new ScheduleExporter(ScheduleExporter.Format.CSV, 1024);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Loan Organizer
+ * All rights reserved.
+ */
+package com.mycompany.loanorganizer;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the UnderwaterScan class
+ * 
+ * @author Loan Organizer Team
+ */
+public class UnderwaterScanTest {
+    
+    @Test
+    public void testScanMatchesSingleLoans() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<AutoLoan> loans = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            double value = random.nextDouble(5000, 60000);
+            loans.add(new AutoLoan("Car " + i, value * random.nextDouble(0.5, 1.3), random.nextDouble(0, 0.2),
+                    12 * random.nextInt(1, 8), "Make", "Model", 2025, "VIN", value, random.nextBoolean()));
+        }
+        
+        UnderwaterScan scan = UnderwaterScan.scan(loans);
+        assertEquals(loans.size(), scan.size());
+        int underwater = 0;
+        for (int i = 0; i < loans.size(); i++) {
+            AutoLoan loan = loans.get(i);
+            assertEquals(loan.findUnderwaterMonth(), scan.getUnderwaterMonth(i));
+            assertEquals(loan.findRecoveryMonth(), scan.getRecoveryMonth(i));
+            assertEquals(scan.getUnderwaterMonth(i) >= 0, scan.isEverUnderwater(i));
+            underwater += scan.isEverUnderwater(i) ? 1 : 0;
+        }
+        assertEquals(underwater, scan.getUnderwaterCount());
+        assertTrue(underwater > 0 && underwater < loans.size());
+    }
+    
+    @Test
+    public void testEmptyPortfolio() {
+        UnderwaterScan scan = UnderwaterScan.scan(Collections.<AutoLoan>emptyList());
+        assertEquals(0, scan.size());
+        assertEquals(0, scan.getUnderwaterCount());
+    }
+}